@@ -0,0 +1,270 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * A processor that generates a companion accessor for each class that have fields annotated with {@code cufy.beans.Bean.Property}. The companion
+ * of a class is named as the binary name of that class followed by {@code $$BeanAccessor} and implements {@code cufy.beans.BeanAccessor}. It
+ * reads and writes the (non-private) fields of that class directly using a switch over the index of the property (primitive fields also get
+ * non-boxing accessor methods). The properties it can't access directly (private fields, final fields on write and inherited fields) are
+ * delegated to a {@code cufy.beans.BeanAccessor.HandleAccessor}.
+ * <br/>
+ * Anonymous classes, local classes and classes that have no directly accessible property get no companion.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+@SupportedAnnotationTypes(BeanProcessor.PROPERTY)
+public class BeanProcessor extends AbstractProcessor {
+	/**
+	 * The canonical name of the property annotation.
+	 */
+	static final String PROPERTY = "cufy.beans.Bean.Property";
+	/**
+	 * The suffix of the binary name of the companions.
+	 */
+	static final String SUFFIX = "$$BeanAccessor";
+
+	/**
+	 * The kinds of fields that get primitive (non-boxing) accessor methods.
+	 */
+	static final TypeKind[] PRIMITIVES = {TypeKind.INT, TypeKind.LONG, TypeKind.DOUBLE};
+
+	/**
+	 * The classes that already got a companion.
+	 */
+	private final Set<String> generated = new HashSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+		TypeElement annotation = this.processingEnv.getElementUtils().getTypeElement(PROPERTY);
+
+		if (annotation == null)
+			return false;
+
+		Map<TypeElement, List<VariableElement>> fields = new LinkedHashMap<>();
+
+		for (Element element : round.getElementsAnnotatedWith(annotation))
+			if (element.getKind() == ElementKind.FIELD) {
+				TypeElement type = (TypeElement) element.getEnclosingElement();
+
+				if (isReachable(type) && !element.getModifiers().contains(Modifier.PRIVATE))
+					fields.computeIfAbsent(type, k -> new ArrayList<>()).add((VariableElement) element);
+			}
+
+		for (Map.Entry<TypeElement, List<VariableElement>> entry : fields.entrySet())
+			if (this.generated.add(entry.getKey().getQualifiedName().toString()))
+				this.generate(entry.getKey(), entry.getValue());
+
+		return false;
+	}
+
+	/**
+	 * Determine if the given type can be referenced by a class at the same package.
+	 *
+	 * @param type the type to be checked
+	 * @return true, if the given type can be referenced from its package
+	 */
+	private static boolean isReachable(TypeElement type) {
+		for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+			NestingKind nesting = ((TypeElement) element).getNestingKind();
+
+			if (nesting == NestingKind.ANONYMOUS || nesting == NestingKind.LOCAL || element.getModifiers().contains(Modifier.PRIVATE))
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Generate the companion of the given type.
+	 *
+	 * @param type   the type to generate the companion for
+	 * @param fields the directly accessible fields of the given type
+	 */
+	private void generate(TypeElement type, List<VariableElement> fields) {
+		Elements elements = this.processingEnv.getElementUtils();
+		Types types = this.processingEnv.getTypeUtils();
+
+		String pkg = elements.getPackageOf(type).getQualifiedName().toString();
+		String binary = elements.getBinaryName(type).toString() + SUFFIX;
+		String name = pkg.isEmpty() ? binary : binary.substring(pkg.length() + 1);
+		String klass = types.erasure(type.asType()).toString();
+
+		try (PrintWriter out = new PrintWriter(this.processingEnv.getFiler().createSourceFile(binary, type).openWriter())) {
+			if (!pkg.isEmpty())
+				out.println("package " + pkg + ";");
+
+			out.println();
+			out.println("/**");
+			out.println(" * Generated accessor of {@link " + klass + "}.");
+			out.println(" */");
+			out.println("@SuppressWarnings(\"all\")");
+			out.println("public final class " + name + " implements cufy.beans.BeanAccessor {");
+			out.println("\tprivate final int[] cases;");
+			out.println("\tprivate final cufy.beans.BeanAccessor fallback;");
+			out.println();
+			out.println("\tpublic " + name + "(cufy.beans.BeanDescriptor descriptor) {");
+			out.println("\t\tjava.util.Objects.requireNonNull(descriptor, \"descriptor\");");
+			out.println("\t\tthis.cases = new int[descriptor.size()];");
+			out.println("\t\tthis.fallback = new cufy.beans.BeanAccessor.HandleAccessor(descriptor);");
+			out.println();
+			out.println("\t\tfor (int i = 0; i < this.cases.length; i++) {");
+			out.println("\t\t\tjava.lang.reflect.Field field = descriptor.getProperty(i).getField();");
+			out.println();
+			out.println("\t\t\tif (field.getDeclaringClass() == " + klass + ".class)");
+			out.println("\t\t\t\tswitch (field.getName()) {");
+			for (int i = 0; i < fields.size(); i++) {
+				out.println("\t\t\t\t\tcase \"" + fields.get(i).getSimpleName() + "\":");
+				out.println("\t\t\t\t\t\tthis.cases[i] = " + (i + 1) + ";");
+				out.println("\t\t\t\t\t\tbreak;");
+			}
+			out.println("\t\t\t\t}");
+			out.println("\t\t}");
+			out.println("\t}");
+			this.generateGet(out, klass, fields, "Object", "get", null);
+			this.generateSet(out, klass, fields, "Object", "set", null);
+
+			for (TypeKind kind : PRIMITIVES) {
+				String primitive = kind.name().toLowerCase(Locale.ROOT);
+				String suffix = Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+
+				for (VariableElement field : fields)
+					if (field.asType().getKind() == kind) {
+						this.generateGet(out, klass, fields, primitive, "get" + suffix, kind);
+						this.generateSet(out, klass, fields, primitive, "set" + suffix, kind);
+						break;
+					}
+			}
+
+			out.println("}");
+		} catch (IOException e) {
+			this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Can't generate " + binary + ": " + e, type);
+		}
+	}
+
+	/**
+	 * Generate a get method (a method that reads a property by its index) of a companion.
+	 *
+	 * @param out    the writer of the companion
+	 * @param klass  the canonical name of the class of the companion
+	 * @param fields the directly accessible fields of the class
+	 * @param type   the return type of the method
+	 * @param name   the name of the method
+	 * @param kind   the kind of the fields to be read directly by the method. Or null for all the fields
+	 */
+	private void generateGet(PrintWriter out, String klass, List<VariableElement> fields, String type, String name, TypeKind kind) {
+		out.println();
+		out.println("\t@Override");
+		out.println("\tpublic " + type + " " + name + "(Object instance, int index) {");
+		out.println("\t\tjava.util.Objects.requireNonNull(instance, \"instance\");");
+		out.println("\t\ttry {");
+		out.println("\t\t\tswitch (this.cases[index]) {");
+		for (int i = 0; i < fields.size(); i++) {
+			VariableElement field = fields.get(i);
+
+			if (kind != null && field.asType().getKind() != kind)
+				continue;
+
+			out.println("\t\t\t\tcase " + (i + 1) + ":");
+			out.println("\t\t\t\t\treturn " + access(klass, field) + ";");
+		}
+		out.println("\t\t\t\tdefault:");
+		out.println("\t\t\t\t\treturn this.fallback." + name + "(instance, index);");
+		out.println("\t\t\t}");
+		out.println("\t\t} catch (ClassCastException e) {");
+		out.println("\t\t\tthrow new IllegalArgumentException(instance + \" is not an instance of " + klass + "\", e);");
+		out.println("\t\t}");
+		out.println("\t}");
+	}
+
+	/**
+	 * Generate a set method (a method that writes a property by its index) of a companion.
+	 *
+	 * @param out    the writer of the companion
+	 * @param klass  the canonical name of the class of the companion
+	 * @param fields the directly accessible fields of the class
+	 * @param type   the type of the value parameter of the method
+	 * @param name   the name of the method
+	 * @param kind   the kind of the fields to be written directly by the method. Or null for all the fields
+	 */
+	private void generateSet(PrintWriter out, String klass, List<VariableElement> fields, String type, String name, TypeKind kind) {
+		Types types = this.processingEnv.getTypeUtils();
+
+		out.println();
+		out.println("\t@Override");
+		out.println("\tpublic void " + name + "(Object instance, int index, " + type + " value) {");
+		out.println("\t\tjava.util.Objects.requireNonNull(instance, \"instance\");");
+		out.println("\t\ttry {");
+		out.println("\t\t\tswitch (this.cases[index]) {");
+		for (int i = 0; i < fields.size(); i++) {
+			VariableElement field = fields.get(i);
+			TypeMirror mirror = field.asType();
+
+			if (field.getModifiers().contains(Modifier.FINAL) || kind != null && mirror.getKind() != kind)
+				continue;
+
+			String cast = kind != null ? "" : mirror.getKind().isPrimitive() ?
+											  "(" + types.boxedClass((PrimitiveType) mirror).getQualifiedName() + ") " :
+											  "(" + types.erasure(mirror) + ") ";
+
+			out.println("\t\t\t\tcase " + (i + 1) + ":");
+			out.println("\t\t\t\t\t" + access(klass, field) + " = " + cast + "value;");
+			out.println("\t\t\t\t\treturn;");
+		}
+		out.println("\t\t\t\tdefault:");
+		out.println("\t\t\t\t\tthis.fallback." + name + "(instance, index, value);");
+		out.println("\t\t\t}");
+		out.println("\t\t} catch (ClassCastException | NullPointerException e) {");
+		out.println("\t\t\tthrow new IllegalArgumentException(\"Can't set property \" + index + \" of " + klass + " to \" + value, e);");
+		out.println("\t\t}");
+		out.println("\t}");
+	}
+
+	/**
+	 * Get the expression that accesses the given field.
+	 *
+	 * @param klass the canonical name of the class declaring the field
+	 * @param field the field to be accessed
+	 * @return an expression accessing the given field on a variable named 'instance'
+	 */
+	private static String access(String klass, VariableElement field) {
+		return field.getModifiers().contains(Modifier.STATIC) ?
+			   klass + "." + field.getSimpleName() :
+			   "((" + klass + ") instance)." + field.getSimpleName();
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import jdk.jfr.*;
+
+/**
+ * The flight recorder events emitted by {@link BeanMetrics}. This class is compiled separately (for Java 11, at the {@code jfr} source set) and is
+ * loaded reflectively by {@link BeanMetrics} only if the runtime has JDK Flight Recorder. So the rest of the library stays compatible with Java 8.
+ *
+ * @author LSaferSE
+ * @version 2 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+final class BeanEvents {
+	/**
+	 * The type of the conversion events.
+	 */
+	private static final EventType CONVERSION = EventType.getEventType(Conversion.class);
+	/**
+	 * The type of the descriptor build events.
+	 */
+	private static final EventType DESCRIPTOR_BUILD = EventType.getEventType(DescriptorBuild.class);
+
+	/**
+	 * This is an util class and must not be instanced as an object.
+	 *
+	 * @throws AssertionError when called
+	 */
+	private BeanEvents() {
+		throw new AssertionError("No instance for you!");
+	}
+
+	/**
+	 * Emit a slow conversion event.
+	 *
+	 * @param klass    the class of the property
+	 * @param property the key of the property
+	 * @param time     the time of the conversion in nanoseconds
+	 */
+	static void convert(Class<?> klass, String property, long time) {
+		Conversion event = new Conversion();
+
+		if (event.isEnabled()) {
+			event.beanClass = klass;
+			event.property = property;
+			event.time = time;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Determine if any of the events is enabled (by a running recording).
+	 *
+	 * @return true, if any of the events is enabled
+	 */
+	static boolean isEnabled() {
+		return CONVERSION.isEnabled() || DESCRIPTOR_BUILD.isEnabled();
+	}
+
+	/**
+	 * Register a flight recorder listener that tells {@link BeanMetrics} whether any of the events is enabled. Now and whenever a recording starts or
+	 * stops. (So that {@link BeanMetrics} does not ask the event types on each operation)
+	 */
+	static void listen() {
+		FlightRecorder.addListener(new FlightRecorderListener() {
+			@Override
+			public void recordingStateChanged(Recording recording) {
+				BeanMetrics.setEvents(BeanEvents.isEnabled());
+			}
+		});
+		BeanMetrics.setEvents(BeanEvents.isEnabled());
+	}
+
+	/**
+	 * Emit a descriptor build event.
+	 *
+	 * @param klass      the described class
+	 * @param properties the number of the properties of the descriptor
+	 * @param time       the time of the build in nanoseconds
+	 */
+	static void describe(Class<?> klass, int properties, long time) {
+		DescriptorBuild event = new DescriptorBuild();
+
+		if (event.isEnabled()) {
+			event.beanClass = klass;
+			event.properties = properties;
+			event.time = time;
+			event.commit();
+		}
+	}
+
+	/**
+	 * A conversion of a value before being set to a property that took at least the {@link BeanMetrics#getSlowThreshold() slow threshold}.
+	 */
+	@Name("cufy.beans.Conversion")
+	@Label("Slow Bean Conversion")
+	@Category("Cufy Beans")
+	static final class Conversion extends Event {
+		/**
+		 * The class of the property.
+		 */
+		@Label("Bean Class")
+		Class<?> beanClass;
+		/**
+		 * The key of the property.
+		 */
+		@Label("Property")
+		String property;
+		/**
+		 * The time of the conversion.
+		 */
+		@Label("Time")
+		@Timespan(Timespan.NANOSECONDS)
+		long time;
+	}
+
+	/**
+	 * A build of the descriptor of a class.
+	 */
+	@Name("cufy.beans.DescriptorBuild")
+	@Label("Bean Descriptor Build")
+	@Category("Cufy Beans")
+	static final class DescriptorBuild extends Event {
+		/**
+		 * The described class.
+		 */
+		@Label("Bean Class")
+		Class<?> beanClass;
+		/**
+		 * The number of the properties of the descriptor.
+		 */
+		@Label("Properties")
+		int properties;
+		/**
+		 * The time of the build.
+		 */
+		@Label("Time")
+		@Timespan(Timespan.NANOSECONDS)
+		long time;
+	}
+}
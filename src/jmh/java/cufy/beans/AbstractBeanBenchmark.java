@@ -0,0 +1,82 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the serialization and the {@link AbstractBean#toString()} of full beans with 5, 50 and 500 properties. Run with the gc profiler
+ * (see the {@code jmh} task) to measure the allocations of each operation.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AbstractBeanBenchmark {
+	/**
+	 * The number of properties of the measured bean.
+	 */
+	@Param({"5", "50", "500"})
+	public int size;
+
+	/**
+	 * The measured bean.
+	 */
+	private AbstractBean<Object, Object> bean;
+	/**
+	 * The serialized form of the measured bean.
+	 */
+	private byte[] serialized;
+
+	@Setup
+	public void setup() throws IOException {
+		this.bean = Shapes.full(this.size);
+		this.bean.put("extra", "value");
+		this.serialized = this.serialize();
+	}
+
+	@Benchmark
+	public Object deserialize() throws IOException, ClassNotFoundException {
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(this.serialized))) {
+			return input.readObject();
+		}
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(this.bean);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	@Benchmark
+	public String beanToString() {
+		return this.bean.toString();
+	}
+}
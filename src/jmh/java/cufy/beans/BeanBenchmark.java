@@ -0,0 +1,130 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the single key operations of field-only beans ({@link Bean}) and full beans ({@link AbstractBean}) with 5, 50 and 500 properties.
+ * And of wrapping instances using {@link Bean#forInstance(Object)}. Run with the gc profiler (see the {@code jmh} task) to measure the allocations
+ * of each operation.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeanBenchmark {
+	/**
+	 * The number of properties of the measured beans.
+	 */
+	@Param({"5", "50", "500"})
+	public int size;
+
+	/**
+	 * The measured field-only bean.
+	 */
+	private Bean<Object, Object> bean;
+	/**
+	 * The measured full bean.
+	 */
+	private AbstractBean<Object, Object> full;
+	/**
+	 * The key of the middle property.
+	 */
+	private Object key;
+	/**
+	 * A key that has no property.
+	 */
+	private Object missing;
+	/**
+	 * The next value to be put.
+	 */
+	private int value;
+
+	@Setup
+	public void setup() {
+		this.bean = Shapes.bean(this.size);
+		this.full = Shapes.full(this.size);
+		this.key = "p" + this.size / 2;
+		this.missing = "missing";
+	}
+
+	@Benchmark
+	public boolean beanContainsKey() {
+		return this.bean.containsKey(this.key);
+	}
+
+	@Benchmark
+	public boolean beanContainsMissingKey() {
+		return this.bean.containsKey(this.missing);
+	}
+
+	@Benchmark
+	public Object beanGet() {
+		return this.bean.get(this.key);
+	}
+
+	@Benchmark
+	public Object beanPut() {
+		return this.bean.put(this.key, this.value++);
+	}
+
+	@Benchmark
+	public int beanSize() {
+		return this.bean.size();
+	}
+
+	@Benchmark
+	public Object forInstance() {
+		return Bean.forInstance(this.bean).get(this.key);
+	}
+
+	@Benchmark
+	public boolean fullContainsKey() {
+		return this.full.containsKey(this.key);
+	}
+
+	@Benchmark
+	public Object fullGet() {
+		return this.full.get(this.key);
+	}
+
+	@Benchmark
+	public void fullIterate(Blackhole blackhole) {
+		for (Map.Entry<Object, Object> entry : this.full.entrySet())
+			blackhole.consume(entry.getValue());
+	}
+
+	@Benchmark
+	public Object fullPut() {
+		return this.full.put(this.key, this.value++);
+	}
+
+	@Benchmark
+	public int fullSize() {
+		return this.full.size();
+	}
+}
@@ -0,0 +1,335 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+/**
+ * The beans measured by the benchmarks. A field-only bean and a full bean for each size (5, 50 and 500 properties). The properties are named
+ * {@code p0} to {@code p<size - 1>}.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+final class Shapes {
+	/**
+	 * This is an util class and must not be instanced as an object.
+	 *
+	 * @throws AssertionError when called
+	 */
+	private Shapes() {
+		throw new AssertionError("No instance for you!");
+	}
+
+	/**
+	 * Get a new field-only bean with the given number of properties.
+	 *
+	 * @param size the number of properties (5, 50 or 500)
+	 * @return a new field-only bean with the given number of properties
+	 * @throws IllegalArgumentException if there is no bean with the given number of properties
+	 */
+	static Bean<Object, Object> bean(int size) {
+		switch (size) {
+			case 5:
+				return new Bean5();
+			case 50:
+				return new Bean50();
+			case 500:
+				return new Bean500();
+			default:
+				throw new IllegalArgumentException("size: " + size);
+		}
+	}
+
+	/**
+	 * Get a new full bean with the given number of properties.
+	 *
+	 * @param size the number of properties (5, 50 or 500)
+	 * @return a new full bean with the given number of properties
+	 * @throws IllegalArgumentException if there is no bean with the given number of properties
+	 */
+	static AbstractBean<Object, Object> full(int size) {
+		switch (size) {
+			case 5:
+				return new Full5();
+			case 50:
+				return new Full50();
+			case 500:
+				return new Full500();
+			default:
+				throw new IllegalArgumentException("size: " + size);
+		}
+	}
+
+	/**
+	 * A field-only bean with 5 properties.
+	 */
+	static final class Bean5 implements Bean<Object, Object> {
+		@Bean.Property
+		int p0, p1, p2, p3, p4;
+	}
+
+	/**
+	 * A field-only bean with 50 properties.
+	 */
+	static final class Bean50 implements Bean<Object, Object> {
+		@Bean.Property
+		int p0, p1, p2, p3, p4, p5, p6, p7, p8, p9;
+		@Bean.Property
+		int p10, p11, p12, p13, p14, p15, p16, p17, p18, p19;
+		@Bean.Property
+		int p20, p21, p22, p23, p24, p25, p26, p27, p28, p29;
+		@Bean.Property
+		int p30, p31, p32, p33, p34, p35, p36, p37, p38, p39;
+		@Bean.Property
+		int p40, p41, p42, p43, p44, p45, p46, p47, p48, p49;
+	}
+
+	/**
+	 * A field-only bean with 500 properties.
+	 */
+	static final class Bean500 implements Bean<Object, Object> {
+		@Bean.Property
+		int p0, p1, p2, p3, p4, p5, p6, p7, p8, p9;
+		@Bean.Property
+		int p10, p11, p12, p13, p14, p15, p16, p17, p18, p19;
+		@Bean.Property
+		int p20, p21, p22, p23, p24, p25, p26, p27, p28, p29;
+		@Bean.Property
+		int p30, p31, p32, p33, p34, p35, p36, p37, p38, p39;
+		@Bean.Property
+		int p40, p41, p42, p43, p44, p45, p46, p47, p48, p49;
+		@Bean.Property
+		int p50, p51, p52, p53, p54, p55, p56, p57, p58, p59;
+		@Bean.Property
+		int p60, p61, p62, p63, p64, p65, p66, p67, p68, p69;
+		@Bean.Property
+		int p70, p71, p72, p73, p74, p75, p76, p77, p78, p79;
+		@Bean.Property
+		int p80, p81, p82, p83, p84, p85, p86, p87, p88, p89;
+		@Bean.Property
+		int p90, p91, p92, p93, p94, p95, p96, p97, p98, p99;
+		@Bean.Property
+		int p100, p101, p102, p103, p104, p105, p106, p107, p108, p109;
+		@Bean.Property
+		int p110, p111, p112, p113, p114, p115, p116, p117, p118, p119;
+		@Bean.Property
+		int p120, p121, p122, p123, p124, p125, p126, p127, p128, p129;
+		@Bean.Property
+		int p130, p131, p132, p133, p134, p135, p136, p137, p138, p139;
+		@Bean.Property
+		int p140, p141, p142, p143, p144, p145, p146, p147, p148, p149;
+		@Bean.Property
+		int p150, p151, p152, p153, p154, p155, p156, p157, p158, p159;
+		@Bean.Property
+		int p160, p161, p162, p163, p164, p165, p166, p167, p168, p169;
+		@Bean.Property
+		int p170, p171, p172, p173, p174, p175, p176, p177, p178, p179;
+		@Bean.Property
+		int p180, p181, p182, p183, p184, p185, p186, p187, p188, p189;
+		@Bean.Property
+		int p190, p191, p192, p193, p194, p195, p196, p197, p198, p199;
+		@Bean.Property
+		int p200, p201, p202, p203, p204, p205, p206, p207, p208, p209;
+		@Bean.Property
+		int p210, p211, p212, p213, p214, p215, p216, p217, p218, p219;
+		@Bean.Property
+		int p220, p221, p222, p223, p224, p225, p226, p227, p228, p229;
+		@Bean.Property
+		int p230, p231, p232, p233, p234, p235, p236, p237, p238, p239;
+		@Bean.Property
+		int p240, p241, p242, p243, p244, p245, p246, p247, p248, p249;
+		@Bean.Property
+		int p250, p251, p252, p253, p254, p255, p256, p257, p258, p259;
+		@Bean.Property
+		int p260, p261, p262, p263, p264, p265, p266, p267, p268, p269;
+		@Bean.Property
+		int p270, p271, p272, p273, p274, p275, p276, p277, p278, p279;
+		@Bean.Property
+		int p280, p281, p282, p283, p284, p285, p286, p287, p288, p289;
+		@Bean.Property
+		int p290, p291, p292, p293, p294, p295, p296, p297, p298, p299;
+		@Bean.Property
+		int p300, p301, p302, p303, p304, p305, p306, p307, p308, p309;
+		@Bean.Property
+		int p310, p311, p312, p313, p314, p315, p316, p317, p318, p319;
+		@Bean.Property
+		int p320, p321, p322, p323, p324, p325, p326, p327, p328, p329;
+		@Bean.Property
+		int p330, p331, p332, p333, p334, p335, p336, p337, p338, p339;
+		@Bean.Property
+		int p340, p341, p342, p343, p344, p345, p346, p347, p348, p349;
+		@Bean.Property
+		int p350, p351, p352, p353, p354, p355, p356, p357, p358, p359;
+		@Bean.Property
+		int p360, p361, p362, p363, p364, p365, p366, p367, p368, p369;
+		@Bean.Property
+		int p370, p371, p372, p373, p374, p375, p376, p377, p378, p379;
+		@Bean.Property
+		int p380, p381, p382, p383, p384, p385, p386, p387, p388, p389;
+		@Bean.Property
+		int p390, p391, p392, p393, p394, p395, p396, p397, p398, p399;
+		@Bean.Property
+		int p400, p401, p402, p403, p404, p405, p406, p407, p408, p409;
+		@Bean.Property
+		int p410, p411, p412, p413, p414, p415, p416, p417, p418, p419;
+		@Bean.Property
+		int p420, p421, p422, p423, p424, p425, p426, p427, p428, p429;
+		@Bean.Property
+		int p430, p431, p432, p433, p434, p435, p436, p437, p438, p439;
+		@Bean.Property
+		int p440, p441, p442, p443, p444, p445, p446, p447, p448, p449;
+		@Bean.Property
+		int p450, p451, p452, p453, p454, p455, p456, p457, p458, p459;
+		@Bean.Property
+		int p460, p461, p462, p463, p464, p465, p466, p467, p468, p469;
+		@Bean.Property
+		int p470, p471, p472, p473, p474, p475, p476, p477, p478, p479;
+		@Bean.Property
+		int p480, p481, p482, p483, p484, p485, p486, p487, p488, p489;
+		@Bean.Property
+		int p490, p491, p492, p493, p494, p495, p496, p497, p498, p499;
+	}
+
+	/**
+	 * A full bean with 5 properties.
+	 */
+	static final class Full5 extends AbstractBean<Object, Object> {
+		@Bean.Property
+		int p0, p1, p2, p3, p4;
+	}
+
+	/**
+	 * A full bean with 50 properties.
+	 */
+	static final class Full50 extends AbstractBean<Object, Object> {
+		@Bean.Property
+		int p0, p1, p2, p3, p4, p5, p6, p7, p8, p9;
+		@Bean.Property
+		int p10, p11, p12, p13, p14, p15, p16, p17, p18, p19;
+		@Bean.Property
+		int p20, p21, p22, p23, p24, p25, p26, p27, p28, p29;
+		@Bean.Property
+		int p30, p31, p32, p33, p34, p35, p36, p37, p38, p39;
+		@Bean.Property
+		int p40, p41, p42, p43, p44, p45, p46, p47, p48, p49;
+	}
+
+	/**
+	 * A full bean with 500 properties.
+	 */
+	static final class Full500 extends AbstractBean<Object, Object> {
+		@Bean.Property
+		int p0, p1, p2, p3, p4, p5, p6, p7, p8, p9;
+		@Bean.Property
+		int p10, p11, p12, p13, p14, p15, p16, p17, p18, p19;
+		@Bean.Property
+		int p20, p21, p22, p23, p24, p25, p26, p27, p28, p29;
+		@Bean.Property
+		int p30, p31, p32, p33, p34, p35, p36, p37, p38, p39;
+		@Bean.Property
+		int p40, p41, p42, p43, p44, p45, p46, p47, p48, p49;
+		@Bean.Property
+		int p50, p51, p52, p53, p54, p55, p56, p57, p58, p59;
+		@Bean.Property
+		int p60, p61, p62, p63, p64, p65, p66, p67, p68, p69;
+		@Bean.Property
+		int p70, p71, p72, p73, p74, p75, p76, p77, p78, p79;
+		@Bean.Property
+		int p80, p81, p82, p83, p84, p85, p86, p87, p88, p89;
+		@Bean.Property
+		int p90, p91, p92, p93, p94, p95, p96, p97, p98, p99;
+		@Bean.Property
+		int p100, p101, p102, p103, p104, p105, p106, p107, p108, p109;
+		@Bean.Property
+		int p110, p111, p112, p113, p114, p115, p116, p117, p118, p119;
+		@Bean.Property
+		int p120, p121, p122, p123, p124, p125, p126, p127, p128, p129;
+		@Bean.Property
+		int p130, p131, p132, p133, p134, p135, p136, p137, p138, p139;
+		@Bean.Property
+		int p140, p141, p142, p143, p144, p145, p146, p147, p148, p149;
+		@Bean.Property
+		int p150, p151, p152, p153, p154, p155, p156, p157, p158, p159;
+		@Bean.Property
+		int p160, p161, p162, p163, p164, p165, p166, p167, p168, p169;
+		@Bean.Property
+		int p170, p171, p172, p173, p174, p175, p176, p177, p178, p179;
+		@Bean.Property
+		int p180, p181, p182, p183, p184, p185, p186, p187, p188, p189;
+		@Bean.Property
+		int p190, p191, p192, p193, p194, p195, p196, p197, p198, p199;
+		@Bean.Property
+		int p200, p201, p202, p203, p204, p205, p206, p207, p208, p209;
+		@Bean.Property
+		int p210, p211, p212, p213, p214, p215, p216, p217, p218, p219;
+		@Bean.Property
+		int p220, p221, p222, p223, p224, p225, p226, p227, p228, p229;
+		@Bean.Property
+		int p230, p231, p232, p233, p234, p235, p236, p237, p238, p239;
+		@Bean.Property
+		int p240, p241, p242, p243, p244, p245, p246, p247, p248, p249;
+		@Bean.Property
+		int p250, p251, p252, p253, p254, p255, p256, p257, p258, p259;
+		@Bean.Property
+		int p260, p261, p262, p263, p264, p265, p266, p267, p268, p269;
+		@Bean.Property
+		int p270, p271, p272, p273, p274, p275, p276, p277, p278, p279;
+		@Bean.Property
+		int p280, p281, p282, p283, p284, p285, p286, p287, p288, p289;
+		@Bean.Property
+		int p290, p291, p292, p293, p294, p295, p296, p297, p298, p299;
+		@Bean.Property
+		int p300, p301, p302, p303, p304, p305, p306, p307, p308, p309;
+		@Bean.Property
+		int p310, p311, p312, p313, p314, p315, p316, p317, p318, p319;
+		@Bean.Property
+		int p320, p321, p322, p323, p324, p325, p326, p327, p328, p329;
+		@Bean.Property
+		int p330, p331, p332, p333, p334, p335, p336, p337, p338, p339;
+		@Bean.Property
+		int p340, p341, p342, p343, p344, p345, p346, p347, p348, p349;
+		@Bean.Property
+		int p350, p351, p352, p353, p354, p355, p356, p357, p358, p359;
+		@Bean.Property
+		int p360, p361, p362, p363, p364, p365, p366, p367, p368, p369;
+		@Bean.Property
+		int p370, p371, p372, p373, p374, p375, p376, p377, p378, p379;
+		@Bean.Property
+		int p380, p381, p382, p383, p384, p385, p386, p387, p388, p389;
+		@Bean.Property
+		int p390, p391, p392, p393, p394, p395, p396, p397, p398, p399;
+		@Bean.Property
+		int p400, p401, p402, p403, p404, p405, p406, p407, p408, p409;
+		@Bean.Property
+		int p410, p411, p412, p413, p414, p415, p416, p417, p418, p419;
+		@Bean.Property
+		int p420, p421, p422, p423, p424, p425, p426, p427, p428, p429;
+		@Bean.Property
+		int p430, p431, p432, p433, p434, p435, p436, p437, p438, p439;
+		@Bean.Property
+		int p440, p441, p442, p443, p444, p445, p446, p447, p448, p449;
+		@Bean.Property
+		int p450, p451, p452, p453, p454, p455, p456, p457, p458, p459;
+		@Bean.Property
+		int p460, p461, p462, p463, p464, p465, p466, p467, p468, p469;
+		@Bean.Property
+		int p470, p471, p472, p473, p474, p475, p476, p477, p478, p479;
+		@Bean.Property
+		int p480, p481, p482, p483, p484, p485, p486, p487, p488, p489;
+		@Bean.Property
+		int p490, p491, p492, p493, p494, p495, p496, p497, p498, p499;
+	}
+}
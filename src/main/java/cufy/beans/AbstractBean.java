@@ -15,14 +15,17 @@
  */
 package cufy.beans;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.io.Serializable;
+import java.io.*;
 import java.util.*;
 
 /**
- * An abstraction for the interface {@link Bean}.
+ * An abstraction for the interface {@link Bean}. If the entry set of the bean is a {@link BeanEntrySet}, The single key operations ({@link
+ * #containsKey}, {@link #get}, {@link #put} and {@link #remove}) will look up the keys using the entry set instead of iterating over it. And this
+ * will be serialized using the indexes of the properties instead of their keys. (The annotated fields can be transient, Since their values are
+ * written by this)
+ * <br/>
+ * The changes of this can be tracked (opt-in using {@link #setTracking(boolean)}) and then written incrementally using {@link
+ * #writeDirtyTo(ObjectOutput)}.
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
@@ -31,6 +34,11 @@ import java.util.*;
  * @since 11 Jun 2019
  **/
 public abstract class AbstractBean<K, V> implements FullBean<K, V>, Serializable {
+	/**
+	 * Written instead of the size when this is serialized using {@link BeanEntrySet#writeTo(ObjectOutput)}.
+	 */
+	private static final int SCHEMA = -1;
+
 	/**
 	 * A set of the entries of this.
 	 */
@@ -44,6 +52,228 @@ public abstract class AbstractBean<K, V> implements FullBean<K, V>, Serializable
 	 */
 	protected transient Collection<V> values;
 
+	@Override
+	public boolean containsKey(Object key) {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+		return entrySet instanceof BeanEntrySet ? ((BeanEntrySet<K, V>) entrySet).containsKey(key) : FullBean.super.containsKey(key);
+	}
+
+	@Override
+	public V get(Object key) {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+		return entrySet instanceof BeanEntrySet ? ((BeanEntrySet<K, V>) entrySet).getValue(key) : FullBean.super.get(key);
+	}
+
+	@Override
+	public V put(K key, V value) {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+		return entrySet instanceof BeanEntrySet ? ((BeanEntrySet<K, V>) entrySet).putValue(key, value) : FullBean.super.put(key, value);
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		Objects.requireNonNull(map, "map");
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (entrySet instanceof BeanEntrySet) {
+			BeanEntrySet<K, V> beanEntrySet = (BeanEntrySet<K, V>) entrySet;
+
+			for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+				beanEntrySet.putValue(entry.getKey(), entry.getValue());
+			return;
+		}
+
+		FullBean.super.putAll(map);
+	}
+
+	@Override
+	public V remove(Object key) {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (entrySet instanceof BeanEntrySet) {
+			Map.Entry<K, V> entry = ((BeanEntrySet<K, V>) entrySet).removeEntry(key);
+			return entry == null ? null : entry.getValue();
+		}
+
+		return FullBean.super.remove(key);
+	}
+
+	@Override
+	public int getInt(K key) {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (entrySet instanceof BeanEntrySet) {
+			BeanEntrySet<K, V> beanEntrySet = (BeanEntrySet<K, V>) entrySet;
+			BeanDescriptor.PropertyDescriptor property = beanEntrySet.getProperty(key);
+
+			if (property != null)
+				return property.getInt(beanEntrySet.instance);
+		}
+
+		return FullBean.super.getInt(key);
+	}
+
+	@Override
+	public void setInt(K key, int value) {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (entrySet instanceof BeanEntrySet) {
+			BeanEntrySet<K, V> beanEntrySet = (BeanEntrySet<K, V>) entrySet;
+			BeanDescriptor.PropertyDescriptor property = beanEntrySet.getProperty(key);
+
+			if (property != null) {
+				property.setInt(beanEntrySet.instance, value);
+				beanEntrySet.mark(property.index);
+				return;
+			}
+		}
+
+		FullBean.super.setInt(key, value);
+	}
+
+	@Override
+	public long getLong(K key) {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (entrySet instanceof BeanEntrySet) {
+			BeanEntrySet<K, V> beanEntrySet = (BeanEntrySet<K, V>) entrySet;
+			BeanDescriptor.PropertyDescriptor property = beanEntrySet.getProperty(key);
+
+			if (property != null)
+				return property.getLong(beanEntrySet.instance);
+		}
+
+		return FullBean.super.getLong(key);
+	}
+
+	@Override
+	public void setLong(K key, long value) {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (entrySet instanceof BeanEntrySet) {
+			BeanEntrySet<K, V> beanEntrySet = (BeanEntrySet<K, V>) entrySet;
+			BeanDescriptor.PropertyDescriptor property = beanEntrySet.getProperty(key);
+
+			if (property != null) {
+				property.setLong(beanEntrySet.instance, value);
+				beanEntrySet.mark(property.index);
+				return;
+			}
+		}
+
+		FullBean.super.setLong(key, value);
+	}
+
+	@Override
+	public double getDouble(K key) {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (entrySet instanceof BeanEntrySet) {
+			BeanEntrySet<K, V> beanEntrySet = (BeanEntrySet<K, V>) entrySet;
+			BeanDescriptor.PropertyDescriptor property = beanEntrySet.getProperty(key);
+
+			if (property != null)
+				return property.getDouble(beanEntrySet.instance);
+		}
+
+		return FullBean.super.getDouble(key);
+	}
+
+	@Override
+	public void setDouble(K key, double value) {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (entrySet instanceof BeanEntrySet) {
+			BeanEntrySet<K, V> beanEntrySet = (BeanEntrySet<K, V>) entrySet;
+			BeanDescriptor.PropertyDescriptor property = beanEntrySet.getProperty(key);
+
+			if (property != null) {
+				property.setDouble(beanEntrySet.instance, value);
+				beanEntrySet.mark(property.index);
+				return;
+			}
+		}
+
+		FullBean.super.setDouble(key, value);
+	}
+
+	/**
+	 * Forget the changes tracked so far. (Does nothing if the changes of this are not tracked)
+	 *
+	 * @see BeanEntrySet#clearDirty()
+	 */
+	public void clearDirty() {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (entrySet instanceof BeanEntrySet)
+			((BeanEntrySet<K, V>) entrySet).clearDirty();
+	}
+
+	/**
+	 * Get the keys of the entries of this that have been changed since the changes started to be tracked (or since the last {@link #clearDirty()}).
+	 *
+	 * @return a new set of the keys of the changed entries. Or an empty set if the changes of this are not tracked
+	 * @see BeanEntrySet#getDirtyKeys()
+	 */
+	public Set<K> getDirtyKeys() {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+		return entrySet instanceof BeanEntrySet ? ((BeanEntrySet<K, V>) entrySet).getDirtyKeys() : new HashSet<>();
+	}
+
+	/**
+	 * Start or stop tracking the changes of this. The changes are tracked only if the entry set of this is a {@link BeanEntrySet}.
+	 *
+	 * @param tracking true, to track the changes of this
+	 * @throws UnsupportedOperationException if the entry set of this is not a {@link BeanEntrySet}
+	 * @see BeanEntrySet#setTracking(boolean)
+	 */
+	public void setTracking(boolean tracking) {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (!(entrySet instanceof BeanEntrySet))
+			throw new UnsupportedOperationException("setTracking");
+
+		((BeanEntrySet<K, V>) entrySet).setTracking(tracking);
+	}
+
+	/**
+	 * Write only the changes of this to the given output.
+	 *
+	 * @param output the output to write to
+	 * @throws NullPointerException          if the given 'output' is null
+	 * @throws IllegalStateException         if the changes of this are not tracked
+	 * @throws UnsupportedOperationException if the entry set of this is not a {@link BeanEntrySet}
+	 * @throws IOException                   if an I/O error occurs
+	 * @see BeanEntrySet#writeDirtyTo(ObjectOutput)
+	 */
+	public void writeDirtyTo(ObjectOutput output) throws IOException {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (!(entrySet instanceof BeanEntrySet))
+			throw new UnsupportedOperationException("writeDirtyTo");
+
+		((BeanEntrySet<K, V>) entrySet).writeDirtyTo(output);
+	}
+
+	/**
+	 * Apply the changes written by {@link #writeDirtyTo(ObjectOutput)} to this.
+	 *
+	 * @param input the input to read from
+	 * @throws NullPointerException          if the given 'input' is null
+	 * @throws UnsupportedOperationException if the entry set of this is not a {@link BeanEntrySet}
+	 * @throws IOException                   if an I/O error occurs
+	 * @throws ClassNotFoundException        if the class of a serialized object could not be found
+	 * @see BeanEntrySet#readDirtyFrom(ObjectInput)
+	 */
+	public void readDirtyFrom(ObjectInput input) throws IOException, ClassNotFoundException {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (!(entrySet instanceof BeanEntrySet))
+			throw new UnsupportedOperationException("readDirtyFrom");
+
+		((BeanEntrySet<K, V>) entrySet).readDirtyFrom(input);
+	}
+
 	@Override
 	public Set<K> keySet() {
 		if (this.keySet == null) {
@@ -109,12 +339,26 @@ public abstract class AbstractBean<K, V> implements FullBean<K, V>, Serializable
 		Objects.requireNonNull(stream, "stream");
 
 		int length = stream.readInt();
+
+		if (length == SCHEMA) {
+			Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+			if (!(entrySet instanceof BeanEntrySet))
+				throw new InvalidObjectException("Schema encoded bean with no bean entry set");
+
+			((BeanEntrySet<K, V>) entrySet).readFrom(stream);
+			return;
+		}
+		if (length < 0)
+			throw new InvalidObjectException("Negative size: " + length);
+
 		for (int i = 0; i < length; i++)
 			this.put((K) stream.readObject(), (V) stream.readObject());
 	}
 
 	/**
-	 * Serialization method.
+	 * Serialization method. If the entry set of this is a {@link BeanEntrySet}, Then it will be written using {@link
+	 * BeanEntrySet#writeTo(ObjectOutput)}. Otherwise, the size of this then the key and the value of each entry will be written.
 	 *
 	 * @param stream to use to serialize this
 	 * @throws IOException          if an I/O error occurs
@@ -122,9 +366,16 @@ public abstract class AbstractBean<K, V> implements FullBean<K, V>, Serializable
 	 */
 	private void writeObject(ObjectOutputStream stream) throws IOException {
 		Objects.requireNonNull(stream, "stream");
+		Set<Map.Entry<K, V>> entrySet = this.entrySet();
+
+		if (entrySet instanceof BeanEntrySet) {
+			stream.writeInt(SCHEMA);
+			((BeanEntrySet<K, V>) entrySet).writeTo(stream);
+			return;
+		}
 
 		stream.writeInt(this.size());
-		for (Entry<K, V> entry : this.entrySet()) {
+		for (Entry<K, V> entry : entrySet) {
 			stream.writeObject(entry.getKey());
 			stream.writeObject(entry.getValue());
 		}
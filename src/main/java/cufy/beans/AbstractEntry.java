@@ -0,0 +1,59 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The base of the entries that view a slot of a map (reading and writing it on each call). Implements {@link #equals(Object)}, {@link #hashCode()}
+ * and {@link #toString()} as specified by {@link Map.Entry} using {@link #getKey()} and {@link #getValue()}. Read-only unless {@link
+ * #setValue(Object)} is overridden.
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+abstract class AbstractEntry<K, V> implements Map.Entry<K, V> {
+	@Override
+	public V setValue(V value) {
+		throw new UnsupportedOperationException("setValue");
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hashCode(this.getKey()) ^ Objects.hashCode(this.getValue());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		} else if (o instanceof Map.Entry) {
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+			return Objects.equals(this.getKey(), entry.getKey()) && Objects.equals(this.getValue(), entry.getValue());
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return this.getKey() + "=" + this.getValue();
+	}
+}
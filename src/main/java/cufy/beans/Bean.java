@@ -21,7 +21,6 @@ import cufy.lang.Clazz;
 import cufy.meta.MetaClazz;
 import cufy.meta.MetaObject;
 import cufy.meta.MetaReference;
-import cufy.util.Reflect$;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -76,61 +75,132 @@ public interface Bean<K, V> extends Map<K, V> {
 
 	@Override
 	default int size() {
-		Set<K> keys = new HashSet<>();
-
-		for (Field field : Reflect$.getAllFields(this.getClass()))
-			if (field.isAnnotationPresent(Property.class))
-				keys.add(FieldEntry.getKey(field));
-
-		return keys.size();
+		return BeanDescriptor.of(this.getClass()).size();
 	}
 
 	@Override
 	default boolean isEmpty() {
-		for (Field field : Reflect$.getAllFields(this.getClass()))
-			if (field.isAnnotationPresent(Property.class))
-				return false;
-
-		return true;
+		return BeanDescriptor.of(this.getClass()).size() == 0;
 	}
 
 	@Override
 	default boolean containsKey(Object key) {
-		for (Field field : Reflect$.getAllFields(this.getClass()))
-			if (field.isAnnotationPresent(Property.class) && Objects.equals(key, FieldEntry.getKey(field)))
-				return true;
-
-		return false;
+		return BeanDescriptor.of(this.getClass()).getProperty(key) != null;
 	}
 
 	@Override
 	default boolean containsValue(Object value) {
-		Set<K> keys = new HashSet<>();
-
-		for (Field field : Reflect$.getAllFields(this.getClass()))
-			if (field.isAnnotationPresent(Property.class) && keys.add(FieldEntry.getKey(field)))
-				if (Objects.equals(value, FieldEntry.getValue(field, this)))
-					return true;
+		for (BeanDescriptor.PropertyDescriptor property : BeanDescriptor.of(this.getClass()).getProperties())
+			if (Objects.equals(value, property.get(this)))
+				return true;
 
 		return false;
 	}
 
 	@Override
 	default V get(Object key) {
-		for (Field field : Reflect$.getAllFields(this.getClass()))
-			if (field.isAnnotationPresent(Property.class) && Objects.equals(key, FieldEntry.getKey(field)))
-				return (V) FieldEntry.getValue(field, this);
-
-		return null;
+		BeanDescriptor.PropertyDescriptor property = BeanDescriptor.of(this.getClass()).getProperty(key);
+		return property == null ? null : (V) property.get(this);
 	}
 
 	@Override
 	default V put(K key, V value) {
-		for (Field field : Reflect$.getAllFields(this.getClass()))
-			if (field.isAnnotationPresent(Property.class) && Objects.equals(key, FieldEntry.getKey(field)))
-				return FieldEntry.setValue(field, this, value);
+		BeanDescriptor.PropertyDescriptor property = BeanDescriptor.of(this.getClass()).getProperty(key);
+
+		if (property == null)
+			throw new UnsupportedOperationException("Can't store the key: " + key);
+
+		return (V) property.set(this, value);
+	}
+
+	/**
+	 * Get the value of the given key as {@code int}. If the key is of a {@code int} field, Then the field will be read without boxing.
+	 *
+	 * @param key the key of the value
+	 * @return the value of the given key
+	 * @throws NullPointerException if the value of the given key is null (or if this has no such key)
+	 * @throws ClassCastException   if the value of the given key is not a number
+	 */
+	default int getInt(K key) {
+		BeanDescriptor.PropertyDescriptor property = BeanDescriptor.of(this.getClass()).getProperty(key);
+		return property == null ? ((Number) this.get(key)).intValue() : property.getInt(this);
+	}
+
+	/**
+	 * Set the value of the given key to the given {@code int} value. If the key is of a {@code int} field (and the type of its property have
+	 * not been overridden). Then the field will be written without boxing and without converting the value.
+	 *
+	 * @param key   the key of the value
+	 * @param value the value to be set
+	 * @throws UnsupportedOperationException if this can't store the given key
+	 */
+	default void setInt(K key, int value) {
+		BeanDescriptor.PropertyDescriptor property = BeanDescriptor.of(this.getClass()).getProperty(key);
+
+		if (property == null)
+			this.put(key, (V) (Object) value);
+		else
+			property.setInt(this, value);
+	}
+
+	/**
+	 * Get the value of the given key as {@code long}. If the key is of a {@code long} field, Then the field will be read without boxing.
+	 *
+	 * @param key the key of the value
+	 * @return the value of the given key
+	 * @throws NullPointerException if the value of the given key is null (or if this has no such key)
+	 * @throws ClassCastException   if the value of the given key is not a number
+	 */
+	default long getLong(K key) {
+		BeanDescriptor.PropertyDescriptor property = BeanDescriptor.of(this.getClass()).getProperty(key);
+		return property == null ? ((Number) this.get(key)).longValue() : property.getLong(this);
+	}
+
+	/**
+	 * Set the value of the given key to the given {@code long} value. If the key is of a {@code long} field (and the type of its property have
+	 * not been overridden). Then the field will be written without boxing and without converting the value.
+	 *
+	 * @param key   the key of the value
+	 * @param value the value to be set
+	 * @throws UnsupportedOperationException if this can't store the given key
+	 */
+	default void setLong(K key, long value) {
+		BeanDescriptor.PropertyDescriptor property = BeanDescriptor.of(this.getClass()).getProperty(key);
+
+		if (property == null)
+			this.put(key, (V) (Object) value);
+		else
+			property.setLong(this, value);
+	}
+
+	/**
+	 * Get the value of the given key as {@code double}. If the key is of a {@code double} field, Then the field will be read without boxing.
+	 *
+	 * @param key the key of the value
+	 * @return the value of the given key
+	 * @throws NullPointerException if the value of the given key is null (or if this has no such key)
+	 * @throws ClassCastException   if the value of the given key is not a number
+	 */
+	default double getDouble(K key) {
+		BeanDescriptor.PropertyDescriptor property = BeanDescriptor.of(this.getClass()).getProperty(key);
+		return property == null ? ((Number) this.get(key)).doubleValue() : property.getDouble(this);
+	}
+
+	/**
+	 * Set the value of the given key to the given {@code double} value. If the key is of a {@code double} field (and the type of its property have
+	 * not been overridden). Then the field will be written without boxing and without converting the value.
+	 *
+	 * @param key   the key of the value
+	 * @param value the value to be set
+	 * @throws UnsupportedOperationException if this can't store the given key
+	 */
+	default void setDouble(K key, double value) {
+		BeanDescriptor.PropertyDescriptor property = BeanDescriptor.of(this.getClass()).getProperty(key);
 
-		throw new UnsupportedOperationException("Can't store the key: " + key);
+		if (property == null)
+			this.put(key, (V) (Object) value);
+		else
+			property.setDouble(this, value);
 	}
 
 	@Override
@@ -141,12 +211,68 @@ public interface Bean<K, V> extends Map<K, V> {
 	@Override
 	default void putAll(Map<? extends K, ? extends V> map) {
 		Objects.requireNonNull(map, "map");
-		Set<K> keys = new HashSet<>();
-		K key;
 
-		for (Field field : Reflect$.getAllFields(this.getClass()))
-			if (field.isAnnotationPresent(Property.class) && keys.add(key = FieldEntry.getKey(field)) && map.containsKey(key))
-				FieldEntry.setValue(field, this, map.get(key));
+		if (map instanceof Bean && !(map instanceof FullBean) && !(this instanceof FullBean)) {
+			//both are field-only beans
+			BeanCopier.of(map.getClass(), this.getClass()).copy(map, this);
+			return;
+		}
+
+		for (BeanDescriptor.PropertyDescriptor property : BeanDescriptor.of(this.getClass()).getProperties())
+			if (map.containsKey(property.key))
+				property.set(this, map.get(property.key));
+	}
+
+	/**
+	 * Get the values of the given keys. The value of each key (as returned by {@link #get(Object)}) will be stored at the index of the key at the
+	 * given output array. Each key is looked up on its own. To resolve the keys once and reuse the resolution across calls (and instances), use a
+	 * {@link BeanPlan}.
+	 *
+	 * @param keys the keys to get the values of
+	 * @param out  the array to store the values at
+	 * @throws NullPointerException     if the given 'keys' or 'out' is null
+	 * @throws IllegalArgumentException if the given 'out' is shorter than the given 'keys'
+	 */
+	default void getAll(K[] keys, Object[] out) {
+		Objects.requireNonNull(keys, "keys");
+		Objects.requireNonNull(out, "out");
+		if (out.length < keys.length)
+			throw new IllegalArgumentException("out.length < " + keys.length);
+
+		for (int i = 0; i < keys.length; i++)
+			out[i] = this.get(keys[i]);
+	}
+
+	/**
+	 * Put the given values to the given keys. The value of each key is the value at the index of the key at the given values array (put using
+	 * {@link #put(Object, Object)}). Each key is looked up on its own. To resolve the keys once and reuse the resolution across calls (and
+	 * instances), use a {@link BeanPlan}.
+	 *
+	 * @param keys   the keys to put the values to
+	 * @param values the values to be put
+	 * @throws NullPointerException          if the given 'keys' or 'values' is null
+	 * @throws IllegalArgumentException      if the given 'values' is shorter than the given 'keys'
+	 * @throws UnsupportedOperationException if a key has no property and this can't store it
+	 */
+	default void putAll(K[] keys, Object[] values) {
+		Objects.requireNonNull(keys, "keys");
+		Objects.requireNonNull(values, "values");
+		if (values.length < keys.length)
+			throw new IllegalArgumentException("values.length < " + keys.length);
+
+		for (int i = 0; i < keys.length; i++)
+			this.put(keys[i], (V) values[i]);
+	}
+
+	/**
+	 * Take an immutable point-in-time copy of the entries of this. The values of the properties are captured using the {@link BeanDescriptor} of
+	 * the class of this (without iterating the entries of this).
+	 *
+	 * @return a new snapshot of the entries of this
+	 * @see BeanSnapshot#of(Object)
+	 */
+	default BeanSnapshot<K, V> snapshot() {
+		return BeanSnapshot.of(this);
 	}
 
 	@Override
@@ -197,6 +323,12 @@ public interface Bean<K, V> extends Map<K, V> {
 				return Bean.this.containsKey(key);
 			}
 
+			@Override
+			public Spliterator<K> spliterator() {
+				Set<Entry<K, V>> entrySet = Bean.this.entrySet();
+				return entrySet instanceof BeanEntrySet ? ((BeanEntrySet<K, V>) entrySet).keySpliterator() : super.spliterator();
+			}
+
 			@Override
 			public void clear() {
 				Bean.this.clear();
@@ -246,6 +378,12 @@ public interface Bean<K, V> extends Map<K, V> {
 			public void clear() {
 				Bean.this.clear();
 			}
+
+			@Override
+			public Spliterator<V> spliterator() {
+				Set<Entry<K, V>> entrySet = Bean.this.entrySet();
+				return entrySet instanceof BeanEntrySet ? ((BeanEntrySet<K, V>) entrySet).valueSpliterator() : super.spliterator();
+			}
 		};
 	}
 
@@ -272,6 +410,12 @@ public interface Bean<K, V> extends Map<K, V> {
 		 * @return the key of the annotated field
 		 */
 		MetaObject key() default @MetaObject(converter = @MetaReference(type = MetaReference.util.class));
+		/**
+		 * If the values of the annotated field should never be converted. A value that can't be stored at the field as it is will be rejected.
+		 *
+		 * @return true, if the values of the annotated field should never be converted
+		 */
+		boolean strict() default false;
 		/**
 		 * The type of the annotated field. This will override the default type (The type of the field)
 		 *
@@ -287,36 +431,14 @@ public interface Bean<K, V> extends Map<K, V> {
 	 * @param <V> the type of the value
 	 */
 	class FieldEntry<K, V> implements Map.Entry<K, V> {
-		/**
-		 * The converter of this entry.
-		 *
-		 * @see Property#converter
-		 */
-		final protected Converter converter;
-		/**
-		 * The field that holds the value of this entry.
-		 */
-		final protected Field field;
 		/**
 		 * The instance that this entry is editing.
 		 */
 		final protected Object instance;
 		/**
-		 * The key of this entry.
-		 *
-		 * @see Property#key
-		 */
-		final protected K key;
-		/**
-		 * The meta-data of this entry.
-		 */
-		final protected Property meta;
-		/**
-		 * The type of the value of this entry.
-		 *
-		 * @see Property#type
+		 * The resolved property of the field of this entry (shared by all the entries of the same field).
 		 */
-		final protected Clazz type;
+		final protected BeanDescriptor.PropertyDescriptor property;
 
 		/**
 		 * Construct a new field entry.
@@ -332,35 +454,23 @@ public interface Bean<K, V> extends Map<K, V> {
 			if (!field.isAnnotationPresent(Property.class))
 				throw new IllegalArgumentException(field + " haven't annotated with " + Property.class);
 
-			this.field = field;
 			this.instance = instance;
-			this.key = getKey(field);
-			this.type = getType(field);
-			this.meta = field.getAnnotation(Property.class);
-			this.converter = MetaReference.util.get(meta.converter());
+			this.property = BeanDescriptor.of(field.getDeclaringClass()).getProperty(field);
 		}
 
 		/**
 		 * Construct a new field entry.
 		 *
 		 * @param instance the instance where the targeted field is
-		 * @param field    the field to be edited
-		 * @param key      the key (directly set)
-		 * @throws NullPointerException     if the given 'instance' or 'field' is null
-		 * @throws IllegalArgumentException if the given field is not annotated with {@link Property}
+		 * @param property the resolved property of the field to be edited
+		 * @throws NullPointerException if the given 'instance' or 'property' is null
 		 */
-		private FieldEntry(Object instance, Field field, K key) {
+		FieldEntry(Object instance, BeanDescriptor.PropertyDescriptor property) {
 			Objects.requireNonNull(instance, "instance");
-			Objects.requireNonNull(field, "field");
-			if (!field.isAnnotationPresent(Property.class))
-				throw new IllegalArgumentException(field + " haven't annotated with " + Property.class);
+			Objects.requireNonNull(property, "property");
 
-			this.field = field;
 			this.instance = instance;
-			this.key = key;
-			this.type = getType(field);
-			this.meta = field.getAnnotation(Property.class);
-			this.converter = MetaReference.util.get(meta.converter());
+			this.property = property;
 		}
 
 		/**
@@ -373,16 +483,7 @@ public interface Bean<K, V> extends Map<K, V> {
 		 * @throws NullPointerException if the given 'instance' is null
 		 */
 		public static <K, V> Set<Entry<K, V>> entrySet(Object instance) {
-			Objects.requireNonNull(instance, "instance");
-			Set<Entry<K, V>> entrySet = new HashSet<>();
-			Set<K> keys = new HashSet<>();
-			K key;
-
-			for (Field field : Reflect$.getAllFields(instance.getClass()))
-				if (field.isAnnotationPresent(Property.class) && keys.add(key = getKey(field)))
-					entrySet.add(new FieldEntry<>(instance, field, key));
-
-			return entrySet;
+			return new BeanEntrySet<>(instance);
 		}
 
 		/**
@@ -395,12 +496,7 @@ public interface Bean<K, V> extends Map<K, V> {
 		 * @throws IllegalArgumentException if the given 'field' is not annotated with {@link Bean.Property}
 		 */
 		public static <K> K getKey(Field field) {
-			Objects.requireNonNull(field, "field");
-			if (!field.isAnnotationPresent(Bean.Property.class))
-				throw new IllegalArgumentException(field + " is not annotated with " + Bean.Property.class);
-
-			MetaObject key = field.getAnnotation(Property.class).key();
-			return key.converter().type() == MetaReference.util.class ? (K) field.getName() : MetaObject.util.get(key);
+			return (K) getProperty(field).key;
 		}
 
 		/**
@@ -413,13 +509,7 @@ public interface Bean<K, V> extends Map<K, V> {
 		 * @throws IllegalArgumentException if the given field is not annotated with {@link Property}
 		 */
 		public static <V> Clazz<V> getType(Field field) {
-			Objects.requireNonNull(field, "field");
-			if (!field.isAnnotationPresent(Property.class))
-				throw new IllegalArgumentException(field + " is not annotated with " + Property.class);
-
-			MetaClazz meta = field.getAnnotation(Property.class).type();
-			return meta.family() == MetaClazz.util.class && meta.value() == Object.class ?
-				   Clazz.of((Class) field.getType()) : MetaClazz.util.get(meta);
+			return getProperty(field).type;
 		}
 
 		/**
@@ -434,16 +524,7 @@ public interface Bean<K, V> extends Map<K, V> {
 		 */
 		public static <V> V getValue(Field field, Object instance) {
 			Objects.requireNonNull(instance, "instance");
-			Objects.requireNonNull(field, "field");
-			if (!field.isAnnotationPresent(Bean.Property.class))
-				throw new IllegalArgumentException(field + " is not annotated with " + Bean.Property.class);
-
-			try {
-				field.setAccessible(true);
-				return (V) field.get(instance);
-			} catch (IllegalAccessException e) {
-				throw (IllegalAccessError) new IllegalAccessError().initCause(e);
-			}
+			return (V) getProperty(field).get(instance);
 		}
 
 		/**
@@ -459,60 +540,40 @@ public interface Bean<K, V> extends Map<K, V> {
 		 */
 		public static <V> V setValue(Field field, Object instance, V value) {
 			Objects.requireNonNull(instance, "instance");
-			Objects.requireNonNull(field, "field");
-			if (!field.isAnnotationPresent(Bean.Property.class))
-				throw new IllegalArgumentException(field + " is not annotated with " + Bean.Property.class);
-
-			Converter converter = MetaReference.util.get(field.getAnnotation(Property.class).converter());
-			Clazz type = getType(field);
-
-			return setValue(field, instance, value, converter, type);
+			return (V) getProperty(field).set(instance, value);
 		}
 
 		/**
-		 * Set the value of the given field on the given instance to the given value.
+		 * Get the cached property of the given field.
 		 *
-		 * @param instance  to set the value to
-		 * @param converter the converter of the field
-		 * @param type      the type of the field
-		 * @param value     to be set
-		 * @param field     that holds the value
-		 * @param <V>       the type of the value
-		 * @return the previous value stored at that field in that instance
-		 * @throws NullPointerException     if the given 'field' or 'instance' is null
+		 * @param field the field to get the property of
+		 * @return the property of the given field
+		 * @throws NullPointerException     if the given 'field' is null
 		 * @throws IllegalArgumentException if the given 'field' is not annotated with {@link Bean.Property}
 		 */
-		private static <V> V setValue(Field field, Object instance, V value, Converter converter, Clazz type) {
-			try {
-				value = converter.convert(value, value, type);
-
-				field.setAccessible(true);
-				V old = (V) field.get(instance);
-				field.set(instance, value);
-				return old;
-			} catch (IllegalAccessException e) {
-				throw (IllegalAccessError) new IllegalAccessError().initCause(e);
-			}
+		private static BeanDescriptor.PropertyDescriptor getProperty(Field field) {
+			Objects.requireNonNull(field, "field");
+			BeanDescriptor.PropertyDescriptor property = BeanDescriptor.of(field.getDeclaringClass()).getProperty(field);
+
+			if (property == null)
+				throw new IllegalArgumentException(field + " is not annotated with " + Bean.Property.class);
+
+			return property;
 		}
 
 		@Override
 		public K getKey() {
-			return this.key;
+			return (K) this.property.key;
 		}
 
 		@Override
 		public V getValue() {
-			try {
-				this.field.setAccessible(true);
-				return (V) this.field.get(instance);
-			} catch (IllegalAccessException e) {
-				throw (IllegalAccessError) new IllegalAccessError().initCause(e);
-			}
+			return (V) this.property.get(this.instance);
 		}
 
 		@Override
 		public V setValue(V value) {
-			return setValue(this.field, this.instance, value, this.converter, this.type);
+			return (V) this.property.set(this.instance, value);
 		}
 
 		@Override
@@ -526,7 +587,7 @@ public interface Bean<K, V> extends Map<K, V> {
 				return true;
 			} else if (o instanceof Entry) {
 				Entry entry = (Entry) o;
-				return Objects.equals(this.key, entry.getKey());
+				return Objects.equals(this.property.key, entry.getKey());
 			}
 
 			return false;
@@ -538,7 +599,7 @@ public interface Bean<K, V> extends Map<K, V> {
 		 * @return the field that holds the value of this entry.
 		 */
 		public Field getField() {
-			return this.field;
+			return this.property.field;
 		}
 
 		/**
@@ -547,7 +608,16 @@ public interface Bean<K, V> extends Map<K, V> {
 		 * @return the meta-data of this entry.
 		 */
 		public Property getMeta() {
-			return this.meta;
+			return this.property.meta;
+		}
+
+		/**
+		 * Get the property of this entry.
+		 *
+		 * @return the resolved property of the field of this entry
+		 */
+		public BeanDescriptor.PropertyDescriptor getProperty() {
+			return this.property;
 		}
 
 		/**
@@ -556,7 +626,66 @@ public interface Bean<K, V> extends Map<K, V> {
 		 * @return the type of the value of this entry.
 		 */
 		public Clazz<V> getType() {
-			return this.type;
+			return this.property.type;
+		}
+
+		/**
+		 * Get the converter of this entry.
+		 *
+		 * @return the converter of this entry
+		 * @see Property#converter
+		 * @deprecated replaced the field {@code converter} (the entries share the resolved {@link #getProperty() property} of their field). Use
+		 * {@link BeanDescriptor.PropertyDescriptor#getConverter() getProperty().getConverter()}
+		 */
+		@Deprecated
+		protected Converter converter() {
+			return this.property.converter;
+		}
+
+		/**
+		 * Get the field that holds the value of this entry.
+		 *
+		 * @return the field of this entry
+		 * @deprecated replaced the field {@code field}. Use {@link #getField()}
+		 */
+		@Deprecated
+		protected Field field() {
+			return this.property.field;
+		}
+
+		/**
+		 * Get the key of this entry.
+		 *
+		 * @return the key of this entry
+		 * @see Property#key
+		 * @deprecated replaced the field {@code key}. Use {@link #getKey()}
+		 */
+		@Deprecated
+		protected K key() {
+			return (K) this.property.key;
+		}
+
+		/**
+		 * Get the meta-data of this entry.
+		 *
+		 * @return the meta-data of this entry
+		 * @deprecated replaced the field {@code meta}. Use {@link #getMeta()}
+		 */
+		@Deprecated
+		protected Property meta() {
+			return this.property.meta;
+		}
+
+		/**
+		 * Get the type of the value of this entry.
+		 *
+		 * @return the type of this entry
+		 * @see Property#type
+		 * @deprecated replaced the field {@code type}. Use {@link #getType()}
+		 */
+		@Deprecated
+		protected Clazz<V> type() {
+			return this.property.type;
 		}
 	}
 }
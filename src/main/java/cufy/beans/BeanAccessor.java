@@ -0,0 +1,239 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.util.Objects;
+
+/**
+ * An accessor that reads and writes the properties of a class by the index of the property at the {@link BeanDescriptor descriptor} of that
+ * class. The accessors don't convert values. Values are passed to the fields as they are.
+ * <br/>
+ * An accessor engine can be plugged by registering a {@link Factory} as a service (at {@code META-INF/services/cufy.beans.BeanAccessor$Factory}).
+ * The factory will be asked for an accessor the first time a descriptor needs one. A factory can, for example, return a generated class that
+ * accesses the fields directly using a switch over the index of the property (like the companions generated by the {@code cufy.beans.processor}
+ * annotation processor).
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public interface BeanAccessor {
+	/**
+	 * Get the value of the property at the given index on the given instance.
+	 *
+	 * @param instance the instance to get the value from
+	 * @param index    the index of the property
+	 * @return the value of the property at the given index on the given instance
+	 * @throws NullPointerException      if the given 'instance' is null
+	 * @throws IndexOutOfBoundsException if the given 'index' is out of bounds
+	 * @throws IllegalArgumentException  if the given 'instance' is not an instance of the class of the property
+	 */
+	Object get(Object instance, int index);
+
+	/**
+	 * Set the value of the property at the given index on the given instance to the given value (as it is).
+	 *
+	 * @param instance the instance to set the value to
+	 * @param index    the index of the property
+	 * @param value    the value to be set
+	 * @throws NullPointerException      if the given 'instance' is null
+	 * @throws IndexOutOfBoundsException if the given 'index' is out of bounds
+	 * @throws IllegalArgumentException  if the given 'value' can't be stored at the property
+	 * @throws IllegalAccessError        if the property can't be written
+	 */
+	void set(Object instance, int index, Object value);
+
+	/**
+	 * Get the value of the property at the given index on the given instance as {@code int}. Accessors should override this method to read
+	 * {@code int} fields without boxing.
+	 *
+	 * @param instance the instance to get the value from
+	 * @param index    the index of the property
+	 * @return the value of the property at the given index on the given instance
+	 * @throws NullPointerException      if the given 'instance' is null. Or if the value is null
+	 * @throws IndexOutOfBoundsException if the given 'index' is out of bounds
+	 * @throws IllegalArgumentException  if the given 'instance' is not an instance of the class of the property
+	 * @throws ClassCastException        if the value is not a number
+	 */
+	default int getInt(Object instance, int index) {
+		return ((Number) this.get(instance, index)).intValue();
+	}
+
+	/**
+	 * Set the value of the property at the given index on the given instance to the given {@code int} value (as it is). Accessors should
+	 * override this method to write {@code int} fields without boxing.
+	 *
+	 * @param instance the instance to set the value to
+	 * @param index    the index of the property
+	 * @param value    the value to be set
+	 * @throws NullPointerException      if the given 'instance' is null
+	 * @throws IndexOutOfBoundsException if the given 'index' is out of bounds
+	 * @throws IllegalArgumentException  if the given 'value' can't be stored at the property
+	 * @throws IllegalAccessError        if the property can't be written
+	 */
+	default void setInt(Object instance, int index, int value) {
+		this.set(instance, index, value);
+	}
+
+	/**
+	 * Get the value of the property at the given index on the given instance as {@code long}. Accessors should override this method to read
+	 * {@code long} fields without boxing.
+	 *
+	 * @param instance the instance to get the value from
+	 * @param index    the index of the property
+	 * @return the value of the property at the given index on the given instance
+	 * @throws NullPointerException      if the given 'instance' is null. Or if the value is null
+	 * @throws IndexOutOfBoundsException if the given 'index' is out of bounds
+	 * @throws IllegalArgumentException  if the given 'instance' is not an instance of the class of the property
+	 * @throws ClassCastException        if the value is not a number
+	 */
+	default long getLong(Object instance, int index) {
+		return ((Number) this.get(instance, index)).longValue();
+	}
+
+	/**
+	 * Set the value of the property at the given index on the given instance to the given {@code long} value (as it is). Accessors should
+	 * override this method to write {@code long} fields without boxing.
+	 *
+	 * @param instance the instance to set the value to
+	 * @param index    the index of the property
+	 * @param value    the value to be set
+	 * @throws NullPointerException      if the given 'instance' is null
+	 * @throws IndexOutOfBoundsException if the given 'index' is out of bounds
+	 * @throws IllegalArgumentException  if the given 'value' can't be stored at the property
+	 * @throws IllegalAccessError        if the property can't be written
+	 */
+	default void setLong(Object instance, int index, long value) {
+		this.set(instance, index, value);
+	}
+
+	/**
+	 * Get the value of the property at the given index on the given instance as {@code double}. Accessors should override this method to read
+	 * {@code double} fields without boxing.
+	 *
+	 * @param instance the instance to get the value from
+	 * @param index    the index of the property
+	 * @return the value of the property at the given index on the given instance
+	 * @throws NullPointerException      if the given 'instance' is null. Or if the value is null
+	 * @throws IndexOutOfBoundsException if the given 'index' is out of bounds
+	 * @throws IllegalArgumentException  if the given 'instance' is not an instance of the class of the property
+	 * @throws ClassCastException        if the value is not a number
+	 */
+	default double getDouble(Object instance, int index) {
+		return ((Number) this.get(instance, index)).doubleValue();
+	}
+
+	/**
+	 * Set the value of the property at the given index on the given instance to the given {@code double} value (as it is). Accessors should
+	 * override this method to write {@code double} fields without boxing.
+	 *
+	 * @param instance the instance to set the value to
+	 * @param index    the index of the property
+	 * @param value    the value to be set
+	 * @throws NullPointerException      if the given 'instance' is null
+	 * @throws IndexOutOfBoundsException if the given 'index' is out of bounds
+	 * @throws IllegalArgumentException  if the given 'value' can't be stored at the property
+	 * @throws IllegalAccessError        if the property can't be written
+	 */
+	default void setDouble(Object instance, int index, double value) {
+		this.set(instance, index, value);
+	}
+
+	/**
+	 * A factory of accessors. Registered as a service.
+	 */
+	interface Factory {
+		/**
+		 * Get a new accessor for the given descriptor.
+		 *
+		 * @param descriptor the descriptor to get an accessor for
+		 * @return a new accessor for the given descriptor. Or null if this factory don't support the given descriptor
+		 * @throws NullPointerException if the given 'descriptor' is null
+		 */
+		BeanAccessor newAccessor(BeanDescriptor descriptor);
+	}
+
+	/**
+	 * The default accessor. Used when the class has no generated companion and no factory supports it. It forwards to the method handles resolved
+	 * by the properties of the descriptor. So it is not faster than them (the handles are not constants the JIT can fold). It only lets the
+	 * descriptor access every class through the same interface.
+	 */
+	final class HandleAccessor implements BeanAccessor {
+		/**
+		 * The properties of the descriptor of this accessor.
+		 */
+		private final BeanDescriptor.PropertyDescriptor[] properties;
+
+		/**
+		 * Construct a new handle accessor.
+		 *
+		 * @param descriptor the descriptor of the properties to be accessed
+		 * @throws NullPointerException if the given 'descriptor' is null
+		 */
+		public HandleAccessor(BeanDescriptor descriptor) {
+			Objects.requireNonNull(descriptor, "descriptor");
+			this.properties = descriptor.getProperties().toArray(new BeanDescriptor.PropertyDescriptor[0]);
+		}
+
+		@Override
+		public Object get(Object instance, int index) {
+			Objects.requireNonNull(instance, "instance");
+			return this.properties[index].read(instance);
+		}
+
+		@Override
+		public void set(Object instance, int index, Object value) {
+			Objects.requireNonNull(instance, "instance");
+			this.properties[index].write(instance, value);
+		}
+
+		@Override
+		public int getInt(Object instance, int index) {
+			Objects.requireNonNull(instance, "instance");
+			return this.properties[index].readInt(instance);
+		}
+
+		@Override
+		public void setInt(Object instance, int index, int value) {
+			Objects.requireNonNull(instance, "instance");
+			this.properties[index].writeInt(instance, value);
+		}
+
+		@Override
+		public long getLong(Object instance, int index) {
+			Objects.requireNonNull(instance, "instance");
+			return this.properties[index].readLong(instance);
+		}
+
+		@Override
+		public void setLong(Object instance, int index, long value) {
+			Objects.requireNonNull(instance, "instance");
+			this.properties[index].writeLong(instance, value);
+		}
+
+		@Override
+		public double getDouble(Object instance, int index) {
+			Objects.requireNonNull(instance, "instance");
+			return this.properties[index].readDouble(instance);
+		}
+
+		@Override
+		public void setDouble(Object instance, int index, double value) {
+			Objects.requireNonNull(instance, "instance");
+			this.properties[index].writeDouble(instance, value);
+		}
+	}
+}
@@ -0,0 +1,876 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * The runtime accessor engine. Generates (at the first use of a descriptor) a hidden accessor class for the described class. The generated class
+ * reads and writes the fields directly using a switch over the index of the property. The primitive fields get non-boxing {@code int}, {@code
+ * long} and {@code double} methods. The properties it can't access directly (inherited fields from other packages, private inherited fields,
+ * static fields, final fields on write and fields of types not visible from the package of the class) are delegated to a {@link
+ * BeanAccessor.HandleAccessor}.
+ * <br/>
+ * The class is defined as a hidden nestmate of the described class (Java 15+), or as an anonymous class hosted by it ({@code
+ * sun.misc.Unsafe.defineAnonymousClass}, Java 8 to 16). So it can access the private fields of the described class. If neither is available (or
+ * the class can't be defined, for example because of module encapsulation) no accessor is generated. The engine can be disabled by setting the
+ * system property {@code cufy.beans.generate} to {@code false}.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+final class BeanAccessorGenerator {
+	/**
+	 * The internal name of {@link BeanAccessor}.
+	 */
+	private static final String ACCESSOR = "cufy/beans/BeanAccessor";
+	/**
+	 * Defines a class using its bytes and its host class ({@code (Class, byte[])Class}). Or null if the runtime can't define hidden classes.
+	 */
+	private static final MethodHandle DEFINE = define();
+	/**
+	 * True, if the engine is enabled.
+	 */
+	private static final boolean ENABLED = !"false".equals(System.getProperty("cufy.beans.generate"));
+	/**
+	 * The descriptor of the fallback field of the generated classes.
+	 */
+	private static final String FALLBACK = "L" + ACCESSOR + ";";
+	/**
+	 * The internal name of {@link BeanAccessor.HandleAccessor}.
+	 */
+	private static final String HANDLE_ACCESSOR = "cufy/beans/BeanAccessor$HandleAccessor";
+	/**
+	 * The suffix of the names of the generated classes.
+	 */
+	private static final String SUFFIX = "$$GeneratedAccessor";
+
+	/**
+	 * This is an util class and must not be instanced as an object.
+	 *
+	 * @throws AssertionError when called
+	 */
+	private BeanAccessorGenerator() {
+		throw new AssertionError("No instance for you!");
+	}
+
+	/**
+	 * Generate an accessor for the given descriptor.
+	 *
+	 * @param descriptor the descriptor to generate an accessor for
+	 * @return a new generated accessor for the given descriptor. Or null if the engine is disabled, the runtime can't define hidden classes, or the
+	 * 		described class has no directly accessible property
+	 * @throws NullPointerException if the given 'descriptor' is null
+	 */
+	static BeanAccessor generate(BeanDescriptor descriptor) {
+		Objects.requireNonNull(descriptor, "descriptor");
+		Class<?> klass = descriptor.getKlass();
+
+		if (!ENABLED || DEFINE == null || klass.isInterface() || klass.isArray() || klass.isPrimitive())
+			return null;
+
+		Field[] fields = new Field[descriptor.size()];
+		boolean any = false;
+
+		for (int i = 0; i < fields.length; i++) {
+			Field field = descriptor.getProperty(i).field;
+
+			if (direct(klass, field)) {
+				fields[i] = field;
+				any = true;
+			}
+		}
+
+		if (!any)
+			return null;
+
+		try {
+			byte[] bytes = new Writer(klass, fields).write();
+			Class<?> generated = (Class<?>) DEFINE.invokeExact(klass, bytes);
+			return (BeanAccessor) generated.getConstructor(BeanDescriptor.class).newInstance(descriptor);
+		} catch (VirtualMachineError e) {
+			throw e;
+		} catch (Throwable ignored) {
+			//can't be generated (or defined) for this class. The handles will be used
+			return null;
+		}
+	}
+
+	/**
+	 * Resolve the way the runtime defines a class with the access of another class.
+	 *
+	 * @return a handle that defines a class ({@code (Class, byte[])Class}). Or null if the runtime can't define hidden classes
+	 */
+	private static MethodHandle define() {
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		try {
+			//Java 15+: MethodHandles.privateLookupIn(host, lookup()).defineHiddenClass(bytes, true, NESTMATE).lookupClass()
+			Class<?> option = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+			Object options = Array.newInstance(option, 1);
+			Array.set(options, 0, option.getField("NESTMATE").get(null));
+
+			Method privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+			Method defineHiddenClass = MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, options.getClass());
+			MethodHandle in = MethodHandles.insertArguments(lookup.unreflect(privateLookupIn), 1, lookup);
+			MethodHandle hidden = MethodHandles.insertArguments(lookup.unreflect(defineHiddenClass), 2, true, options);
+			MethodHandle lookupClass = lookup.findVirtual(MethodHandles.Lookup.class, "lookupClass", MethodType.methodType(Class.class));
+
+			//(Class, byte[]) -> (Lookup, byte[]) -> Lookup -> Class
+			MethodHandle define = MethodHandles.filterReturnValue(hidden, lookupClass);
+			define = MethodHandles.filterArguments(define, 0, in.asType(MethodType.methodType(MethodHandles.Lookup.class, Class.class)));
+			return define.asType(MethodType.methodType(Class.class, Class.class, byte[].class));
+		} catch (ReflectiveOperationException | RuntimeException ignored) {
+		}
+
+		try {
+			//Java 8 to 16: Unsafe.defineAnonymousClass(host, bytes, null)
+			Class<?> type = Class.forName("sun.misc.Unsafe");
+			Field field = type.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			Method defineAnonymousClass = type.getMethod("defineAnonymousClass", Class.class, byte[].class, Object[].class);
+			MethodHandle define = lookup.unreflect(defineAnonymousClass).bindTo(field.get(null));
+			define = MethodHandles.insertArguments(define, 2, (Object) null);
+			return define.asType(MethodType.methodType(Class.class, Class.class, byte[].class));
+		} catch (ReflectiveOperationException | RuntimeException ignored) {
+		}
+
+		return null;
+	}
+
+	/**
+	 * Determine if the given field can be accessed directly by a class generated for the given class.
+	 *
+	 * @param klass the class the accessor is generated for
+	 * @param field the field
+	 * @return true, if the given field can be read directly
+	 */
+	private static boolean direct(Class<?> klass, Field field) {
+		int modifiers = field.getModifiers();
+		Class<?> declaring = field.getDeclaringClass();
+
+		if (Modifier.isStatic(modifiers) || !visible(klass, field.getType()))
+			return false;
+		if (declaring == klass)
+			return true;
+
+		return !Modifier.isPrivate(modifiers) && !Modifier.isProtected(modifiers) && samePackage(klass, declaring) &&
+			   visible(klass, declaring);
+	}
+
+	/**
+	 * Determine if the given classes are at the same runtime package.
+	 *
+	 * @param klass the first class
+	 * @param other the second class
+	 * @return true, if the given classes are at the same runtime package
+	 */
+	private static boolean samePackage(Class<?> klass, Class<?> other) {
+		String name = klass.getName();
+		String otherName = other.getName();
+
+		return klass.getClassLoader() == other.getClassLoader() &&
+			   name.substring(0, Math.max(0, name.lastIndexOf('.'))).equals(otherName.substring(0, Math.max(0, otherName.lastIndexOf('.'))));
+	}
+
+	/**
+	 * Determine if the given type can be referenced by a class generated for the given class (at the package of the given class).
+	 *
+	 * @param klass the class the accessor is generated for
+	 * @param type  the type to be referenced
+	 * @return true, if the given type can be referenced
+	 */
+	private static boolean visible(Class<?> klass, Class<?> type) {
+		while (type.isArray())
+			type = type.getComponentType();
+
+		//the public types of the bootstrap loader are trusted only at the exported java.* packages
+		return type.isPrimitive() ||
+			   Modifier.isPublic(type.getModifiers()) && (type.getClassLoader() != null || type.getName().startsWith("java.")) ||
+			   samePackage(klass, type);
+	}
+
+	/**
+	 * A writer of the bytes of an accessor class. Writes a class file of version 49 (so it needs no stack map frames).
+	 */
+	private static final class Writer {
+		/**
+		 * The fields accessed directly (at the index of their properties). Null for the properties delegated to the fallback.
+		 */
+		private final Field[] fields;
+		/**
+		 * The internal name of the described class.
+		 */
+		private final String host;
+		/**
+		 * The internal name of the generated class.
+		 */
+		private final String name;
+		/**
+		 * The indexes of the constants at the pool.
+		 */
+		private final Map<String, Integer> constants = new HashMap<>();
+		/**
+		 * The constant pool.
+		 */
+		private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+		/**
+		 * The constant pool as data.
+		 */
+		private final DataOutputStream poolData = new DataOutputStream(this.pool);
+		/**
+		 * The number of the slots used at the constant pool (plus one).
+		 */
+		private int count = 1;
+
+		/**
+		 * Construct a new writer.
+		 *
+		 * @param klass  the described class
+		 * @param fields the fields accessed directly (at the index of their properties)
+		 */
+		private Writer(Class<?> klass, Field[] fields) {
+			this.fields = fields;
+			this.host = internal(klass);
+			this.name = this.host + SUFFIX;
+		}
+
+		/**
+		 * Get the descriptor of the given type.
+		 *
+		 * @param type the type
+		 * @return the descriptor of the given type
+		 */
+		private static String descriptor(Class<?> type) {
+			if (type == int.class)
+				return "I";
+			if (type == long.class)
+				return "J";
+			if (type == double.class)
+				return "D";
+			if (type == float.class)
+				return "F";
+			if (type == boolean.class)
+				return "Z";
+			if (type == byte.class)
+				return "B";
+			if (type == short.class)
+				return "S";
+			if (type == char.class)
+				return "C";
+			if (type == void.class)
+				return "V";
+			if (type.isArray())
+				return internal(type);
+
+			return "L" + internal(type) + ";";
+		}
+
+		/**
+		 * Get the internal name of the given class.
+		 *
+		 * @param type the class
+		 * @return the internal name of the given class
+		 */
+		private static String internal(Class<?> type) {
+			return type.getName().replace('.', '/');
+		}
+
+		/**
+		 * Get the wrapper of the given primitive type.
+		 *
+		 * @param type the primitive type
+		 * @return the wrapper of the given type
+		 */
+		private static Class<?> wrapper(Class<?> type) {
+			if (type == int.class)
+				return Integer.class;
+			if (type == long.class)
+				return Long.class;
+			if (type == double.class)
+				return Double.class;
+			if (type == float.class)
+				return Float.class;
+			if (type == boolean.class)
+				return Boolean.class;
+			if (type == byte.class)
+				return Byte.class;
+			if (type == short.class)
+				return Short.class;
+
+			return Character.class;
+		}
+
+		/**
+		 * Write the class file.
+		 *
+		 * @return the bytes of the class file
+		 * @throws IllegalStateException if the class is too big to be written
+		 * @throws IOException           if an I/O error occurs (never)
+		 */
+		private byte[] write() throws IOException {
+			ByteArrayOutputStream methods = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(methods);
+			int thisClass = this.classRef(this.name);
+			int superClass = this.classRef("java/lang/Object");
+			int accessor = this.classRef(ACCESSOR);
+			int fallback = this.fieldRef(this.name, "fallback", FALLBACK);
+
+			this.constructor(out, fallback);
+			this.get(out, fallback);
+			this.set(out, fallback);
+			this.primitive(out, fallback, int.class, "Int");
+			this.primitive(out, fallback, long.class, "Long");
+			this.primitive(out, fallback, double.class, "Double");
+
+			int fieldName = this.utf8("fallback");
+			int fieldType = this.utf8(FALLBACK);
+
+			if (this.count > 0xFFFF)
+				throw new IllegalStateException("Too many constants");
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream data = new DataOutputStream(bytes);
+			data.writeInt(0xCAFEBABE);
+			data.writeShort(0);
+			data.writeShort(49);
+			data.writeShort(this.count);
+			this.pool.writeTo(bytes);
+			//public final super
+			data.writeShort(0x0031);
+			data.writeShort(thisClass);
+			data.writeShort(superClass);
+			data.writeShort(1);
+			data.writeShort(accessor);
+			//fields: private final BeanAccessor fallback
+			data.writeShort(1);
+			data.writeShort(0x0012);
+			data.writeShort(fieldName);
+			data.writeShort(fieldType);
+			data.writeShort(0);
+			//methods
+			data.writeShort(9);
+			methods.writeTo(bytes);
+			//attributes
+			data.writeShort(0);
+			return bytes.toByteArray();
+		}
+
+		/**
+		 * Write the constructor. {@code (BeanDescriptor)}: sets the fallback to a new handle accessor of the descriptor.
+		 *
+		 * @param out      the output to write the method to
+		 * @param fallback the index of the fallback field reference
+		 * @throws IOException if an I/O error occurs (never)
+		 */
+		private void constructor(DataOutputStream out, int fallback) throws IOException {
+			Code code = new Code();
+			code.op(0x2A);                                                  //aload_0
+			code.op(0xB7).u2(this.methodRef("java/lang/Object", "<init>", "()V"));  //invokespecial
+			code.op(0x2A);                                                  //aload_0
+			code.op(0xBB).u2(this.classRef(HANDLE_ACCESSOR));               //new
+			code.op(0x59);                                                  //dup
+			code.op(0x2B);                                                  //aload_1
+			code.op(0xB7).u2(this.methodRef(HANDLE_ACCESSOR, "<init>", "(Lcufy/beans/BeanDescriptor;)V"));
+			code.op(0xB5).u2(fallback);                                     //putfield
+			code.op(0xB1);                                                  //return
+			this.method(out, "<init>", "(Lcufy/beans/BeanDescriptor;)V", code, Collections.emptyList());
+		}
+
+		/**
+		 * Write {@code get(Object, int)Object}. Reads the direct fields and boxes the primitive ones.
+		 *
+		 * @param out      the output to write the method to
+		 * @param fallback the index of the fallback field reference
+		 * @throws IOException if an I/O error occurs (never)
+		 */
+		private void get(DataOutputStream out, int fallback) throws IOException {
+			Code code = new Code();
+			Map<Integer, Integer> cases = this.dispatch(code, field -> true);
+			List<int[]> handlers = Collections.emptyList();
+
+			for (Map.Entry<Integer, Integer> entry : cases.entrySet()) {
+				Field field = this.fields[entry.getKey()];
+				code.bind(entry.getValue());
+				this.load(code, field);
+
+				if (field.getType().isPrimitive()) {
+					Class<?> wrapper = wrapper(field.getType());
+					code.op(0xB8).u2(this.methodRef(internal(wrapper), "valueOf", "(" + descriptor(field.getType()) + ")" + descriptor(wrapper)));
+				}
+
+				code.op(0xB0);                                              //areturn
+			}
+
+			code.bind(Code.DEFAULT);
+			code.op(0x2A).op(0xB4).u2(fallback);                            //aload_0 getfield
+			code.op(0x2B).op(0x1C);                                         //aload_1 iload_2
+			code.op(0xB9).u2(this.interfaceRef(ACCESSOR, "get", "(Ljava/lang/Object;I)Ljava/lang/Object;")).op(3).op(0);
+			code.op(0xB0);                                                  //areturn
+			this.method(out, "get", "(Ljava/lang/Object;I)Ljava/lang/Object;", code, handlers);
+		}
+
+		/**
+		 * Write {@code set(Object, int, Object)void}. Writes the direct non-final fields and unboxes the values of the primitive ones. A value that
+		 * can't be stored (a {@link ClassCastException} or a {@link NullPointerException}) is passed to the fallback (that fails with its own
+		 * message).
+		 *
+		 * @param out      the output to write the method to
+		 * @param fallback the index of the fallback field reference
+		 * @throws IOException if an I/O error occurs (never)
+		 */
+		private void set(DataOutputStream out, int fallback) throws IOException {
+			Code code = new Code();
+			Map<Integer, Integer> cases = this.dispatch(code, field -> !Modifier.isFinal(field.getModifiers()));
+			int start = code.length();
+
+			for (Map.Entry<Integer, Integer> entry : cases.entrySet()) {
+				Field field = this.fields[entry.getKey()];
+				Class<?> type = field.getType();
+				code.bind(entry.getValue());
+				code.op(0x2B).op(0xC0).u2(this.classRef(this.host));        //aload_1 checkcast
+				code.op(0x2D);                                              //aload_3
+
+				if (type.isPrimitive()) {
+					Class<?> wrapper = wrapper(type);
+					code.op(0xC0).u2(this.classRef(internal(wrapper)));     //checkcast
+					code.op(0xB6).u2(this.methodRef(internal(wrapper), type.getName() + "Value", "()" + descriptor(type)));
+				} else if (type != Object.class) {
+					code.op(0xC0).u2(this.classRef(type.isArray() ? descriptor(type) : internal(type)));
+				}
+
+				code.op(0xB5).u2(this.fieldRef(internal(field.getDeclaringClass()), field.getName(), descriptor(type)));
+				code.op(0xB1);                                              //return
+			}
+
+			int end = code.length();
+			int handler = end;
+
+			if (end > start) {
+				code.op(0x57);                                              //pop
+				code.op(0xA7).jump(Code.DEFAULT);                          //goto
+			}
+
+			code.bind(Code.DEFAULT);
+			code.op(0x2A).op(0xB4).u2(fallback);                            //aload_0 getfield
+			code.op(0x2B).op(0x1C).op(0x2D);                                //aload_1 iload_2 aload_3
+			code.op(0xB9).u2(this.interfaceRef(ACCESSOR, "set", "(Ljava/lang/Object;ILjava/lang/Object;)V")).op(4).op(0);
+			code.op(0xB1);                                                  //return
+
+			List<int[]> handlers = end > start ?
+								   Arrays.asList(
+										   new int[]{start, end, handler, this.classRef("java/lang/ClassCastException")},
+										   new int[]{start, end, handler, this.classRef("java/lang/NullPointerException")}
+								   ) :
+								   Collections.emptyList();
+			this.method(out, "set", "(Ljava/lang/Object;ILjava/lang/Object;)V", code, handlers);
+		}
+
+		/**
+		 * Write {@code getX(Object, int)x} and {@code setX(Object, int, x)void} for the given primitive type. Reads and writes the direct fields
+		 * of that exact type without boxing.
+		 *
+		 * @param out      the output to write the methods to
+		 * @param fallback the index of the fallback field reference
+		 * @param type     the primitive type
+		 * @param suffix   the suffix of the names of the methods
+		 * @throws IOException if an I/O error occurs (never)
+		 */
+		private void primitive(DataOutputStream out, int fallback, Class<?> type, String suffix) throws IOException {
+			String descriptor = descriptor(type);
+			int wide = type == int.class ? 0 : 1;
+			int load = type == int.class ? 0x1D : type == long.class ? 0x21 : 0x29;        //iload_3 lload_3 dload_3
+			int ret = type == int.class ? 0xAC : type == long.class ? 0xAD : 0xAF;         //ireturn lreturn dreturn
+
+			Code getter = new Code();
+			for (Map.Entry<Integer, Integer> entry : this.dispatch(getter, field -> field.getType() == type).entrySet()) {
+				getter.bind(entry.getValue());
+				this.load(getter, this.fields[entry.getKey()]);
+				getter.op(ret);
+			}
+			getter.bind(Code.DEFAULT);
+			getter.op(0x2A).op(0xB4).u2(fallback);                          //aload_0 getfield
+			getter.op(0x2B).op(0x1C);                                       //aload_1 iload_2
+			getter.op(0xB9).u2(this.interfaceRef(ACCESSOR, "get" + suffix, "(Ljava/lang/Object;I)" + descriptor)).op(3).op(0);
+			getter.op(ret);
+			this.method(out, "get" + suffix, "(Ljava/lang/Object;I)" + descriptor, getter, Collections.emptyList());
+
+			Code setter = new Code();
+			for (Map.Entry<Integer, Integer> entry : this.dispatch(setter, field -> field.getType() == type && !Modifier.isFinal(field.getModifiers()))
+					.entrySet()) {
+				Field field = this.fields[entry.getKey()];
+				setter.bind(entry.getValue());
+				setter.op(0x2B).op(0xC0).u2(this.classRef(this.host));      //aload_1 checkcast
+				setter.op(load);
+				setter.op(0xB5).u2(this.fieldRef(internal(field.getDeclaringClass()), field.getName(), descriptor));
+				setter.op(0xB1);                                            //return
+			}
+			setter.bind(Code.DEFAULT);
+			setter.op(0x2A).op(0xB4).u2(fallback);                          //aload_0 getfield
+			setter.op(0x2B).op(0x1C).op(load);                              //aload_1 iload_2 xload_3
+			setter.op(0xB9).u2(this.interfaceRef(ACCESSOR, "set" + suffix, "(Ljava/lang/Object;I" + descriptor + ")V")).op(4 + wide).op(0);
+			setter.op(0xB1);                                                //return
+			this.method(out, "set" + suffix, "(Ljava/lang/Object;I" + descriptor + ")V", setter, Collections.emptyList());
+		}
+
+		/**
+		 * Write the dispatch of a method: delegates to the default label if the instance is not an instance of the described class. Then switches
+		 * over the index (the second local) to a label for each direct field that matches the given filter.
+		 *
+		 * @param code   the code to write to
+		 * @param filter the filter of the fields
+		 * @return the labels of the cases (by the index of their properties)
+		 */
+		private Map<Integer, Integer> dispatch(Code code, Predicate<Field> filter) {
+			Map<Integer, Integer> cases = new TreeMap<>();
+
+			for (int i = 0; i < this.fields.length; i++)
+				if (this.fields[i] != null && filter.test(this.fields[i]))
+					cases.put(i, code.label());
+
+			code.op(0x2B).op(0xC1).u2(this.classRef(this.host));            //aload_1 instanceof
+			code.op(0x99).jump(Code.DEFAULT);                              //ifeq
+			code.op(0x1C);                                                  //iload_2
+			code.lookupswitch(cases);
+			return cases;
+		}
+
+		/**
+		 * Write the read of the given field from the instance (the first local). Leaves the value of the field at the stack.
+		 *
+		 * @param code  the code to write to
+		 * @param field the field
+		 */
+		private void load(Code code, Field field) {
+			code.op(0x2B).op(0xC0).u2(this.classRef(this.host));            //aload_1 checkcast
+			code.op(0xB4).u2(this.fieldRef(internal(field.getDeclaringClass()), field.getName(), descriptor(field.getType())));
+		}
+
+		/**
+		 * Write a method.
+		 *
+		 * @param out        the output to write to
+		 * @param name       the name of the method
+		 * @param descriptor the descriptor of the method
+		 * @param code       the code of the method
+		 * @param handlers   the exception handlers ({start, end, handler, type})
+		 * @throws IOException if an I/O error occurs (never)
+		 */
+		private void method(DataOutputStream out, String name, String descriptor, Code code, List<int[]> handlers) throws IOException {
+			byte[] bytes = code.toByteArray();
+
+			out.writeShort(0x0001);
+			out.writeShort(this.utf8(name));
+			out.writeShort(this.utf8(descriptor));
+			out.writeShort(1);
+			out.writeShort(this.utf8("Code"));
+			out.writeInt(12 + bytes.length + handlers.size() * 8);
+			out.writeShort(6);
+			out.writeShort(6);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+			out.writeShort(handlers.size());
+			for (int[] handler : handlers)
+				for (int value : handler)
+					out.writeShort(value);
+			out.writeShort(0);
+		}
+
+		/**
+		 * Get the index of a class constant.
+		 *
+		 * @param name the internal name of the class
+		 * @return the index of the constant
+		 */
+		private int classRef(String name) {
+			int utf8 = this.utf8(name);
+			return this.constant("C" + name, 7, utf8, -1);
+		}
+
+		/**
+		 * Get the index of a field reference constant.
+		 *
+		 * @param owner      the internal name of the owner
+		 * @param name       the name of the field
+		 * @param descriptor the descriptor of the field
+		 * @return the index of the constant
+		 */
+		private int fieldRef(String owner, String name, String descriptor) {
+			return this.member(9, owner, name, descriptor);
+		}
+
+		/**
+		 * Get the index of an interface method reference constant.
+		 *
+		 * @param owner      the internal name of the owner
+		 * @param name       the name of the method
+		 * @param descriptor the descriptor of the method
+		 * @return the index of the constant
+		 */
+		private int interfaceRef(String owner, String name, String descriptor) {
+			return this.member(11, owner, name, descriptor);
+		}
+
+		/**
+		 * Get the index of a method reference constant.
+		 *
+		 * @param owner      the internal name of the owner
+		 * @param name       the name of the method
+		 * @param descriptor the descriptor of the method
+		 * @return the index of the constant
+		 */
+		private int methodRef(String owner, String name, String descriptor) {
+			return this.member(10, owner, name, descriptor);
+		}
+
+		/**
+		 * Get the index of a member reference constant.
+		 *
+		 * @param tag        the tag of the constant
+		 * @param owner      the internal name of the owner
+		 * @param name       the name of the member
+		 * @param descriptor the descriptor of the member
+		 * @return the index of the constant
+		 */
+		private int member(int tag, String owner, String name, String descriptor) {
+			int klass = this.classRef(owner);
+			int utf8Name = this.utf8(name);
+			int utf8Descriptor = this.utf8(descriptor);
+			int nameAndType = this.constant("N" + name + ";" + descriptor, 12, utf8Name, utf8Descriptor);
+			return this.constant(tag + owner + ";" + name + ";" + descriptor, tag, klass, nameAndType);
+		}
+
+		/**
+		 * Get the index of a UTF8 constant.
+		 *
+		 * @param value the value of the constant
+		 * @return the index of the constant
+		 */
+		private int utf8(String value) {
+			Integer index = this.constants.get("U" + value);
+
+			if (index == null)
+				try {
+					this.poolData.writeByte(1);
+					this.poolData.writeUTF(value);
+					this.constants.put("U" + value, index = this.count++);
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+
+			return index;
+		}
+
+		/**
+		 * Get the index of a constant referencing other constants.
+		 *
+		 * @param key    the key of the constant
+		 * @param tag    the tag of the constant
+		 * @param first  the first referenced constant
+		 * @param second the second referenced constant. Or -1 if the constant references only one constant
+		 * @return the index of the constant
+		 */
+		private int constant(String key, int tag, int first, int second) {
+			Integer index = this.constants.get(key);
+
+			if (index == null)
+				try {
+					this.poolData.writeByte(tag);
+					this.poolData.writeShort(first);
+					if (second != -1)
+						this.poolData.writeShort(second);
+					this.constants.put(key, index = this.count++);
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+
+			return index;
+		}
+	}
+
+	/**
+	 * The code of a method. With labels resolved when the code is finished.
+	 */
+	private static final class Code {
+		/**
+		 * The label of the default case (the delegation to the fallback).
+		 */
+		static final int DEFAULT = 0;
+
+		/**
+		 * The bytes of the code.
+		 */
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		/**
+		 * The jumps to be resolved ({position of the instruction, position of the offset, size of the offset, label}).
+		 */
+		private final List<int[]> jumps = new ArrayList<>();
+		/**
+		 * The positions of the labels (by the label). -1 for unbound labels.
+		 */
+		private final List<Integer> labels = new ArrayList<>(Collections.singletonList(-1));
+		/**
+		 * The position of the last written instruction.
+		 */
+		private int instruction;
+
+		/**
+		 * Bind the given label to the current position.
+		 *
+		 * @param label the label
+		 */
+		void bind(int label) {
+			this.labels.set(label, this.bytes.size());
+		}
+
+		/**
+		 * Write a jump offset (two bytes) to the given label relative to the last written instruction.
+		 *
+		 * @param label the label
+		 * @return this
+		 */
+		Code jump(int label) {
+			this.jumps.add(new int[]{this.instruction, this.bytes.size(), 2, label});
+			return this.u2(0);
+		}
+
+		/**
+		 * Create a new unbound label.
+		 *
+		 * @return the new label
+		 */
+		int label() {
+			this.labels.add(-1);
+			return this.labels.size() - 1;
+		}
+
+		/**
+		 * Get the current length of the code.
+		 *
+		 * @return the length of the code
+		 */
+		int length() {
+			return this.bytes.size();
+		}
+
+		/**
+		 * Write a {@code lookupswitch} (over the int at the stack) jumping to the labels of the given cases. Or to the default label if no case
+		 * matches.
+		 *
+		 * @param cases the labels of the cases (by their keys, sorted)
+		 */
+		void lookupswitch(Map<Integer, Integer> cases) {
+			int instruction = this.bytes.size();
+			this.op(0xAB);
+			while (this.bytes.size() % 4 != 0)
+				this.bytes.write(0);
+
+			this.jumps.add(new int[]{instruction, this.bytes.size(), 4, DEFAULT});
+			this.u4(0);
+			this.u4(cases.size());
+
+			for (Map.Entry<Integer, Integer> entry : cases.entrySet()) {
+				this.u4(entry.getKey());
+				this.jumps.add(new int[]{instruction, this.bytes.size(), 4, entry.getValue()});
+				this.u4(0);
+			}
+		}
+
+		/**
+		 * Write an instruction.
+		 *
+		 * @param opcode the opcode of the instruction
+		 * @return this
+		 */
+		Code op(int opcode) {
+			this.instruction = this.bytes.size();
+			this.bytes.write(opcode);
+			return this;
+		}
+
+		/**
+		 * Get the bytes of this code with the jumps resolved.
+		 *
+		 * @return the bytes of this code
+		 * @throws IllegalStateException if a jump is too far or to an unbound label
+		 */
+		byte[] toByteArray() {
+			byte[] bytes = this.bytes.toByteArray();
+
+			if (bytes.length > 0xFFFF)
+				throw new IllegalStateException("Code too large");
+
+			for (int[] jump : this.jumps) {
+				int target = this.labels.get(jump[3]);
+
+				if (target == -1)
+					throw new IllegalStateException("Unbound label");
+
+				int offset = target - jump[0];
+
+				if (jump[2] == 2) {
+					if (offset != (short) offset)
+						throw new IllegalStateException("Jump too far");
+
+					bytes[jump[1]] = (byte) (offset >> 8);
+					bytes[jump[1] + 1] = (byte) offset;
+				} else {
+					bytes[jump[1]] = (byte) (offset >> 24);
+					bytes[jump[1] + 1] = (byte) (offset >> 16);
+					bytes[jump[1] + 2] = (byte) (offset >> 8);
+					bytes[jump[1] + 3] = (byte) offset;
+				}
+			}
+
+			return bytes;
+		}
+
+		/**
+		 * Write an unsigned short.
+		 *
+		 * @param value the value
+		 * @return this
+		 */
+		Code u2(int value) {
+			this.bytes.write(value >> 8);
+			this.bytes.write(value);
+			return this;
+		}
+
+		/**
+		 * Write an int.
+		 *
+		 * @param value the value
+		 * @return this
+		 */
+		Code u4(int value) {
+			this.u2(value >>> 16);
+			return this.u2(value & 0xFFFF);
+		}
+	}
+}
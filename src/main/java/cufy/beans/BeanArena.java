@@ -0,0 +1,482 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * An off-heap storage of beans of the same class. The values of the properties of the stored beans live at a direct {@link ByteBuffer} (outside
+ * the heap managed by the garbage collector). Using the layout of {@link BeanCodec}: A fixed-size record for each bean (primitive values stored at
+ * their slots) and variable-size values (strings, wrappers and serializable objects) appended to the arena after the records. The values of {@link
+ * Lazy lazy} properties are computed when they get stored.
+ * <br/>
+ * The stored beans are accessed using {@link Record}s. Bean views that decode a property only when it get read. Writing a primitive property
+ * overwrites its slot. Writing any other property appends the new value to the arena (the space of the old value is not reused until {@link
+ * #compact()}). So this is meant for data that rarely changes.
+ * <br/>
+ * The arena grows (by moving to a bigger direct buffer) when it is full. An arena can't exceed {@link Integer#MAX_VALUE} bytes.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public class BeanArena {
+	/**
+	 * The direct buffer holding the records and the values.
+	 */
+	protected ByteBuffer buffer;
+	/**
+	 * The codec of the class of the beans (defining the layout of the records).
+	 */
+	protected final BeanCodec codec;
+	/**
+	 * The number of stored beans.
+	 */
+	protected int count;
+	/**
+	 * The number of bytes of the values that have been replaced (not reachable from any record).
+	 */
+	protected long garbage;
+	/**
+	 * The position of the record of each stored bean.
+	 */
+	protected int[] records = new int[16];
+
+	/**
+	 * Construct a new arena for the beans of the given class.
+	 *
+	 * @param klass    the class of the beans
+	 * @param capacity the initial number of bytes to allocate
+	 * @throws NullPointerException     if the given 'klass' is null
+	 * @throws IllegalArgumentException if the given 'capacity' is negative
+	 */
+	public BeanArena(Class<?> klass, int capacity) {
+		Objects.requireNonNull(klass, "klass");
+		if (capacity < 0)
+			throw new IllegalArgumentException("Negative capacity: " + capacity);
+
+		this.codec = BeanCodec.of(klass);
+		this.buffer = ByteBuffer.allocateDirect(capacity);
+	}
+
+	/**
+	 * Store the values of the properties of the given bean at this arena. (The values are copied as they are)
+	 *
+	 * @param bean the bean to be stored
+	 * @return a view of the stored bean
+	 * @throws NullPointerException     if the given 'bean' is null
+	 * @throws IllegalArgumentException if the given 'bean' is not an instance of the class of this arena. Or a value can't be encoded
+	 */
+	public Record add(Object bean) {
+		Objects.requireNonNull(bean, "bean");
+		if (!this.codec.descriptor.getKlass().isInstance(bean))
+			throw new IllegalArgumentException(bean + " is not an instance of " + this.codec.descriptor.getKlass());
+
+		int record = this.buffer.position();
+
+		while (true)
+			try {
+				if (this.buffer.capacity() - record < this.codec.recordSize)
+					throw new BufferOverflowException();
+
+				this.buffer.position(record + this.codec.recordSize);
+
+				for (int i = 0; i < this.codec.offsets.length; i++)
+					this.codec.encode(bean, i, this.buffer, 0, record + this.codec.offsets[i]);
+
+				break;
+			} catch (BufferOverflowException e) {
+				this.buffer.position(record);
+				this.grow();
+			}
+
+		if (this.count == this.records.length)
+			this.records = Arrays.copyOf(this.records, this.count << 1);
+
+		this.records[this.count] = record;
+		return new Record(this.count++);
+	}
+
+	/**
+	 * Move the stored values to a new buffer. Dropping the values that have been replaced.
+	 */
+	public void compact() {
+		ByteBuffer old = this.buffer;
+		ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.max(0, old.position() - this.garbage));
+
+		for (int i = 0; i < this.count; i++) {
+			int record = this.records[i];
+			int position = buffer.position();
+
+			ByteBuffer source = old.duplicate();
+			source.position(record).limit(record + this.codec.recordSize);
+			buffer.put(source);
+
+			for (int j = 0; j < this.codec.offsets.length; j++)
+				if (!this.codec.descriptor.getProperty(j).field.getType().isPrimitive()) {
+					int slot = position + this.codec.offsets[j];
+					int value = buffer.getInt(slot);
+
+					if (value != -1) {
+						int length = buffer.getInt(slot + 4);
+
+						source = old.duplicate();
+						source.position(value).limit(value + length);
+						buffer.putInt(slot, buffer.position());
+						buffer.put(source);
+					}
+				}
+
+			this.records[i] = position;
+		}
+
+		this.buffer = buffer;
+		this.garbage = 0;
+	}
+
+	/**
+	 * Get a view of the stored bean at the given index.
+	 *
+	 * @param index the index of the bean (in the order they have been added)
+	 * @return a view of the stored bean at the given index
+	 * @throws IndexOutOfBoundsException if the given 'index' is out of bounds
+	 */
+	public Record get(int index) {
+		if (index < 0 || index >= this.count)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.count);
+
+		return new Record(index);
+	}
+
+	/**
+	 * Get the number of bytes allocated by this arena.
+	 *
+	 * @return the capacity of the buffer of this arena
+	 */
+	public int getCapacity() {
+		return this.buffer.capacity();
+	}
+
+	/**
+	 * Get the number of bytes of the values that have been replaced. (Freed by {@link #compact()})
+	 *
+	 * @return the number of unreachable bytes
+	 */
+	public long getGarbage() {
+		return this.garbage;
+	}
+
+	/**
+	 * Get the number of bytes used by this arena (including the replaced values).
+	 *
+	 * @return the number of used bytes
+	 */
+	public int getUsed() {
+		return this.buffer.position();
+	}
+
+	/**
+	 * Get the number of beans stored at this arena.
+	 *
+	 * @return the number of stored beans
+	 */
+	public int size() {
+		return this.count;
+	}
+
+	@Override
+	public String toString() {
+		return "BeanArena(" + this.codec.descriptor.getKlass().getName() + ", " + this.count + " beans)";
+	}
+
+	/**
+	 * Move to a buffer with the double of the capacity of the current buffer.
+	 *
+	 * @throws OutOfMemoryError if the arena can't grow more
+	 */
+	private void grow() {
+		if (this.buffer.capacity() == Integer.MAX_VALUE)
+			throw new OutOfMemoryError("Arena limit exceeded");
+
+		ByteBuffer old = this.buffer;
+		ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.min(Integer.MAX_VALUE, Math.max(64, (long) old.capacity() << 1)));
+
+		old.flip();
+		buffer.put(old);
+		this.buffer = buffer;
+	}
+
+	/**
+	 * A bean view over a stored bean. Reads and writes the arena directly. Its keys are the keys of the properties of the class of the arena. Its
+	 * entries can't be removed.
+	 */
+	public final class Record extends AbstractMap<Object, Object> implements FullBean<Object, Object> {
+		/**
+		 * The index of the bean of this view.
+		 */
+		private final int index;
+		/**
+		 * The entries of this view. Created when requested.
+		 */
+		private Set<Map.Entry<Object, Object>> entrySet;
+
+		/**
+		 * Construct a new view over the bean at the given index.
+		 *
+		 * @param index the index of the bean
+		 */
+		private Record(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException("clear");
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return BeanArena.this.codec.descriptor.indexOf(key) != -1;
+		}
+
+		@Override
+		public Set<Map.Entry<Object, Object>> entrySet() {
+			if (this.entrySet == null)
+				this.entrySet = new AbstractSet<Map.Entry<Object, Object>>() {
+					@Override
+					public Iterator<Map.Entry<Object, Object>> iterator() {
+						return new Iterator<Map.Entry<Object, Object>>() {
+							/**
+							 * The index of the next property.
+							 */
+							private int next;
+
+							@Override
+							public boolean hasNext() {
+								return this.next < BeanArena.this.codec.offsets.length;
+							}
+
+							@Override
+							public Map.Entry<Object, Object> next() {
+								if (this.next >= BeanArena.this.codec.offsets.length)
+									throw new NoSuchElementException();
+
+								int property = this.next++;
+								return new AbstractEntry<Object, Object>() {
+									@Override
+									public Object getKey() {
+										return BeanArena.this.codec.descriptor.getProperty(property).key;
+									}
+
+									@Override
+									public Object getValue() {
+										return Record.this.get(property);
+									}
+
+									@Override
+									public Object setValue(Object value) {
+										return Record.this.set(property, value);
+									}
+								};
+							}
+						};
+					}
+
+					@Override
+					public int size() {
+						return BeanArena.this.codec.offsets.length;
+					}
+				};
+
+			return this.entrySet;
+		}
+
+		@Override
+		public Object get(Object key) {
+			int property = BeanArena.this.codec.descriptor.indexOf(key);
+			return property == -1 ? null : this.get(property);
+		}
+
+		@Override
+		public Object put(Object key, Object value) {
+			int property = BeanArena.this.codec.descriptor.indexOf(key);
+
+			if (property == -1)
+				throw new UnsupportedOperationException("Can't store the key: " + key);
+
+			return this.set(property, value);
+		}
+
+		@Override
+		public Object remove(Object key) {
+			throw new UnsupportedOperationException("remove");
+		}
+
+		@Override
+		public int size() {
+			return BeanArena.this.codec.offsets.length;
+		}
+
+		@Override
+		public double getDouble(Object key) {
+			int property = BeanArena.this.codec.descriptor.indexOf(key);
+
+			if (property != -1 && BeanArena.this.codec.descriptor.getProperty(property).field.getType() == double.class)
+				return BeanArena.this.buffer.getDouble(this.slot(property));
+
+			return ((Number) this.get(key)).doubleValue();
+		}
+
+		@Override
+		public int getInt(Object key) {
+			int property = BeanArena.this.codec.descriptor.indexOf(key);
+
+			if (property != -1 && BeanArena.this.codec.descriptor.getProperty(property).field.getType() == int.class)
+				return BeanArena.this.buffer.getInt(this.slot(property));
+
+			return ((Number) this.get(key)).intValue();
+		}
+
+		@Override
+		public long getLong(Object key) {
+			int property = BeanArena.this.codec.descriptor.indexOf(key);
+
+			if (property != -1 && BeanArena.this.codec.descriptor.getProperty(property).field.getType() == long.class)
+				return BeanArena.this.buffer.getLong(this.slot(property));
+
+			return ((Number) this.get(key)).longValue();
+		}
+
+		/**
+		 * Get the index of the bean of this view.
+		 *
+		 * @return the index of the bean
+		 */
+		public int getIndex() {
+			return this.index;
+		}
+
+		@Override
+		public void setDouble(Object key, double value) {
+			int property = BeanArena.this.codec.descriptor.indexOf(key);
+			BeanDescriptor.PropertyDescriptor descriptor = property == -1 ? null : BeanArena.this.codec.descriptor.getProperty(property);
+
+			if (descriptor != null && descriptor.natural && descriptor.field.getType() == double.class)
+				BeanArena.this.buffer.putDouble(this.slot(property), value);
+			else
+				this.put(key, value);
+		}
+
+		@Override
+		public void setInt(Object key, int value) {
+			int property = BeanArena.this.codec.descriptor.indexOf(key);
+			BeanDescriptor.PropertyDescriptor descriptor = property == -1 ? null : BeanArena.this.codec.descriptor.getProperty(property);
+
+			if (descriptor != null && descriptor.natural && descriptor.field.getType() == int.class)
+				BeanArena.this.buffer.putInt(this.slot(property), value);
+			else
+				this.put(key, value);
+		}
+
+		@Override
+		public void setLong(Object key, long value) {
+			int property = BeanArena.this.codec.descriptor.indexOf(key);
+			BeanDescriptor.PropertyDescriptor descriptor = property == -1 ? null : BeanArena.this.codec.descriptor.getProperty(property);
+
+			if (descriptor != null && descriptor.natural && descriptor.field.getType() == long.class)
+				BeanArena.this.buffer.putLong(this.slot(property), value);
+			else
+				this.put(key, value);
+		}
+
+		/**
+		 * Decode the stored values of this view to the properties of the given instance. (The values are written as they are) The properties with
+		 * final fields are skipped.
+		 *
+		 * @param instance the instance to write to
+		 * @param <T>      the type of the instance
+		 * @return the given instance
+		 * @throws NullPointerException     if the given 'instance' is null
+		 * @throws IllegalArgumentException if the given 'instance' is not an instance of the class of the arena. Or a value can't be decoded
+		 */
+		public <T> T load(T instance) {
+			Objects.requireNonNull(instance, "instance");
+
+			for (int i = 0; i < BeanArena.this.codec.offsets.length; i++) {
+				BeanDescriptor.PropertyDescriptor property = BeanArena.this.codec.descriptor.getProperty(i);
+
+				if (property.setter != null)
+					property.write(instance, property.wrap(this.get(i)));
+			}
+
+			return instance;
+		}
+
+		/**
+		 * Decode the value of the property at the given index.
+		 *
+		 * @param property the index of the property
+		 * @return the stored value of the property (boxed if primitive)
+		 */
+		private Object get(int property) {
+			return BeanArena.this.codec.decode(BeanArena.this.buffer, property, this.slot(property));
+		}
+
+		/**
+		 * Store the given value as the value of the property at the given index. The value will be converted like the values of the fields of
+		 * beans.
+		 *
+		 * @param property the index of the property
+		 * @param value    the value to be stored
+		 * @return the previous value
+		 * @throws IllegalArgumentException if the value can't be encoded
+		 */
+		private Object set(int property, Object value) {
+			BeanArena arena = BeanArena.this;
+			BeanDescriptor.PropertyDescriptor descriptor = arena.codec.descriptor.getProperty(property);
+			Object old = this.get(property);
+			//the values of lazy properties are stored computed
+			Object converted = descriptor.unwrap(descriptor.prepare(value));
+			boolean primitive = descriptor.field.getType().isPrimitive();
+			int length = primitive ? 0 : arena.buffer.getInt(this.slot(property) + 4);
+			int position = arena.buffer.position();
+
+			while (true)
+				try {
+					arena.codec.store(property, converted, arena.buffer, 0, this.slot(property));
+					break;
+				} catch (BufferOverflowException e) {
+					arena.buffer.position(position);
+					arena.grow();
+				}
+
+			arena.garbage += length;
+			return old;
+		}
+
+		/**
+		 * Get the position of the slot of the property at the given index.
+		 *
+		 * @param property the index of the property
+		 * @return the position of the slot at the buffer of the arena
+		 */
+		private int slot(int property) {
+			return BeanArena.this.records[this.index] + BeanArena.this.codec.offsets[property];
+		}
+	}
+}
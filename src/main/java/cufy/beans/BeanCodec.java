@@ -0,0 +1,767 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.io.*;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * A codec that writes collections of beans of the same class to byte buffers (heap, direct or memory-mapped) using the layout of the properties of
+ * that class. And reads them back lazily.
+ * <br/>
+ * The encoded form is a header, then a record for each bean, then a heap. The records have a fixed size. Each property has a fixed slot at the
+ * record (its index decides its position). Primitive values are stored at their slots as raw bytes. Other values are stored at the heap and their
+ * slots hold where they are at the heap. So a property of a bean can be decoded without decoding anything else.
+ * <br/>
+ * The values at the heap are tagged. Strings and the wrappers of the primitives are stored as raw bytes. Other values are stored using java
+ * serialization (so they have to be {@link Serializable}). The values of {@link Lazy lazy} properties are computed when they get encoded (only
+ * the values are stored), and are decoded as already computed lazy objects.
+ * <br/>
+ * The positions at a block are {@code int}s. So a single block is limited to {@link #MAX_BLOCK} bytes (just under 2 GB). Larger collections should
+ * be split into chunks with a block for each chunk (the blocks can be encoded one after another at the same buffer, or at different buffers).
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public final class BeanCodec {
+	/**
+	 * The maximum number of bytes of an encoded block. (The largest array most virtual machines can allocate)
+	 */
+	public static final int MAX_BLOCK = Integer.MAX_VALUE - 8;
+
+	/**
+	 * The cached codecs.
+	 */
+	private static final ClassValue<BeanCodec> codecs = new ClassValue<BeanCodec>() {
+		@Override
+		protected BeanCodec computeValue(Class<?> klass) {
+			return new BeanCodec(BeanDescriptor.of(klass));
+		}
+	};
+
+	/**
+	 * The number of bytes of the header. (magic, fingerprint, count, record size and length)
+	 */
+	private static final int HEADER = 20;
+	/**
+	 * The first int of every encoded block.
+	 */
+	private static final int MAGIC = 0x43424243;
+
+	/**
+	 * The tag of a {@link Boolean} value.
+	 */
+	private static final byte BOOLEAN = 1;
+	/**
+	 * The tag of a {@link Byte} value.
+	 */
+	private static final byte BYTE = 2;
+	/**
+	 * The tag of a {@link Character} value.
+	 */
+	private static final byte CHAR = 3;
+	/**
+	 * The tag of a {@link Double} value.
+	 */
+	private static final byte DOUBLE = 4;
+	/**
+	 * The tag of a {@link Float} value.
+	 */
+	private static final byte FLOAT = 5;
+	/**
+	 * The tag of an {@link Integer} value.
+	 */
+	private static final byte INT = 6;
+	/**
+	 * The tag of a {@link Long} value.
+	 */
+	private static final byte LONG = 7;
+	/**
+	 * The tag of a value stored using java serialization.
+	 */
+	private static final byte SERIAL = 8;
+	/**
+	 * The tag of a {@link Short} value.
+	 */
+	private static final byte SHORT = 9;
+	/**
+	 * The tag of a {@link String} value (stored as UTF-8).
+	 */
+	private static final byte STRING = 10;
+
+	/**
+	 * The descriptor of the class of this codec.
+	 */
+	final BeanDescriptor descriptor;
+	/**
+	 * The offset of the slot of each property at a record.
+	 */
+	final int[] offsets;
+	/**
+	 * The number of bytes of each record.
+	 */
+	final int recordSize;
+
+	/**
+	 * Construct a new codec for the class of the given descriptor.
+	 *
+	 * @param descriptor the descriptor of the class
+	 */
+	private BeanCodec(BeanDescriptor descriptor) {
+		int size = 0;
+
+		this.descriptor = descriptor;
+		this.offsets = new int[descriptor.size()];
+
+		for (int i = 0; i < this.offsets.length; i++) {
+			this.offsets[i] = size;
+			size += width(descriptor.getProperty(i).field.getType());
+		}
+
+		this.recordSize = size;
+	}
+
+	/**
+	 * Get the codec of the given class.
+	 *
+	 * @param klass the class of the beans to be encoded
+	 * @return the codec of the given class
+	 * @throws NullPointerException if the given 'klass' is null
+	 */
+	public static BeanCodec of(Class<?> klass) {
+		Objects.requireNonNull(klass, "klass");
+		return codecs.get(klass);
+	}
+
+	/**
+	 * Get the number of bytes of the slot of a property with a field of the given type.
+	 *
+	 * @param type the type of the field
+	 * @return the width of the slot
+	 */
+	private static int width(Class<?> type) {
+		if (type == boolean.class || type == byte.class)
+			return 1;
+		if (type == char.class || type == short.class)
+			return 2;
+		if (type == int.class || type == float.class)
+			return 4;
+
+		//long, double and references (position and length at the heap)
+		return 8;
+	}
+
+	/**
+	 * Decode the beans encoded at the given buffer (starting at its position) to new instances created by the given factory. The values are written
+	 * directly to the fields (without being converted). The properties with final fields are skipped. The position of the buffer will be set to the
+	 * end of the encoded beans.
+	 *
+	 * @param buffer  the buffer to decode from
+	 * @param factory the factory of the instances
+	 * @param <T>     the type of the instances
+	 * @return a new list of the decoded instances
+	 * @throws NullPointerException     if the given 'buffer' or 'factory' is null
+	 * @throws IllegalArgumentException if the buffer was not encoded by a codec of a class with the same layout. Or a value can't be decoded
+	 */
+	public <T> List<T> decode(ByteBuffer buffer, Supplier<? extends T> factory) {
+		Objects.requireNonNull(buffer, "buffer");
+		Objects.requireNonNull(factory, "factory");
+		List<View> views = this.view(buffer);
+		List<T> beans = new ArrayList<>(views.size());
+
+		for (View view : views) {
+			T bean = factory.get();
+			view.load(bean);
+			beans.add(bean);
+		}
+
+		return beans;
+	}
+
+	/**
+	 * Encode the given beans to a new heap buffer. The returned buffer is flipped (ready to be read). The buffer grows while the beans are encoded.
+	 * Without encoding the already encoded beans again.
+	 *
+	 * @param beans the beans to be encoded
+	 * @return a new buffer containing the encoded beans
+	 * @throws NullPointerException     if the given 'beans' is null or contains null
+	 * @throws IllegalArgumentException if a bean is not an instance of the class of this codec. Or a value can't be encoded. Or the encoded beans
+	 *                                  don't fit at a single block (larger than {@link #MAX_BLOCK})
+	 */
+	public ByteBuffer encode(Collection<?> beans) {
+		Objects.requireNonNull(beans, "beans");
+		long heap = HEADER + (long) beans.size() * this.recordSize;
+
+		if (heap > MAX_BLOCK)
+			throw new IllegalArgumentException("The records of " + beans.size() + " beans don't fit at a single block");
+
+		ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(MAX_BLOCK, heap + 16L * beans.size()));
+		int record = HEADER;
+		int count = 0;
+
+		buffer.position((int) heap);
+
+		for (Object bean : beans) {
+			int position = buffer.position();
+
+			while (true)
+				try {
+					this.encode(bean, buffer, 0, record);
+					break;
+				} catch (BufferOverflowException e) {
+					if (buffer.capacity() == MAX_BLOCK)
+						throw new IllegalArgumentException("The encoded beans don't fit at a single block (" + MAX_BLOCK + " bytes)", e);
+
+					//keep the encoded beans, and encode the current one again
+					ByteBuffer grown = ByteBuffer.allocate((int) Math.min(MAX_BLOCK, buffer.capacity() * 2L));
+					buffer.position(0).limit(position);
+					grown.put(buffer);
+					buffer = grown;
+				}
+
+			record += this.recordSize;
+			count++;
+		}
+
+		this.header(buffer, 0, count);
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Encode the given beans to the given buffer. Starting at the position of the buffer. The position of the buffer will be set to the end of the
+	 * encoded beans.
+	 *
+	 * @param beans  the beans to be encoded
+	 * @param buffer the buffer to encode to (can be a direct or a mapped buffer)
+	 * @throws NullPointerException     if the given 'beans' or 'buffer' is null. Or if the given 'beans' contains null
+	 * @throws IllegalArgumentException if a bean is not an instance of the class of this codec. Or a value can't be encoded
+	 * @throws BufferOverflowException  if the remaining bytes of the given 'buffer' are not enough
+	 */
+	public void encode(Collection<?> beans, ByteBuffer buffer) {
+		Objects.requireNonNull(beans, "beans");
+		Objects.requireNonNull(buffer, "buffer");
+		int base = buffer.position();
+		int count = beans.size();
+		long heap = HEADER + (long) count * this.recordSize;
+
+		if (heap > buffer.remaining())
+			throw new BufferOverflowException();
+
+		buffer.position(base + (int) heap);
+
+		int record = base + HEADER;
+		for (Object bean : beans) {
+			this.encode(bean, buffer, base, record);
+			record += this.recordSize;
+		}
+
+		this.header(buffer, base, count);
+	}
+
+	/**
+	 * Get the number of bytes of each record.
+	 *
+	 * @return the record size of this codec
+	 */
+	public int getRecordSize() {
+		return this.recordSize;
+	}
+
+	/**
+	 * Get an unmodifiable list of views over the beans encoded at the given buffer (starting at its position). Nothing is decoded until it get
+	 * accessed through a view. The views reads from the given buffer. So the given buffer should not be changed while they are in use. The position
+	 * of the buffer will be set to the end of the encoded beans.
+	 *
+	 * @param buffer the buffer containing the encoded beans
+	 * @return a list of views over the encoded beans
+	 * @throws NullPointerException     if the given 'buffer' is null
+	 * @throws IllegalArgumentException if the buffer was not encoded by a codec of a class with the same layout. Or if its header is corrupted (its
+	 *                                  count of beans or its length don't fit the buffer)
+	 */
+	public List<View> view(ByteBuffer buffer) {
+		Objects.requireNonNull(buffer, "buffer");
+		int base = buffer.position();
+
+		if (buffer.remaining() < HEADER || buffer.getInt(base) != MAGIC)
+			throw new IllegalArgumentException("Not an encoded block of beans");
+		if (buffer.getInt(base + 4) != this.descriptor.getFingerprint() || buffer.getInt(base + 12) != this.recordSize)
+			throw new IllegalArgumentException("Incompatible layout of properties for " + this.descriptor.getKlass());
+
+		int count = buffer.getInt(base + 8);
+		int length = buffer.getInt(base + 16);
+
+		if (count < 0 || length > buffer.remaining() || HEADER + (long) count * this.recordSize > length)
+			throw new IllegalArgumentException("Corrupted header (count: " + count + ", length: " + length + ", remaining: " + buffer.remaining() + ")");
+
+		ByteBuffer block = buffer.duplicate();
+		block.limit(base + length);
+		block = block.slice();
+		buffer.position(base + length);
+
+		ByteBuffer source = block;
+		return new AbstractList<View>() {
+			@Override
+			public View get(int index) {
+				if (index < 0 || index >= count)
+					throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+
+				return BeanCodec.this.new View(source, HEADER + index * BeanCodec.this.recordSize);
+			}
+
+			@Override
+			public int size() {
+				return count;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return "BeanCodec(" + this.descriptor.getKlass().getName() + ")";
+	}
+
+	/**
+	 * Encode the given bean. Its record at the given position and its values that are not primitive appended to the heap (at the position of the
+	 * buffer).
+	 *
+	 * @param bean   the bean to be encoded
+	 * @param buffer the buffer to write to
+	 * @param base   the position of the start of the encoded block
+	 * @param record the position of the record of the bean
+	 * @throws NullPointerException     if the given 'bean' is null
+	 * @throws IllegalArgumentException if the given 'bean' is not an instance of the class of this codec. Or a value can't be encoded
+	 * @throws BufferOverflowException  if the buffer has no room for the values of the bean
+	 */
+	void encode(Object bean, ByteBuffer buffer, int base, int record) {
+		Objects.requireNonNull(bean, "bean");
+
+		if (!this.descriptor.getKlass().isInstance(bean))
+			throw new IllegalArgumentException(bean + " is not an instance of " + this.descriptor.getKlass());
+
+		for (int i = 0; i < this.offsets.length; i++)
+			this.encode(bean, i, buffer, base, record + this.offsets[i]);
+	}
+
+	/**
+	 * Write the header of a block that has been encoded at the given buffer (from the given base to the position of the buffer).
+	 *
+	 * @param buffer the buffer containing the block
+	 * @param base   the position of the start of the block
+	 * @param count  the number of the encoded beans
+	 */
+	private void header(ByteBuffer buffer, int base, int count) {
+		buffer.putInt(base, MAGIC);
+		buffer.putInt(base + 4, this.descriptor.getFingerprint());
+		buffer.putInt(base + 8, count);
+		buffer.putInt(base + 12, this.recordSize);
+		buffer.putInt(base + 16, buffer.position() - base);
+	}
+
+	/**
+	 * Read the value of the property at the given index from the given buffer.
+	 *
+	 * @param buffer the buffer containing the encoded beans (starting at zero)
+	 * @param index  the index of the property
+	 * @param slot   the position of the slot of the property at the buffer
+	 * @return the value of the property (boxed if primitive)
+	 * @throws IllegalArgumentException if the value is stored using java serialization and can't be decoded
+	 */
+	Object decode(ByteBuffer buffer, int index, int slot) {
+		Class<?> type = this.descriptor.getProperty(index).field.getType();
+
+		if (type == int.class)
+			return buffer.getInt(slot);
+		if (type == long.class)
+			return buffer.getLong(slot);
+		if (type == double.class)
+			return buffer.getDouble(slot);
+		if (type == boolean.class)
+			return buffer.get(slot) != 0;
+		if (type == byte.class)
+			return buffer.get(slot);
+		if (type == char.class)
+			return buffer.getChar(slot);
+		if (type == short.class)
+			return buffer.getShort(slot);
+		if (type == float.class)
+			return buffer.getFloat(slot);
+
+		int position = buffer.getInt(slot);
+		int length = buffer.getInt(slot + 4);
+
+		if (position == -1)
+			return null;
+
+		switch (buffer.get(position)) {
+			case BOOLEAN:
+				return buffer.get(position + 1) != 0;
+			case BYTE:
+				return buffer.get(position + 1);
+			case CHAR:
+				return buffer.getChar(position + 1);
+			case DOUBLE:
+				return buffer.getDouble(position + 1);
+			case FLOAT:
+				return buffer.getFloat(position + 1);
+			case INT:
+				return buffer.getInt(position + 1);
+			case LONG:
+				return buffer.getLong(position + 1);
+			case SHORT:
+				return buffer.getShort(position + 1);
+			case STRING:
+				return new String(bytes(buffer, position + 1, length - 1), StandardCharsets.UTF_8);
+			case SERIAL:
+				try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes(buffer, position + 1, length - 1)))) {
+					return input.readObject();
+				} catch (IOException | ClassNotFoundException e) {
+					throw new IllegalArgumentException("Can't decode " + this.descriptor.getProperty(index).field, e);
+				}
+			default:
+				throw new IllegalArgumentException("Unknown tag at " + position);
+		}
+	}
+
+	/**
+	 * Encode the value of the property at the given index of the given bean. Primitive values are written at the slot. Other values are appended to
+	 * the heap (at the position of the buffer) and their position (relative to the given base) and length are written at the slot.
+	 *
+	 * @param bean   the bean to read the value from
+	 * @param index  the index of the property
+	 * @param buffer the buffer to write to
+	 * @param base   the position of the start of the encoded block
+	 * @param slot   the position of the slot of the property
+	 * @throws IllegalArgumentException if the value can't be encoded
+	 * @throws BufferOverflowException  if the buffer has no room for the value
+	 */
+	void encode(Object bean, int index, ByteBuffer buffer, int base, int slot) {
+		BeanDescriptor.PropertyDescriptor property = this.descriptor.getProperty(index);
+		Class<?> type = property.field.getType();
+
+		if (type == int.class)
+			buffer.putInt(slot, property.readInt(bean));
+		else if (type == long.class)
+			buffer.putLong(slot, property.readLong(bean));
+		else if (type == double.class)
+			buffer.putDouble(slot, property.readDouble(bean));
+		else
+			this.store(index, property.unwrap(property.read(bean)), buffer, base, slot);
+	}
+
+	/**
+	 * Encode the given value as the value of the property at the given index. Primitive values (boxed) are written at the slot. Other values are
+	 * appended to the heap (at the position of the buffer) and their position (relative to the given base) and length are written at the slot.
+	 *
+	 * @param index  the index of the property
+	 * @param value  the value to be encoded (an instance of the type of the field of the property)
+	 * @param buffer the buffer to write to
+	 * @param base   the position of the start of the encoded block
+	 * @param slot   the position of the slot of the property
+	 * @throws IllegalArgumentException if the value can't be encoded
+	 * @throws BufferOverflowException  if the buffer has no room for the value
+	 */
+	void store(int index, Object value, ByteBuffer buffer, int base, int slot) {
+		BeanDescriptor.PropertyDescriptor property = this.descriptor.getProperty(index);
+		Class<?> type = property.field.getType();
+
+		try {
+			if (type == int.class)
+				buffer.putInt(slot, (Integer) value);
+			else if (type == long.class)
+				buffer.putLong(slot, (Long) value);
+			else if (type == double.class)
+				buffer.putDouble(slot, (Double) value);
+			else if (type == boolean.class)
+				buffer.put(slot, (byte) ((Boolean) value ? 1 : 0));
+			else if (type == byte.class)
+				buffer.put(slot, (Byte) value);
+			else if (type == char.class)
+				buffer.putChar(slot, (Character) value);
+			else if (type == short.class)
+				buffer.putShort(slot, (Short) value);
+			else if (type == float.class)
+				buffer.putFloat(slot, (Float) value);
+			else if (value == null) {
+				buffer.putInt(slot, -1);
+				buffer.putInt(slot + 4, 0);
+			} else {
+				int position = buffer.position();
+
+				if (value instanceof String) {
+					buffer.put(STRING).put(((String) value).getBytes(StandardCharsets.UTF_8));
+				} else if (value instanceof Integer) {
+					buffer.put(INT).putInt((Integer) value);
+				} else if (value instanceof Long) {
+					buffer.put(LONG).putLong((Long) value);
+				} else if (value instanceof Double) {
+					buffer.put(DOUBLE).putDouble((Double) value);
+				} else if (value instanceof Boolean) {
+					buffer.put(BOOLEAN).put((byte) ((Boolean) value ? 1 : 0));
+				} else if (value instanceof Byte) {
+					buffer.put(BYTE).put((Byte) value);
+				} else if (value instanceof Character) {
+					buffer.put(CHAR).putChar((Character) value);
+				} else if (value instanceof Short) {
+					buffer.put(SHORT).putShort((Short) value);
+				} else if (value instanceof Float) {
+					buffer.put(FLOAT).putFloat((Float) value);
+				} else {
+					ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+					try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+						output.writeObject(value);
+					} catch (IOException e) {
+						throw new IllegalArgumentException("Can't encode " + value + " for " + property.field, e);
+					}
+
+					buffer.put(SERIAL).put(bytes.toByteArray());
+				}
+
+				buffer.putInt(slot, position - base);
+				buffer.putInt(slot + 4, buffer.position() - position);
+			}
+		} catch (ClassCastException | NullPointerException e) {
+			throw new IllegalArgumentException("Can't encode " + value + " for " + property.field, e);
+		}
+	}
+
+	/**
+	 * Copy a range of bytes from the given buffer.
+	 *
+	 * @param buffer   the buffer to copy from
+	 * @param position the position of the first byte
+	 * @param length   the number of bytes
+	 * @return a new array containing the bytes at the given range
+	 */
+	private static byte[] bytes(ByteBuffer buffer, int position, int length) {
+		byte[] bytes = new byte[length];
+		ByteBuffer duplicate = buffer.duplicate();
+		duplicate.position(position);
+		duplicate.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * A read-only view over an encoded bean. Decodes a property only when it get accessed. The keys of this map are the keys of the properties of
+	 * the class of the codec.
+	 */
+	public final class View extends AbstractMap<Object, Object> {
+		/**
+		 * The buffer containing the encoded beans (starting at zero).
+		 */
+		private final ByteBuffer buffer;
+		/**
+		 * The position of the record of the bean of this view.
+		 */
+		private final int record;
+		/**
+		 * The entries of this view. Created when requested.
+		 */
+		private Set<Map.Entry<Object, Object>> entrySet;
+
+		/**
+		 * Construct a new view.
+		 *
+		 * @param buffer the buffer containing the encoded beans
+		 * @param record the position of the record of the bean
+		 */
+		private View(ByteBuffer buffer, int record) {
+			this.buffer = buffer;
+			this.record = record;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return BeanCodec.this.descriptor.indexOf(key) != -1;
+		}
+
+		@Override
+		public Set<Map.Entry<Object, Object>> entrySet() {
+			if (this.entrySet == null)
+				this.entrySet = new AbstractSet<Map.Entry<Object, Object>>() {
+					@Override
+					public Iterator<Map.Entry<Object, Object>> iterator() {
+						return new Iterator<Map.Entry<Object, Object>>() {
+							/**
+							 * The index of the next property.
+							 */
+							private int next;
+
+							@Override
+							public boolean hasNext() {
+								return this.next < BeanCodec.this.offsets.length;
+							}
+
+							@Override
+							public Map.Entry<Object, Object> next() {
+								if (this.next >= BeanCodec.this.offsets.length)
+									throw new NoSuchElementException();
+
+								int index = this.next++;
+								return new AbstractEntry<Object, Object>() {
+									@Override
+									public Object getKey() {
+										return BeanCodec.this.descriptor.getProperty(index).key;
+									}
+
+									@Override
+									public Object getValue() {
+										return View.this.get(index);
+									}
+								};
+							}
+						};
+					}
+
+					@Override
+					public int size() {
+						return BeanCodec.this.offsets.length;
+					}
+				};
+
+			return this.entrySet;
+		}
+
+		@Override
+		public Object get(Object key) {
+			int index = BeanCodec.this.descriptor.indexOf(key);
+			return index == -1 ? null : this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return BeanCodec.this.offsets.length;
+		}
+
+		/**
+		 * Get the value of the property at the given index.
+		 *
+		 * @param index the index of the property
+		 * @return the decoded value of the property (boxed if primitive)
+		 * @throws IndexOutOfBoundsException if the given 'index' is out of bounds
+		 * @throws IllegalArgumentException  if the value can't be decoded
+		 */
+		public Object get(int index) {
+			return BeanCodec.this.decode(this.buffer, index, this.record + BeanCodec.this.offsets[index]);
+		}
+
+		/**
+		 * Get the value of the property with the given key as {@code double}. Without boxing if its field is {@code double}.
+		 *
+		 * @param key the key of the property
+		 * @return the value of the property
+		 * @throws IllegalArgumentException if there is no property with the given key
+		 * @throws NullPointerException     if the field of the property is not {@code double} and its value is null
+		 * @throws ClassCastException       if the field of the property is not {@code double} and its value is not a number
+		 */
+		public double getDouble(Object key) {
+			int index = this.indexOf(key);
+
+			if (BeanCodec.this.descriptor.getProperty(index).field.getType() == double.class)
+				return this.buffer.getDouble(this.record + BeanCodec.this.offsets[index]);
+
+			return ((Number) this.get(index)).doubleValue();
+		}
+
+		/**
+		 * Get the value of the property with the given key as {@code int}. Without boxing if its field is {@code int}.
+		 *
+		 * @param key the key of the property
+		 * @return the value of the property
+		 * @throws IllegalArgumentException if there is no property with the given key
+		 * @throws NullPointerException     if the field of the property is not {@code int} and its value is null
+		 * @throws ClassCastException       if the field of the property is not {@code int} and its value is not a number
+		 */
+		public int getInt(Object key) {
+			int index = this.indexOf(key);
+
+			if (BeanCodec.this.descriptor.getProperty(index).field.getType() == int.class)
+				return this.buffer.getInt(this.record + BeanCodec.this.offsets[index]);
+
+			return ((Number) this.get(index)).intValue();
+		}
+
+		/**
+		 * Get the value of the property with the given key as {@code long}. Without boxing if its field is {@code long}.
+		 *
+		 * @param key the key of the property
+		 * @return the value of the property
+		 * @throws IllegalArgumentException if there is no property with the given key
+		 * @throws NullPointerException     if the field of the property is not {@code long} and its value is null
+		 * @throws ClassCastException       if the field of the property is not {@code long} and its value is not a number
+		 */
+		public long getLong(Object key) {
+			int index = this.indexOf(key);
+
+			if (BeanCodec.this.descriptor.getProperty(index).field.getType() == long.class)
+				return this.buffer.getLong(this.record + BeanCodec.this.offsets[index]);
+
+			return ((Number) this.get(index)).longValue();
+		}
+
+		/**
+		 * Decode all the properties of this view to the given instance. The values are written directly to the fields (without being converted). The
+		 * properties with final fields are skipped.
+		 *
+		 * @param instance the instance to decode to
+		 * @throws NullPointerException     if the given 'instance' is null
+		 * @throws IllegalArgumentException if the given 'instance' is not an instance of the class of the codec. Or a value can't be decoded
+		 */
+		public void load(Object instance) {
+			Objects.requireNonNull(instance, "instance");
+
+			for (int i = 0; i < BeanCodec.this.offsets.length; i++) {
+				BeanDescriptor.PropertyDescriptor property = BeanCodec.this.descriptor.getProperty(i);
+				Class<?> type = property.field.getType();
+				int slot = this.record + BeanCodec.this.offsets[i];
+
+				if (property.setter == null)
+					continue;
+
+				if (type == int.class)
+					property.writeInt(instance, this.buffer.getInt(slot));
+				else if (type == long.class)
+					property.writeLong(instance, this.buffer.getLong(slot));
+				else if (type == double.class)
+					property.writeDouble(instance, this.buffer.getDouble(slot));
+				else
+					property.write(instance, property.wrap(BeanCodec.this.decode(this.buffer, i, slot)));
+			}
+		}
+
+		/**
+		 * Get the index of the property with the given key.
+		 *
+		 * @param key the key of the property
+		 * @return the index of the property
+		 * @throws IllegalArgumentException if there is no property with the given key
+		 */
+		private int indexOf(Object key) {
+			int index = BeanCodec.this.descriptor.indexOf(key);
+
+			if (index == -1)
+				throw new IllegalArgumentException("No property with the key: " + key);
+
+			return index;
+		}
+	}
+}
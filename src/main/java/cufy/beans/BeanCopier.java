@@ -0,0 +1,220 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A compiled plan to copy the properties of the instances of a class to the instances of another class. The properties are paired by their keys
+ * once (when the plan is compiled). Then each copy reads and writes the paired properties directly using the accessors of the classes. Without
+ * looking up any key. The values are converted only if the type of the source property is not assignable to the type of the target property.
+ * And primitive values are copied without boxing when both of the fields have the same primitive type. The lazy objects of {@link Lazy lazy}
+ * properties are copied as they are (without being computed) to lazy properties. And as their values to other properties.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public final class BeanCopier {
+	/**
+	 * The cached copiers. Mapped by the source class then by the target class.
+	 */
+	private static final ClassValue<ClassValue<BeanCopier>> copiers = new ClassValue<ClassValue<BeanCopier>>() {
+		@Override
+		protected ClassValue<BeanCopier> computeValue(Class<?> source) {
+			return new ClassValue<BeanCopier>() {
+				@Override
+				protected BeanCopier computeValue(Class<?> target) {
+					return new BeanCopier(BeanDescriptor.of(source), BeanDescriptor.of(target));
+				}
+			};
+		}
+	};
+
+	/**
+	 * Copy the value using the converter of the target property.
+	 */
+	private static final int CONVERT = 0;
+	/**
+	 * Copy the value as it is.
+	 */
+	private static final int DIRECT = 1;
+	/**
+	 * Copy the value as {@code double}.
+	 */
+	private static final int DOUBLE = 2;
+	/**
+	 * Copy the value as {@code int}.
+	 */
+	private static final int INT = 3;
+	/**
+	 * Copy the value from or to a {@link Lazy lazy} property (unwrapping it from the source and preparing it for the target).
+	 */
+	private static final int LAZY = 4;
+	/**
+	 * Copy the value as {@code long}.
+	 */
+	private static final int LONG = 5;
+
+	/**
+	 * How each pair should be copied.
+	 */
+	private final int[] modes;
+	/**
+	 * The descriptor of the source class.
+	 */
+	private final BeanDescriptor source;
+	/**
+	 * The indexes of the source properties of the pairs.
+	 */
+	private final int[] sources;
+	/**
+	 * The descriptor of the target class.
+	 */
+	private final BeanDescriptor target;
+	/**
+	 * The indexes of the target properties of the pairs.
+	 */
+	private final int[] targets;
+
+	/**
+	 * Compile a new copier.
+	 *
+	 * @param source the descriptor of the source class
+	 * @param target the descriptor of the target class
+	 */
+	private BeanCopier(BeanDescriptor source, BeanDescriptor target) {
+		List<BeanDescriptor.PropertyDescriptor> pairs = new ArrayList<>();
+
+		for (BeanDescriptor.PropertyDescriptor property : target.getProperties()) {
+			BeanDescriptor.PropertyDescriptor from = source.getProperty(property.key);
+
+			if (from != null) {
+				pairs.add(from);
+				pairs.add(property);
+			}
+		}
+
+		this.source = source;
+		this.target = target;
+		this.sources = new int[pairs.size() / 2];
+		this.targets = new int[pairs.size() / 2];
+		this.modes = new int[pairs.size() / 2];
+
+		for (int i = 0; i < this.modes.length; i++) {
+			BeanDescriptor.PropertyDescriptor from = pairs.get(i * 2);
+			BeanDescriptor.PropertyDescriptor to = pairs.get(i * 2 + 1);
+
+			this.sources[i] = from.index;
+			this.targets[i] = to.index;
+			this.modes[i] = mode(from, to);
+		}
+	}
+
+	/**
+	 * Get the copier that copies the properties of the instances of the given source class to the instances of the given target class.
+	 *
+	 * @param source the class to copy from
+	 * @param target the class to copy to
+	 * @return the copier from the given source class to the given target class
+	 * @throws NullPointerException if the given 'source' or 'target' is null
+	 */
+	public static BeanCopier of(Class<?> source, Class<?> target) {
+		Objects.requireNonNull(source, "source");
+		Objects.requireNonNull(target, "target");
+		return copiers.get(source).get(target);
+	}
+
+	/**
+	 * Determine how the value of the given source property should be copied to the given target property.
+	 *
+	 * @param from the source property
+	 * @param to   the target property
+	 * @return how the value should be copied
+	 */
+	private static int mode(BeanDescriptor.PropertyDescriptor from, BeanDescriptor.PropertyDescriptor to) {
+		Class<?> fromType = from.field.getType();
+		Class<?> toType = to.field.getType();
+
+		if (from.lazy || to.lazy)
+			//lazy to lazy shares the lazy object (without computing it)
+			return from.lazy && to.lazy ? DIRECT : LAZY;
+		if (to.natural && fromType == toType && fromType.isPrimitive())
+			return fromType == int.class ? INT : fromType == long.class ? LONG : fromType == double.class ? DOUBLE : DIRECT;
+		if (to.strict)
+			return DIRECT;
+		if (to.klass != null && from.klass != null && to.klass.isAssignableFrom(from.klass) && (fromType.isPrimitive() || !toType.isPrimitive()))
+			return DIRECT;
+
+		return CONVERT;
+	}
+
+	/**
+	 * Copy the values of the paired properties from the given source to the given target.
+	 *
+	 * @param source the instance to copy from
+	 * @param target the instance to copy to
+	 * @throws NullPointerException     if the given 'source' or 'target' is null
+	 * @throws IllegalArgumentException if the given 'source' or 'target' is not an instance of the class of this copier
+	 */
+	public void copy(Object source, Object target) {
+		Objects.requireNonNull(source, "source");
+		Objects.requireNonNull(target, "target");
+		BeanAccessor from = this.source.getAccessor();
+		BeanAccessor to = this.target.getAccessor();
+
+		for (int i = 0; i < this.modes.length; i++) {
+			int s = this.sources[i];
+			int t = this.targets[i];
+
+			switch (this.modes[i]) {
+				case INT:
+					to.setInt(target, t, from.getInt(source, s));
+					break;
+				case LONG:
+					to.setLong(target, t, from.getLong(source, s));
+					break;
+				case DOUBLE:
+					to.setDouble(target, t, from.getDouble(source, s));
+					break;
+				case DIRECT:
+					to.set(target, t, from.get(source, s));
+					break;
+				case LAZY:
+					to.set(target, t, this.target.getProperty(t).prepare(this.source.getProperty(s).unwrap(from.get(source, s))));
+					break;
+				default:
+					to.set(target, t, this.target.getProperty(t).convert(from.get(source, s)));
+			}
+		}
+	}
+
+	/**
+	 * Get the number of the paired properties. (The number of properties copied on each copy.)
+	 *
+	 * @return the number of pairs of this copier
+	 */
+	public int size() {
+		return this.modes.length;
+	}
+
+	@Override
+	public String toString() {
+		return "BeanCopier(" + this.source.getKlass().getName() + " -> " + this.target.getKlass().getName() + ")";
+	}
+}
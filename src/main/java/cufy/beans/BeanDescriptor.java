@@ -0,0 +1,1022 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import cufy.convert.Converter;
+import cufy.lang.Clazz;
+import cufy.meta.MetaClazz;
+import cufy.meta.MetaObject;
+import cufy.meta.MetaReference;
+import cufy.util.Reflect$;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The properties of a class. Resolved once for each class then cached. So the fields of a class don't get scanned (and their keys, types and
+ * converters don't get resolved) each time a bean of that class is accessed.
+ * <br/>
+ * The properties are ordered the same as the fields returned by {@link Reflect$#getAllFields(Class)}. When two fields have the same key, Only the
+ * first one will be a property.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public final class BeanDescriptor {
+	/**
+	 * The cached descriptors of the classes.
+	 */
+	private static final ClassValue<BeanDescriptor> descriptors = new ClassValue<BeanDescriptor>() {
+		@Override
+		protected BeanDescriptor computeValue(Class<?> klass) {
+			return new BeanDescriptor(klass);
+		}
+	};
+	/**
+	 * How many times a descriptor has been looked up (while the metrics were enabled).
+	 */
+	private static final LongAdder lookups = new LongAdder();
+	/**
+	 * How many times a descriptor has been resolved (a cache miss).
+	 */
+	private static final LongAdder resolutions = new LongAdder();
+
+	/**
+	 * The accessor used to access the properties of this descriptor. Resolved at first use.
+	 */
+	private volatile BeanAccessor accessor;
+	/**
+	 * The properties of all the fields annotated with {@link Bean.Property} (including the ones that have been shadowed by another field with the
+	 * same key).
+	 */
+	private final Map<Field, PropertyDescriptor> fields = new HashMap<>();
+	/**
+	 * A hash of the layout of the properties (their order, their fields and the types of their fields). Computed only from names. So it is the same
+	 * at any runtime for the same layout.
+	 */
+	private final int fingerprint;
+	/**
+	 * The class this descriptor is describing.
+	 */
+	private final Class<?> klass;
+	/**
+	 * The properties mapped by their keys.
+	 */
+	private final Map<Object, PropertyDescriptor> keys = new HashMap<>();
+	/**
+	 * The properties ordered by their index.
+	 */
+	private final PropertyDescriptor[] properties;
+	/**
+	 * An unmodifiable list view of {@link #properties}. (Returned by {@link #getProperties()})
+	 */
+	private final List<PropertyDescriptor> propertyList;
+
+	/**
+	 * Construct a new descriptor for the given class.
+	 *
+	 * @param klass the class to be described
+	 * @throws NullPointerException if the given 'klass' is null
+	 */
+	private BeanDescriptor(Class<?> klass) {
+		Objects.requireNonNull(klass, "klass");
+		long start = BeanMetrics.start();
+		List<PropertyDescriptor> properties = new ArrayList<>();
+		resolutions.increment();
+
+		long reflection = BeanMetrics.start();
+		List<Field> fields = Reflect$.getAllFields(klass);
+		BeanMetrics.record(klass, BeanMetrics.Operation.REFLECT, reflection, null);
+
+		for (Field field : fields)
+			if (field.isAnnotationPresent(Bean.Property.class)) {
+				Object key = resolveKey(field);
+				PropertyDescriptor property = this.keys.get(key);
+
+				if (property == null) {
+					property = new PropertyDescriptor(this, properties.size(), field, key);
+					properties.add(property);
+					this.keys.put(key, property);
+				}
+
+				this.fields.put(field, property.field == field ? property : new PropertyDescriptor(this, -1, field, key));
+			}
+
+		int fingerprint = 1;
+		for (PropertyDescriptor property : properties)
+			fingerprint = 31 * fingerprint + (property.field.getDeclaringClass().getName() + "." + property.field.getName() + ":" +
+											  property.field.getType().getName()).hashCode();
+
+		this.klass = klass;
+		this.fingerprint = fingerprint;
+		this.properties = properties.toArray(new PropertyDescriptor[0]);
+		this.propertyList = Collections.unmodifiableList(Arrays.asList(this.properties));
+		BeanMetrics.record(klass, BeanMetrics.Operation.DESCRIBE, start, this.properties.length);
+	}
+
+	/**
+	 * Get the descriptor of the given class.
+	 *
+	 * @param klass the class to get the descriptor of
+	 * @return the descriptor of the given class
+	 * @throws NullPointerException if the given 'klass' is null
+	 */
+	public static BeanDescriptor of(Class<?> klass) {
+		Objects.requireNonNull(klass, "klass");
+		if (BeanMetrics.isEnabled())
+			lookups.increment();
+
+		return descriptors.get(klass);
+	}
+
+	/**
+	 * Get how many times a descriptor has been looked up using {@link #of(Class)}. Counted only while the {@link BeanMetrics metrics} are enabled
+	 * (so that the lookups, which are on the hot path of every bean access, don't contend on a shared counter by default).
+	 *
+	 * @return the number of descriptor lookups
+	 */
+	public static long getLookupCount() {
+		return lookups.sum();
+	}
+
+	/**
+	 * Get how many times a descriptor has been resolved. (The properties of a class have been resolved from its annotations.) This should be
+	 * about the number of classes that have been used as beans.
+	 *
+	 * @return the number of descriptor resolutions
+	 */
+	public static long getResolutionCount() {
+		return resolutions.sum();
+	}
+
+	/**
+	 * Resolve the key of the given field from its {@link Bean.Property} annotation.
+	 *
+	 * @param field the field to resolve the key of
+	 * @return the key of the given field
+	 */
+	static Object resolveKey(Field field) {
+		MetaObject key = field.getAnnotation(Bean.Property.class).key();
+		return key.converter().type() == MetaReference.util.class ? field.getName() : MetaObject.util.get(key);
+	}
+
+	/**
+	 * Resolve the type of the given field from its {@link Bean.Property} annotation.
+	 *
+	 * @param field the field to resolve the type of
+	 * @return the type of the given field
+	 */
+	static Clazz resolveType(Field field) {
+		MetaClazz meta = field.getAnnotation(Bean.Property.class).type();
+		return meta.family() == MetaClazz.util.class && meta.value() == Object.class ?
+			   Clazz.of((Class) field.getType()) : MetaClazz.util.get(meta);
+	}
+
+	/**
+	 * Get the accessor of this descriptor. The accessor will be resolved at the first call. Using the generated companion of the described class
+	 * (named as the class followed by {@code $$BeanAccessor}) if it has one. Otherwise, using the first {@link BeanAccessor.Factory} (loaded using
+	 * {@link ServiceLoader} from the class loader of the described class) that supports this descriptor. Otherwise, generating a hidden accessor
+	 * class that accesses the fields directly (unless the runtime can't define one, or the system property {@code cufy.beans.generate} is {@code
+	 * false}). Or a {@link BeanAccessor.HandleAccessor} if none of them is available.
+	 *
+	 * @return the accessor of this descriptor
+	 * @throws IllegalStateException if the companion of the described class can't be constructed
+	 */
+	public BeanAccessor getAccessor() {
+		BeanAccessor accessor = this.accessor;
+
+		if (accessor == null) {
+			String companion = this.klass.getName() + "$$BeanAccessor";
+
+			try {
+				accessor = (BeanAccessor) Class.forName(companion, true, this.klass.getClassLoader())
+						.getConstructor(BeanDescriptor.class)
+						.newInstance(this);
+			} catch (ClassNotFoundException ignored) {
+				for (BeanAccessor.Factory factory : ServiceLoader.load(BeanAccessor.Factory.class, this.klass.getClassLoader()))
+					if ((accessor = factory.newAccessor(this)) != null)
+						break;
+			} catch (ReflectiveOperationException | ClassCastException e) {
+				throw new IllegalStateException("Can't construct the companion " + companion, e);
+			}
+
+			if (accessor == null)
+				accessor = BeanAccessorGenerator.generate(this);
+
+			this.accessor = accessor = accessor == null ? new BeanAccessor.HandleAccessor(this) : accessor;
+		}
+
+		return accessor;
+	}
+
+	/**
+	 * Get the fingerprint of the layout of the properties of this descriptor. Two descriptors have the same fingerprint if their properties are at
+	 * the same order and have the same fields (same declaring classes, names and types). Used to check that an encoded bean can be decoded using
+	 * the indexes of the properties.
+	 *
+	 * @return the fingerprint of this descriptor
+	 */
+	public int getFingerprint() {
+		return this.fingerprint;
+	}
+
+	/**
+	 * Get the class this descriptor is describing.
+	 *
+	 * @return the class of this descriptor
+	 */
+	public Class<?> getKlass() {
+		return this.klass;
+	}
+
+	/**
+	 * Get the properties of this descriptor. Ordered by their index.
+	 *
+	 * @return an unmodifiable list of the properties of this descriptor
+	 */
+	public List<PropertyDescriptor> getProperties() {
+		return this.propertyList;
+	}
+
+	/**
+	 * Get the property at the given index.
+	 *
+	 * @param index the index of the property
+	 * @return the property at the given index
+	 * @throws IndexOutOfBoundsException if the given 'index' is out of bounds
+	 */
+	public PropertyDescriptor getProperty(int index) {
+		return this.properties[index];
+	}
+
+	/**
+	 * Get the property that have the given key.
+	 *
+	 * @param key the key of the property
+	 * @return the property of the given key. Or null if no property have that key
+	 */
+	public PropertyDescriptor getProperty(Object key) {
+		return this.keys.get(key);
+	}
+
+	/**
+	 * Get the property of the given field. The given field don't have to be a field of the described class. Since the properties of the fields of
+	 * the super classes are also resolved. The returned property will have the index -1 if it has been shadowed by another property with the same
+	 * key.
+	 *
+	 * @param field the field to get the property of
+	 * @return the property of the given field. Or null if the field is not annotated with {@link Bean.Property}
+	 * @throws NullPointerException if the given 'field' is null
+	 */
+	public PropertyDescriptor getProperty(Field field) {
+		Objects.requireNonNull(field, "field");
+		return this.fields.get(field);
+	}
+
+	/**
+	 * Get the index of the property that have the given key.
+	 *
+	 * @param key the key of the property
+	 * @return the index of the property that have the given key. Or -1 if no property have that key
+	 */
+	public int indexOf(Object key) {
+		PropertyDescriptor property = this.keys.get(key);
+		return property == null ? -1 : property.index;
+	}
+
+	/**
+	 * Get how many properties this descriptor have.
+	 *
+	 * @return the number of properties in this descriptor
+	 */
+	public int size() {
+		return this.properties.length;
+	}
+
+	@Override
+	public String toString() {
+		return "BeanDescriptor(" + this.klass.getName() + ")";
+	}
+
+	/**
+	 * The resolved meta-data of a field annotated with {@link Bean.Property}.
+	 */
+	public static final class PropertyDescriptor {
+		/**
+		 * The converter of this property.
+		 *
+		 * @see Bean.Property#converter()
+		 */
+		final Converter converter;
+		/**
+		 * The class (wrapped if primitive) of the values of this property if its type is the type of its field. Or null if the type of this property
+		 * have been overridden. Values that are instances of it don't need to be converted.
+		 */
+		final Class<?> klass;
+		/**
+		 * The descriptor this property belongs to.
+		 */
+		final BeanDescriptor descriptor;
+		/**
+		 * The field that holds the value of this property.
+		 */
+		final Field field;
+		/**
+		 * A handle that reads the field of this property. Typed {@code (Object)Object}.
+		 */
+		final MethodHandle getter;
+		/**
+		 * True, if the {@link #klass} of this property is final. So a value is an instance of it only if its class is it.
+		 */
+		final boolean exact;
+		/**
+		 * The index of this property at its descriptor. Or -1 if it has been shadowed.
+		 */
+		final int index;
+		/**
+		 * The key of this property.
+		 *
+		 * @see Bean.Property#key()
+		 */
+		final Object key;
+		/**
+		 * True, if the field of this property is a {@link Lazy} field. The values of lazy properties are the values of the lazy objects at their
+		 * fields.
+		 */
+		final boolean lazy;
+		/**
+		 * The meta-data of this property.
+		 */
+		final Bean.Property meta;
+		/**
+		 * True, if the type of this property is the type of its field (or the wrapper of it). Values of that type can be written without being
+		 * converted.
+		 */
+		final boolean natural;
+		/**
+		 * A handle that reads the field of this property without boxing. Typed {@code (Object)P} where {@code P} is the primitive type of the field.
+		 * Or null if the field is not primitive.
+		 */
+		final MethodHandle primitiveGetter;
+		/**
+		 * A handle that writes the field of this property without boxing. Typed {@code (Object,P)void} where {@code P} is the primitive type of the
+		 * field. Or null if the field is not primitive or can't be written.
+		 */
+		final MethodHandle primitiveSetter;
+		/**
+		 * A handle that writes the field of this property. Typed {@code (Object,Object)void}. Or null if the field can't be written.
+		 */
+		final MethodHandle setter;
+		/**
+		 * True, if the values of this property should never be converted.
+		 *
+		 * @see Bean.Property#strict()
+		 */
+		final boolean strict;
+		/**
+		 * The type of the values of this property.
+		 *
+		 * @see Bean.Property#type()
+		 */
+		final Clazz type;
+
+		/**
+		 * Construct a new property.
+		 *
+		 * @param descriptor the descriptor of the property
+		 * @param index      the index of the property
+		 * @param field      the field of the property
+		 * @param key        the key of the property (already resolved)
+		 */
+		private PropertyDescriptor(BeanDescriptor descriptor, int index, Field field, Object key) {
+			this.descriptor = descriptor;
+			this.index = index;
+			this.field = field;
+			this.key = key;
+			this.meta = field.getAnnotation(Bean.Property.class);
+			this.type = resolveType(field);
+			this.converter = MetaReference.util.get(this.meta.converter());
+
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			boolean isStatic = Modifier.isStatic(field.getModifiers());
+			MethodHandle getter, setter;
+
+			field.setAccessible(true);
+
+			try {
+				getter = lookup.unreflectGetter(field);
+			} catch (IllegalAccessException e) {
+				throw (IllegalAccessError) new IllegalAccessError().initCause(e);
+			}
+			try {
+				setter = lookup.unreflectSetter(field);
+			} catch (IllegalAccessException e) {
+				//final fields that can't be written
+				setter = null;
+			}
+
+			if (isStatic) {
+				getter = MethodHandles.dropArguments(getter, 0, Object.class);
+				setter = setter == null ? null : MethodHandles.dropArguments(setter, 0, Object.class);
+			}
+
+			Class<?> declared = field.getType();
+			MetaClazz type = this.meta.type();
+
+			this.natural = type.family() == MetaClazz.util.class &&
+						   (type.value() == Object.class || type.value() == declared || type.value() == MethodType.methodType(declared).wrap().returnType());
+			this.klass = this.natural ? MethodType.methodType(declared).wrap().returnType() : null;
+			this.exact = this.natural && Modifier.isFinal(this.klass.getModifiers());
+			this.strict = this.meta.strict();
+			this.lazy = declared == Lazy.class;
+			this.getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+			this.setter = setter == null ? null : setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			this.primitiveGetter = declared.isPrimitive() ? getter.asType(MethodType.methodType(declared, Object.class)) : null;
+			this.primitiveSetter = declared.isPrimitive() && setter != null ? setter.asType(MethodType.methodType(void.class, Object.class, declared)) : null;
+		}
+
+		/**
+		 * Get the value of this property on the given instance.
+		 *
+		 * @param instance the instance to get the value from
+		 * @return the value of this property on the given instance
+		 * @throws NullPointerException if the given 'instance' is null
+		 */
+		public Object get(Object instance) {
+			Objects.requireNonNull(instance, "instance");
+			return this.unwrap(this.index == -1 ? this.read(instance) : this.descriptor.getAccessor().get(instance, this.index));
+		}
+
+		/**
+		 * Set the value of this property on the given instance. The value will be converted using the converter of this property first. Unless
+		 * the value is already an instance of the type of this property (and that type is the type of the field), or this property is {@link
+		 * Bean.Property#strict() strict}.
+		 * <br/>
+		 * If this property is {@link Lazy lazy}, Then the value will be stored (without being converted) as an already computed lazy object. Unless
+		 * it is a lazy object itself. And the previous value will be returned only if it has been computed (it will not be computed by this).
+		 *
+		 * @param instance the instance to set the value to
+		 * @param value    the value to be set
+		 * @return the previous value of this property on the given instance
+		 * @throws NullPointerException     if the given 'instance' is null
+		 * @throws IllegalArgumentException if this property is strict and the given 'value' can't be stored at its field
+		 */
+		public Object set(Object instance, Object value) {
+			Objects.requireNonNull(instance, "instance");
+			return this.peek(this.exchange(instance, this.prepare(value)));
+		}
+
+		/**
+		 * Determine if the given value can be stored at this property without being converted.
+		 *
+		 * @param value the value to be checked
+		 * @return true, if the given value is an instance of the type of this property
+		 */
+		public boolean accepts(Object value) {
+			return value != null && this.klass != null && (this.exact ? value.getClass() == this.klass : this.klass.isInstance(value));
+		}
+
+		/**
+		 * Get the value of this property on the given instance as {@code int}. Without boxing if the field of this property is {@code int}.
+		 *
+		 * @param instance the instance to get the value from
+		 * @return the value of this property on the given instance
+		 * @throws NullPointerException if the given 'instance' is null. Or if the field is not {@code int} and its value is null
+		 * @throws ClassCastException   if the field is not {@code int} and its value is not a number
+		 */
+		public int getInt(Object instance) {
+			Objects.requireNonNull(instance, "instance");
+			if (this.lazy)
+				return ((Number) this.get(instance)).intValue();
+
+			return this.index == -1 ? this.readInt(instance) : this.descriptor.getAccessor().getInt(instance, this.index);
+		}
+
+		/**
+		 * Set the value of this property on the given instance. If the field of this property is {@code int} and the type of this property is
+		 * the type of the field. Then the value will be written without boxing and without being converted. Otherwise, it will be {@link #set set}
+		 * normally.
+		 *
+		 * @param instance the instance to set the value to
+		 * @param value    the value to be set
+		 * @throws NullPointerException if the given 'instance' is null
+		 */
+		public void setInt(Object instance, int value) {
+			Objects.requireNonNull(instance, "instance");
+
+			if (!this.natural || this.field.getType() != int.class)
+				this.set(instance, value);
+			else if (this.index == -1)
+				this.writeInt(instance, value);
+			else
+				this.descriptor.getAccessor().setInt(instance, this.index, value);
+		}
+
+		/**
+		 * Get the value of this property on the given instance as {@code long}. Without boxing if the field of this property is {@code long}.
+		 *
+		 * @param instance the instance to get the value from
+		 * @return the value of this property on the given instance
+		 * @throws NullPointerException if the given 'instance' is null. Or if the field is not {@code long} and its value is null
+		 * @throws ClassCastException   if the field is not {@code long} and its value is not a number
+		 */
+		public long getLong(Object instance) {
+			Objects.requireNonNull(instance, "instance");
+			if (this.lazy)
+				return ((Number) this.get(instance)).longValue();
+
+			return this.index == -1 ? this.readLong(instance) : this.descriptor.getAccessor().getLong(instance, this.index);
+		}
+
+		/**
+		 * Set the value of this property on the given instance. If the field of this property is {@code long} and the type of this property is
+		 * the type of the field. Then the value will be written without boxing and without being converted. Otherwise, it will be {@link #set set}
+		 * normally.
+		 *
+		 * @param instance the instance to set the value to
+		 * @param value    the value to be set
+		 * @throws NullPointerException if the given 'instance' is null
+		 */
+		public void setLong(Object instance, long value) {
+			Objects.requireNonNull(instance, "instance");
+
+			if (!this.natural || this.field.getType() != long.class)
+				this.set(instance, value);
+			else if (this.index == -1)
+				this.writeLong(instance, value);
+			else
+				this.descriptor.getAccessor().setLong(instance, this.index, value);
+		}
+
+		/**
+		 * Get the value of this property on the given instance as {@code double}. Without boxing if the field of this property is {@code double}.
+		 *
+		 * @param instance the instance to get the value from
+		 * @return the value of this property on the given instance
+		 * @throws NullPointerException if the given 'instance' is null. Or if the field is not {@code double} and its value is null
+		 * @throws ClassCastException   if the field is not {@code double} and its value is not a number
+		 */
+		public double getDouble(Object instance) {
+			Objects.requireNonNull(instance, "instance");
+			if (this.lazy)
+				return ((Number) this.get(instance)).doubleValue();
+
+			return this.index == -1 ? this.readDouble(instance) : this.descriptor.getAccessor().getDouble(instance, this.index);
+		}
+
+		/**
+		 * Set the value of this property on the given instance. If the field of this property is {@code double} and the type of this property is
+		 * the type of the field. Then the value will be written without boxing and without being converted. Otherwise, it will be {@link #set set}
+		 * normally.
+		 *
+		 * @param instance the instance to set the value to
+		 * @param value    the value to be set
+		 * @throws NullPointerException if the given 'instance' is null
+		 */
+		public void setDouble(Object instance, double value) {
+			Objects.requireNonNull(instance, "instance");
+
+			if (!this.natural || this.field.getType() != double.class)
+				this.set(instance, value);
+			else if (this.index == -1)
+				this.writeDouble(instance, value);
+			else
+				this.descriptor.getAccessor().setDouble(instance, this.index, value);
+		}
+
+		/**
+		 * Convert the given value to the type of this property using the converter of this property. Unless the value is already an instance of the
+		 * type of this property, or this property is {@link Bean.Property#strict() strict}.
+		 *
+		 * @param value the value to be converted
+		 * @return the value to be stored at this property
+		 */
+		Object convert(Object value) {
+			if (this.strict || this.accepts(value))
+				return value;
+
+			long start = BeanMetrics.start();
+			Object converted = this.converter.convert(value, value, this.type);
+			BeanMetrics.record(this.descriptor.klass, BeanMetrics.Operation.CONVERT, start, this.key);
+			return converted;
+		}
+
+		/**
+		 * Get the value to be stored at the field of this property for the given value. The given value converted using {@link #convert}. Or, if this
+		 * property is {@link Lazy lazy}, wrapped (without being converted) using {@link #wrap}.
+		 * <br/>
+		 * Every storage of the values of properties (fields, columns, cells and arrays) should store the values returned by this. And read them
+		 * back using {@link #unwrap} or {@link #peek}.
+		 *
+		 * @param value the value to be stored
+		 * @return the value to be stored at the field of this property
+		 */
+		Object prepare(Object value) {
+			return this.lazy ? this.wrap(value) : this.convert(value);
+		}
+
+		/**
+		 * Get the value of this property from the given value of its field (without computing the value if it is a lazy object that has not been
+		 * computed yet). Used for the previous values returned by writes.
+		 *
+		 * @param field the value of the field of this property
+		 * @return the value of this property. Or null if this property is lazy and its value has not been computed yet
+		 */
+		Object peek(Object field) {
+			return this.lazy && field instanceof Lazy ? ((Lazy<?>) field).getIfLoaded() : field;
+		}
+
+		/**
+		 * Get the value of this property from the given value of its field. Computing the value of the lazy object if this property is {@link Lazy
+		 * lazy}.
+		 *
+		 * @param field the value of the field of this property
+		 * @return the value of this property
+		 */
+		Object unwrap(Object field) {
+			return this.lazy ? Lazy.unwrap(field) : field;
+		}
+
+		/**
+		 * Get the value of the field of this property for the given value that has already been converted (or decoded). Wrapped as an already
+		 * computed lazy object if this property is {@link Lazy lazy} (unless it is a lazy object itself).
+		 *
+		 * @param value the value of this property
+		 * @return the value to be stored at the field of this property
+		 */
+		Object wrap(Object value) {
+			return !this.lazy || value instanceof Lazy ? value : Lazy.value(value);
+		}
+
+		/**
+		 * Set the value of this property on the given instance to the given value as it is (without converting it).
+		 *
+		 * @param instance the instance to set the value to
+		 * @param value    the value to be set
+		 * @return the previous value of this property on the given instance
+		 * @throws NullPointerException     if the given 'instance' is null
+		 * @throws IllegalArgumentException if the given 'value' can't be stored at the field of this property
+		 * @throws IllegalAccessError       if the field of this property can't be written
+		 */
+		Object exchange(Object instance, Object value) {
+			Objects.requireNonNull(instance, "instance");
+
+			if (this.index == -1) {
+				Object old = this.read(instance);
+				this.write(instance, value);
+				return old;
+			}
+
+			BeanAccessor accessor = this.descriptor.getAccessor();
+			Object old = accessor.get(instance, this.index);
+			accessor.set(instance, this.index, value);
+			return old;
+		}
+
+		/**
+		 * Write the value of the field of this property on the given instance to the given output. Primitive values are written as raw bytes (using
+		 * the {@link DataOutput} methods of their types). Other values are written as objects.
+		 *
+		 * @param instance the instance to read the value from
+		 * @param output   the output to write the value to
+		 * @throws IOException              if an I/O error occurs
+		 * @throws IllegalArgumentException if the given 'instance' is not an instance of the class declaring the field of this property
+		 */
+		void encode(Object instance, ObjectOutput output) throws IOException {
+			Class<?> type = this.field.getType();
+
+			try {
+				if (type == int.class)
+					output.writeInt((int) this.primitiveGetter.invokeExact(instance));
+				else if (type == long.class)
+					output.writeLong((long) this.primitiveGetter.invokeExact(instance));
+				else if (type == double.class)
+					output.writeDouble((double) this.primitiveGetter.invokeExact(instance));
+				else if (type == boolean.class)
+					output.writeBoolean((boolean) this.primitiveGetter.invokeExact(instance));
+				else if (type == byte.class)
+					output.writeByte((byte) this.primitiveGetter.invokeExact(instance));
+				else if (type == char.class)
+					output.writeChar((char) this.primitiveGetter.invokeExact(instance));
+				else if (type == short.class)
+					output.writeShort((short) this.primitiveGetter.invokeExact(instance));
+				else if (type == float.class)
+					output.writeFloat((float) this.primitiveGetter.invokeExact(instance));
+				else
+					output.writeObject((Object) this.getter.invokeExact(instance));
+			} catch (IOException e) {
+				throw e;
+			} catch (Throwable t) {
+				throw this.failure(t, instance + " is not an instance of " + this.field.getDeclaringClass());
+			}
+		}
+
+		/**
+		 * Read a value written by {@link #encode(Object, ObjectOutput)} from the given input and write it directly to the field of this property on
+		 * the given instance (without converting it).
+		 *
+		 * @param instance the instance to write the value to
+		 * @param input    the input to read the value from
+		 * @throws IOException              if an I/O error occurs
+		 * @throws ClassNotFoundException   if the class of a serialized object could not be found
+		 * @throws IllegalArgumentException if the read value can't be stored at the field of this property
+		 * @throws IllegalAccessError       if the field of this property can't be written
+		 */
+		void decode(Object instance, ObjectInput input) throws IOException, ClassNotFoundException {
+			if (this.setter == null)
+				throw new IllegalAccessError("Can't write " + this.field);
+
+			Class<?> type = this.field.getType();
+
+			try {
+				if (type == int.class)
+					this.primitiveSetter.invokeExact(instance, input.readInt());
+				else if (type == long.class)
+					this.primitiveSetter.invokeExact(instance, input.readLong());
+				else if (type == double.class)
+					this.primitiveSetter.invokeExact(instance, input.readDouble());
+				else if (type == boolean.class)
+					this.primitiveSetter.invokeExact(instance, input.readBoolean());
+				else if (type == byte.class)
+					this.primitiveSetter.invokeExact(instance, input.readByte());
+				else if (type == char.class)
+					this.primitiveSetter.invokeExact(instance, input.readChar());
+				else if (type == short.class)
+					this.primitiveSetter.invokeExact(instance, input.readShort());
+				else if (type == float.class)
+					this.primitiveSetter.invokeExact(instance, input.readFloat());
+				else
+					this.setter.invokeExact(instance, input.readObject());
+			} catch (IOException | ClassNotFoundException e) {
+				throw e;
+			} catch (Throwable t) {
+				throw this.failure(t, "Can't decode " + this.field);
+			}
+		}
+
+		/**
+		 * Read the field of this property on the given instance directly using the handle of this property.
+		 *
+		 * @param instance the instance to read from
+		 * @return the value of the field of this property on the given instance
+		 * @throws IllegalArgumentException if the given 'instance' is not an instance of the class declaring the field of this property
+		 */
+		Object read(Object instance) {
+			try {
+				return (Object) this.getter.invokeExact(instance);
+			} catch (Throwable t) {
+				throw this.failure(t, instance + " is not an instance of " + this.field.getDeclaringClass());
+			}
+		}
+
+		/**
+		 * Write the field of this property on the given instance directly using the handle of this property.
+		 *
+		 * @param instance the instance to write to
+		 * @param value    the value to be written (as it is)
+		 * @throws IllegalArgumentException if the given 'value' can't be stored at the field of this property
+		 * @throws IllegalAccessError       if the field of this property can't be written
+		 */
+		void write(Object instance, Object value) {
+			if (this.setter == null)
+				throw new IllegalAccessError("Can't write " + this.field);
+
+			try {
+				this.setter.invokeExact(instance, value);
+			} catch (Throwable t) {
+				throw this.failure(t, "Can't set " + this.field + " to " + value);
+			}
+		}
+
+		/**
+		 * Read the field of this property on the given instance as {@code int}. Without boxing if the field is {@code int}.
+		 *
+		 * @param instance the instance to read from
+		 * @return the value of the field of this property on the given instance
+		 * @throws IllegalArgumentException if the given 'instance' is not an instance of the class declaring the field of this property
+		 * @throws NullPointerException     if the field is not {@code int} and its value is null
+		 * @throws ClassCastException       if the field is not {@code int} and its value is not a number
+		 */
+		int readInt(Object instance) {
+			if (this.field.getType() != int.class)
+				return ((Number) this.read(instance)).intValue();
+
+			try {
+				return (int) this.primitiveGetter.invokeExact(instance);
+			} catch (Throwable t) {
+				throw this.failure(t, instance + " is not an instance of " + this.field.getDeclaringClass());
+			}
+		}
+
+		/**
+		 * Write the field of this property on the given instance as {@code int}. Without boxing if the field is {@code int}.
+		 *
+		 * @param instance the instance to write to
+		 * @param value    the value to be written (as it is)
+		 * @throws IllegalArgumentException if the given 'value' can't be stored at the field of this property
+		 * @throws IllegalAccessError       if the field of this property can't be written
+		 */
+		void writeInt(Object instance, int value) {
+			if (this.field.getType() != int.class) {
+				this.write(instance, value);
+				return;
+			}
+			if (this.primitiveSetter == null)
+				throw new IllegalAccessError("Can't write " + this.field);
+
+			try {
+				this.primitiveSetter.invokeExact(instance, value);
+			} catch (Throwable t) {
+				throw this.failure(t, instance + " is not an instance of " + this.field.getDeclaringClass());
+			}
+		}
+
+		/**
+		 * Read the field of this property on the given instance as {@code long}. Without boxing if the field is {@code long}.
+		 *
+		 * @param instance the instance to read from
+		 * @return the value of the field of this property on the given instance
+		 * @throws IllegalArgumentException if the given 'instance' is not an instance of the class declaring the field of this property
+		 * @throws NullPointerException     if the field is not {@code long} and its value is null
+		 * @throws ClassCastException       if the field is not {@code long} and its value is not a number
+		 */
+		long readLong(Object instance) {
+			if (this.field.getType() != long.class)
+				return ((Number) this.read(instance)).longValue();
+
+			try {
+				return (long) this.primitiveGetter.invokeExact(instance);
+			} catch (Throwable t) {
+				throw this.failure(t, instance + " is not an instance of " + this.field.getDeclaringClass());
+			}
+		}
+
+		/**
+		 * Write the field of this property on the given instance as {@code long}. Without boxing if the field is {@code long}.
+		 *
+		 * @param instance the instance to write to
+		 * @param value    the value to be written (as it is)
+		 * @throws IllegalArgumentException if the given 'value' can't be stored at the field of this property
+		 * @throws IllegalAccessError       if the field of this property can't be written
+		 */
+		void writeLong(Object instance, long value) {
+			if (this.field.getType() != long.class) {
+				this.write(instance, value);
+				return;
+			}
+			if (this.primitiveSetter == null)
+				throw new IllegalAccessError("Can't write " + this.field);
+
+			try {
+				this.primitiveSetter.invokeExact(instance, value);
+			} catch (Throwable t) {
+				throw this.failure(t, instance + " is not an instance of " + this.field.getDeclaringClass());
+			}
+		}
+
+		/**
+		 * Read the field of this property on the given instance as {@code double}. Without boxing if the field is {@code double}.
+		 *
+		 * @param instance the instance to read from
+		 * @return the value of the field of this property on the given instance
+		 * @throws IllegalArgumentException if the given 'instance' is not an instance of the class declaring the field of this property
+		 * @throws NullPointerException     if the field is not {@code double} and its value is null
+		 * @throws ClassCastException       if the field is not {@code double} and its value is not a number
+		 */
+		double readDouble(Object instance) {
+			if (this.field.getType() != double.class)
+				return ((Number) this.read(instance)).doubleValue();
+
+			try {
+				return (double) this.primitiveGetter.invokeExact(instance);
+			} catch (Throwable t) {
+				throw this.failure(t, instance + " is not an instance of " + this.field.getDeclaringClass());
+			}
+		}
+
+		/**
+		 * Write the field of this property on the given instance as {@code double}. Without boxing if the field is {@code double}.
+		 *
+		 * @param instance the instance to write to
+		 * @param value    the value to be written (as it is)
+		 * @throws IllegalArgumentException if the given 'value' can't be stored at the field of this property
+		 * @throws IllegalAccessError       if the field of this property can't be written
+		 */
+		void writeDouble(Object instance, double value) {
+			if (this.field.getType() != double.class) {
+				this.write(instance, value);
+				return;
+			}
+			if (this.primitiveSetter == null)
+				throw new IllegalAccessError("Can't write " + this.field);
+
+			try {
+				this.primitiveSetter.invokeExact(instance, value);
+			} catch (Throwable t) {
+				throw this.failure(t, instance + " is not an instance of " + this.field.getDeclaringClass());
+			}
+		}
+
+		/**
+		 * Translate the given throwable thrown by a handle of this property.
+		 *
+		 * @param throwable the throwable thrown by the handle
+		 * @param message   the message to be used if the throwable was caused by an illegal argument
+		 * @return the exception to be thrown
+		 * @throws Error if the given throwable is an error
+		 */
+		private RuntimeException failure(Throwable throwable, String message) {
+			if (throwable instanceof ClassCastException || throwable instanceof NullPointerException)
+				return new IllegalArgumentException(message, throwable);
+			if (throwable instanceof RuntimeException)
+				return (RuntimeException) throwable;
+			if (throwable instanceof Error)
+				throw (Error) throwable;
+
+			return new UndeclaredThrowableException(throwable);
+		}
+
+		/**
+		 * Get the converter of this property.
+		 *
+		 * @return the converter of this property
+		 */
+		public Converter getConverter() {
+			return this.converter;
+		}
+
+		/**
+		 * Get the field that holds the value of this property.
+		 *
+		 * @return the field of this property
+		 */
+		public Field getField() {
+			return this.field;
+		}
+
+		/**
+		 * Get the index of this property at its descriptor.
+		 *
+		 * @return the index of this property. Or -1 if it has been shadowed by another property with the same key
+		 */
+		public int getIndex() {
+			return this.index;
+		}
+
+		/**
+		 * Get the key of this property.
+		 *
+		 * @return the key of this property
+		 */
+		public Object getKey() {
+			return this.key;
+		}
+
+		/**
+		 * Get the meta-data of this property.
+		 *
+		 * @return the meta-data of this property
+		 */
+		public Bean.Property getMeta() {
+			return this.meta;
+		}
+
+		/**
+		 * Get the type of the values of this property.
+		 *
+		 * @return the type of this property
+		 */
+		public Clazz getType() {
+			return this.type;
+		}
+
+		@Override
+		public String toString() {
+			return "PropertyDescriptor(" + this.key + ", " + this.field + ")";
+		}
+	}
+}
@@ -0,0 +1,1044 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * An entry set of a bean. A view over the properties of an instance (shared by all the instances of the same class using its {@link
+ * BeanDescriptor}) plus the entries that have been added to it (entries that have no field). Looking up an entry by its key is done in a constant
+ * time. The entries are created only when they get requested. Like the entries of beans. Two entries are the same element of this set if they
+ * have equal keys.
+ * <br/>
+ * The added entries are not stored as objects. Their keys and values are stored in pairs at a single array (using open addressing). So an added
+ * entry costs two array slots. Adding an entry to this set will store the key and the current value of it (not the entry itself).
+ * <br/>
+ * Removing the entry of a property from this set will detach that property from this set (the field will not be changed). An entry with the same
+ * key can be added after that, And it will be stored at this set.
+ * <br/>
+ * The state of a set can be written in a compact form using {@link #writeTo(ObjectOutput)}. The properties are written by their indexes and the
+ * keys are written only for the added entries.
+ * <br/>
+ * The changes of a set can be tracked (opt-in using {@link #setTracking(boolean)}). While tracking, The indexes of the changed properties are
+ * marked at a bitset and the keys of the changed added entries are collected. Then only the changed entries can be written using {@link
+ * #writeDirtyTo(ObjectOutput)} and applied to another set using {@link #readDirtyFrom(ObjectInput)}.
+ * <br/>
+ * The spliterators of a set (and of the keys and the values of it) are backed by an array of the positions of its entries (collected when the
+ * spliterator is first used). So they know their exact sizes and split evenly. They are fail-fast: adding or removing an entry (or detaching or
+ * re-attaching a property) after the positions have been collected causes a {@link ConcurrentModificationException}. So does doing that
+ * while iterating (other than through the iterator).
+ *
+ * @param <K> the type of the keys of the entries
+ * @param <V> the type of the values of the entries
+ * @author LSaferSE
+ * @version 6 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public class BeanEntrySet<K, V> extends AbstractSet<Map.Entry<K, V>> {
+	/**
+	 * The stand-in of the null key at the table.
+	 */
+	private static final Object NULL = new Object();
+	/**
+	 * The key of a removed pair at the table.
+	 */
+	private static final Object REMOVED = new Object();
+
+	/**
+	 * The descriptor of the class of the instance.
+	 */
+	protected final BeanDescriptor descriptor;
+	/**
+	 * The instance holding the values of the properties.
+	 */
+	protected final Object instance;
+	/**
+	 * The indexes of the properties that have been removed from this set. Or null if no property has been removed.
+	 */
+	protected BitSet detached;
+	/**
+	 * The indexes of the properties that have been changed since the last {@link #clearDirty()}. Or null if the changes are not tracked.
+	 */
+	protected BitSet dirty;
+	/**
+	 * The keys (as stored at the table) of the added entries that have been changed (added, set or removed) since the last {@link #clearDirty()}.
+	 * Or null if the changes are not tracked.
+	 */
+	protected Set<Object> dirtyKeys;
+	/**
+	 * The number of added entries.
+	 */
+	private int count;
+	/**
+	 * The number of the structural modifications of this set (used to fail the spliterators fast).
+	 */
+	private int modCount;
+	/**
+	 * The number of used pairs at the table (including the removed pairs).
+	 */
+	private int occupied;
+	/**
+	 * The keys and the values of the added entries. Each key followed by its value. Or null if no entry has been added.
+	 */
+	private Object[] table;
+
+	/**
+	 * Construct a new entry set viewing the properties of the given instance.
+	 *
+	 * @param instance the instance holding the values of the properties
+	 * @throws NullPointerException if the given 'instance' is null
+	 */
+	public BeanEntrySet(Object instance) {
+		Objects.requireNonNull(instance, "instance");
+		long start = BeanMetrics.start();
+		this.instance = instance;
+		this.descriptor = BeanDescriptor.of(instance.getClass());
+		BeanMetrics.record(instance.getClass(), BeanMetrics.Operation.ENTRY_SET, start, null);
+	}
+
+	@Override
+	public boolean add(Map.Entry<K, V> entry) {
+		Objects.requireNonNull(entry, "entry");
+		K key = entry.getKey();
+
+		if (this.getProperty(key) != null || this.find(key) != -1)
+			return false;
+
+		this.insert(key, entry.getValue());
+		this.markKey(key);
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		if (this.detached == null)
+			this.detached = new BitSet(this.descriptor.size());
+
+		this.detached.set(0, this.descriptor.size());
+
+		if (this.dirty != null) {
+			this.dirty.set(0, this.descriptor.size());
+
+			for (int i = this.nextAdded(0); i != -1; i = this.nextAdded(i + 2))
+				this.dirtyKeys.add(this.table[i]);
+		}
+
+		this.table = null;
+		this.count = 0;
+		this.occupied = 0;
+		this.modCount++;
+	}
+
+	@Override
+	public boolean contains(Object object) {
+		return object instanceof Map.Entry && this.containsKey(((Map.Entry<?, ?>) object).getKey());
+	}
+
+	@Override
+	public Iterator<Map.Entry<K, V>> iterator() {
+		return new Iterator<Map.Entry<K, V>>() {
+			/**
+			 * The modification count of the set expected by this iterator.
+			 */
+			private int expectedModCount = BeanEntrySet.this.modCount;
+			/**
+			 * The index of the last returned property (or pair at the table if it is greater than the number of properties). Or -1 if the last
+			 * returned entry has been removed (or no entry has been returned).
+			 */
+			private int last = -1;
+			/**
+			 * The index of the next property (or pair at the table if it is greater than the number of properties).
+			 */
+			private int next = this.skip(0);
+
+			@Override
+			public boolean hasNext() {
+				this.check();
+				return this.next != -1;
+			}
+
+			@Override
+			public Map.Entry<K, V> next() {
+				this.check();
+				if (this.next == -1)
+					throw new NoSuchElementException();
+
+				int size = BeanEntrySet.this.descriptor.size();
+				this.last = this.next;
+				this.next = this.skip(this.next + 1);
+
+				return this.last < size ?
+					   BeanEntrySet.this.entry(BeanEntrySet.this.descriptor.getProperty(this.last)) :
+					   BeanEntrySet.this.new TableEntry(BeanEntrySet.this.table[(this.last - size) << 1]);
+			}
+
+			@Override
+			public void remove() {
+				if (this.last == -1)
+					throw new IllegalStateException();
+				this.check();
+
+				int size = BeanEntrySet.this.descriptor.size();
+
+				if (this.last < size) {
+					BeanEntrySet.this.detach(this.last);
+					BeanEntrySet.this.mark(this.last);
+				} else {
+					int i = (this.last - size) << 1;
+					BeanEntrySet.this.markKey(BeanEntrySet.this.keyAt(i));
+					BeanEntrySet.this.delete(i);
+				}
+
+				this.last = -1;
+				this.expectedModCount = BeanEntrySet.this.modCount;
+			}
+
+			/**
+			 * Throw if the set has been structurally modified since this iterator was created (other than by this iterator).
+			 *
+			 * @throws ConcurrentModificationException if the set has been structurally modified
+			 */
+			private void check() {
+				if (BeanEntrySet.this.modCount != this.expectedModCount)
+					throw new ConcurrentModificationException();
+			}
+
+			/**
+			 * Get the next position (a property or a pair at the table) that has an entry starting from the given position.
+			 *
+			 * @param position the position to start from
+			 * @return the next position that has an entry. Or -1 if there is none
+			 */
+			private int skip(int position) {
+				BitSet detached = BeanEntrySet.this.detached;
+				Object[] table = BeanEntrySet.this.table;
+				int size = BeanEntrySet.this.descriptor.size();
+
+				if (position < size && (position = detached == null ? position : detached.nextClearBit(position)) < size)
+					return position;
+				if (table != null)
+					for (int i = Math.max(position, size) - size; i < table.length >> 1; i++)
+						if (table[i << 1] != null && table[i << 1] != REMOVED)
+							return size + i;
+
+				return -1;
+			}
+		};
+	}
+
+	@Override
+	public boolean remove(Object object) {
+		return object instanceof Map.Entry && this.removeEntry(((Map.Entry<?, ?>) object).getKey()) != null;
+	}
+
+	@Override
+	public Spliterator<Map.Entry<K, V>> spliterator() {
+		int size = this.descriptor.size();
+		return new Split<>(position -> position < size ?
+														 this.entry(this.descriptor.getProperty(position)) :
+														 new TableEntry(this.table[(position - size) << 1]),
+						   Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT | Spliterator.NONNULL);
+	}
+
+	@Override
+	public int size() {
+		int size = this.descriptor.size();
+
+		if (this.detached != null)
+			size -= this.detached.cardinality();
+		return size + this.count;
+	}
+
+	/**
+	 * Determine if this set has an entry with the given key.
+	 *
+	 * @param key the key of the entry
+	 * @return true, if this set has an entry with the given key
+	 */
+	public boolean containsKey(Object key) {
+		return this.getProperty(key) != null || this.find(key) != -1;
+	}
+
+	/**
+	 * Forget the changes tracked so far (if the changes are tracked).
+	 */
+	public void clearDirty() {
+		if (this.dirty != null) {
+			this.dirty.clear();
+			this.dirtyKeys.clear();
+		}
+	}
+
+	/**
+	 * Get the keys of the entries that have been changed since the changes started to be tracked (or since the last {@link #clearDirty()}). The
+	 * keys of the properties first (by their indexes) then the keys of the added entries.
+	 *
+	 * @return a new set of the keys of the changed entries. Or an empty set if the changes are not tracked
+	 */
+	public Set<K> getDirtyKeys() {
+		Set<K> keys = new LinkedHashSet<>();
+
+		if (this.dirty != null) {
+			for (int i = this.dirty.nextSetBit(0); i != -1; i = this.dirty.nextSetBit(i + 1))
+				keys.add((K) this.descriptor.getProperty(i).key);
+			for (Object key : this.dirtyKeys)
+				keys.add(key == NULL ? null : (K) key);
+		}
+
+		return keys;
+	}
+
+	/**
+	 * Get the entry that have the given key.
+	 *
+	 * @param key the key of the entry
+	 * @return the entry that have the given key. Or null if this set has no entry with the given key
+	 */
+	public Map.Entry<K, V> getEntry(Object key) {
+		BeanDescriptor.PropertyDescriptor property = this.getProperty(key);
+
+		if (property != null)
+			return this.entry(property);
+
+		return this.find(key) == -1 ? null : new TableEntry(key == null ? NULL : key);
+	}
+
+	/**
+	 * Get the instance holding the values of the properties of this set.
+	 *
+	 * @return the instance of this set
+	 */
+	public Object getInstance() {
+		return this.instance;
+	}
+
+	/**
+	 * Determine if the changes of this set are tracked.
+	 *
+	 * @return true, if the changes of this set are tracked
+	 */
+	public boolean isTracking() {
+		return this.dirty != null;
+	}
+
+	/**
+	 * Get the property of this set that have the given key.
+	 *
+	 * @param key the key of the property
+	 * @return the property that have the given key. Or null if there is no such property (or it has been detached from this set)
+	 */
+	public BeanDescriptor.PropertyDescriptor getProperty(Object key) {
+		BeanDescriptor.PropertyDescriptor property = this.descriptor.getProperty(key);
+		return property == null || this.detached != null && this.detached.get(property.index) ? null : property;
+	}
+
+	/**
+	 * Get the value of the entry that have the given key. Without creating an entry for it.
+	 *
+	 * @param key the key of the entry
+	 * @return the value of the entry that have the given key. Or null if this set has no entry with the given key
+	 */
+	public V getValue(Object key) {
+		BeanDescriptor.PropertyDescriptor property = this.getProperty(key);
+
+		if (property != null)
+			return (V) property.get(this.instance);
+
+		int i = this.find(key);
+		return i == -1 ? null : (V) this.table[i + 1];
+	}
+
+	/**
+	 * Set the value of the entry that have the given key. If this set has no such entry, Then a new entry will be added.
+	 *
+	 * @param key   the key of the entry
+	 * @param value the value to be set
+	 * @return the previous value of the entry. Or null if a new entry has been added
+	 */
+	public V putValue(K key, V value) {
+		BeanDescriptor.PropertyDescriptor property = this.getProperty(key);
+
+		if (property != null) {
+			V old = (V) property.set(this.instance, value);
+			this.mark(property.index);
+			return old;
+		}
+
+		int i = this.find(key);
+		this.markKey(key);
+
+		if (i == -1) {
+			this.insert(key, value);
+			return null;
+		}
+
+		V old = (V) this.table[i + 1];
+		this.table[i + 1] = value;
+		return old;
+	}
+
+	/**
+	 * Remove the entry that have the given key.
+	 *
+	 * @param key the key of the entry to be removed
+	 * @return the removed entry. Or null if this set has no entry with the given key
+	 */
+	public Map.Entry<K, V> removeEntry(Object key) {
+		BeanDescriptor.PropertyDescriptor property = this.getProperty(key);
+
+		if (property != null) {
+			this.detach(property.index);
+			this.mark(property.index);
+			return new Bean.FieldEntry<>(this.instance, property);
+		}
+
+		int i = this.find(key);
+
+		if (i == -1)
+			return null;
+
+		this.markKey(key);
+		Map.Entry<K, V> entry = new FullBean.SimpleEntry<>((K) key, (V) this.table[i + 1]);
+		this.delete(i);
+		return entry;
+	}
+
+	/**
+	 * Apply the changes written to the given input by {@link #writeDirtyTo(ObjectOutput)} to this set. The values of the changed properties are
+	 * written directly to the fields (without being converted) and the properties are detached or re-attached as they were at the written set. The
+	 * changed added entries are stored, replaced or removed. Applying the changes is not tracked as changes of this set.
+	 *
+	 * @param input the input to read from
+	 * @throws NullPointerException   if the given 'input' is null
+	 * @throws InvalidClassException  if the changes were written by a set of a class with a different layout of properties
+	 * @throws IOException            if an I/O error occurs
+	 * @throws ClassNotFoundException if the class of a serialized object could not be found
+	 */
+	public void readDirtyFrom(ObjectInput input) throws IOException, ClassNotFoundException {
+		Objects.requireNonNull(input, "input");
+
+		if (input.readInt() != this.descriptor.getFingerprint())
+			throw new InvalidClassException(this.descriptor.getKlass().getName(), "Incompatible layout of properties");
+
+		long[] words = new long[input.readInt()];
+		for (int i = 0; i < words.length; i++)
+			words[i] = input.readLong();
+
+		BitSet changed = BitSet.valueOf(words);
+
+		for (int i = changed.nextSetBit(0); i != -1; i = changed.nextSetBit(i + 1)) {
+			BeanDescriptor.PropertyDescriptor property = this.descriptor.getProperty(i);
+
+			if (input.readBoolean()) {
+				this.detach(i);
+				continue;
+			}
+			if (this.detached != null && this.detached.get(i)) {
+				this.detached.clear(i);
+				this.modCount++;
+			}
+			if (property.setter != null)
+				property.decode(this.instance, input);
+		}
+
+		for (int i = 0, count = input.readInt(); i < count; i++) {
+			Object key = input.readObject();
+			int j = this.find(key);
+
+			if (input.readBoolean()) {
+				Object value = input.readObject();
+
+				if (j == -1)
+					this.insert(key, value);
+				else
+					this.table[j + 1] = value;
+			} else if (j != -1) {
+				this.delete(j);
+			}
+		}
+	}
+
+	/**
+	 * Replace the state of this set with the state written to the given input by {@link #writeTo(ObjectOutput)}. The values of the properties are
+	 * written directly to the fields (without being converted). And the added entries are stored as they are.
+	 *
+	 * @param input the input to read from
+	 * @throws NullPointerException   if the given 'input' is null
+	 * @throws InvalidClassException  if the state was written by a set of a class with a different layout of properties
+	 * @throws IOException            if an I/O error occurs
+	 * @throws ClassNotFoundException if the class of a serialized object could not be found
+	 */
+	public void readFrom(ObjectInput input) throws IOException, ClassNotFoundException {
+		Objects.requireNonNull(input, "input");
+
+		if (input.readInt() != this.descriptor.getFingerprint())
+			throw new InvalidClassException(this.descriptor.getKlass().getName(), "Incompatible layout of properties");
+
+		long[] words = new long[input.readInt()];
+		for (int i = 0; i < words.length; i++)
+			words[i] = input.readLong();
+
+		this.detached = words.length == 0 ? null : BitSet.valueOf(words);
+		this.table = null;
+		this.count = 0;
+		this.occupied = 0;
+		this.modCount++;
+
+		for (int i = 0, size = this.descriptor.size(); i < size; i++) {
+			BeanDescriptor.PropertyDescriptor property = this.descriptor.getProperty(i);
+
+			if (property.setter != null && (this.detached == null || !this.detached.get(i)))
+				property.decode(this.instance, input);
+		}
+
+		for (int i = 0, count = input.readInt(); i < count; i++)
+			this.insert(input.readObject(), input.readObject());
+	}
+
+	/**
+	 * Start or stop tracking the changes of this set. Starting to track the changes will start with no changes marked. Stopping will forget the
+	 * changes tracked so far.
+	 *
+	 * @param tracking true, to track the changes of this set
+	 */
+	public void setTracking(boolean tracking) {
+		if (!tracking) {
+			this.dirty = null;
+			this.dirtyKeys = null;
+		} else if (this.dirty == null) {
+			this.dirty = new BitSet(this.descriptor.size());
+			this.dirtyKeys = new HashSet<>();
+		}
+	}
+
+	/**
+	 * Write the changes of this set (since the changes started to be tracked or since the last {@link #clearDirty()}) to the given output. The
+	 * changed properties are identified by their indexes. For each one, whether it is detached then its current value (unless it is detached or its
+	 * field is final). For each changed added entry, its key then whether it still exists then its current value (if it still exists). The changes
+	 * are not cleared by this method.
+	 *
+	 * @param output the output to write to
+	 * @throws NullPointerException  if the given 'output' is null
+	 * @throws IllegalStateException if the changes of this set are not tracked
+	 * @throws IOException           if an I/O error occurs
+	 */
+	public void writeDirtyTo(ObjectOutput output) throws IOException {
+		Objects.requireNonNull(output, "output");
+		if (this.dirty == null)
+			throw new IllegalStateException("Changes are not tracked");
+
+		long[] words = this.dirty.toLongArray();
+
+		output.writeInt(this.descriptor.getFingerprint());
+		output.writeInt(words.length);
+		for (long word : words)
+			output.writeLong(word);
+
+		for (int i = this.dirty.nextSetBit(0); i != -1; i = this.dirty.nextSetBit(i + 1)) {
+			BeanDescriptor.PropertyDescriptor property = this.descriptor.getProperty(i);
+			boolean detached = this.detached != null && this.detached.get(i);
+
+			output.writeBoolean(detached);
+			if (!detached && property.setter != null)
+				property.encode(this.instance, output);
+		}
+
+		output.writeInt(this.dirtyKeys.size());
+		for (Object key : this.dirtyKeys) {
+			Object k = key == NULL ? null : key;
+			int j = this.find(k);
+
+			output.writeObject(k);
+			output.writeBoolean(j != -1);
+			if (j != -1)
+				output.writeObject(this.table[j + 1]);
+		}
+	}
+
+	/**
+	 * Write the state of this set to the given output. The properties are identified by their indexes (their keys are not written). Primitive values
+	 * are written as raw bytes. The keys are written only for the added entries. The properties with final fields are not written (since they can't
+	 * be read back).
+	 *
+	 * @param output the output to write to
+	 * @throws NullPointerException if the given 'output' is null
+	 * @throws IOException          if an I/O error occurs
+	 */
+	public void writeTo(ObjectOutput output) throws IOException {
+		Objects.requireNonNull(output, "output");
+		long[] words = this.detached == null ? new long[0] : this.detached.toLongArray();
+
+		output.writeInt(this.descriptor.getFingerprint());
+		output.writeInt(words.length);
+		for (long word : words)
+			output.writeLong(word);
+
+		for (int i = 0, size = this.descriptor.size(); i < size; i++) {
+			BeanDescriptor.PropertyDescriptor property = this.descriptor.getProperty(i);
+
+			if (property.setter != null && (this.detached == null || !this.detached.get(i)))
+				property.encode(this.instance, output);
+		}
+
+		output.writeInt(this.count);
+		if (this.table != null)
+			for (int i = 0; i < this.table.length; i += 2)
+				if (this.table[i] != null && this.table[i] != REMOVED) {
+					output.writeObject(this.table[i] == NULL ? null : this.table[i]);
+					output.writeObject(this.table[i + 1]);
+				}
+	}
+
+	/**
+	 * Get the key of the added entry at the given position at the table.
+	 *
+	 * @param position the position of the entry (as returned by {@link #nextAdded(int)})
+	 * @return the key of the entry at the given position
+	 */
+	K keyAt(int position) {
+		Object key = this.table[position];
+		return key == NULL ? null : (K) key;
+	}
+
+	/**
+	 * Get a spliterator over the keys of this set. (Doesn't report {@link Spliterator#NONNULL}, since a null key can be added after the spliterator
+	 * is created and before its positions are collected)
+	 *
+	 * @return a new spliterator over the keys of this set
+	 */
+	Spliterator<K> keySpliterator() {
+		int size = this.descriptor.size();
+		return new Split<>(position -> position < size ?
+														 (K) this.descriptor.getProperty(position).key :
+														 this.keyAt((position - size) << 1), Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT);
+	}
+
+	/**
+	 * Get the position at the table of the first added entry at or after the given position. Used to walk the added entries without creating an
+	 * entry for each one.
+	 *
+	 * @param position the position to start from (zero for the first entry)
+	 * @return the position of the next added entry. Or -1 if there is none
+	 */
+	int nextAdded(int position) {
+		Object[] table = this.table;
+
+		if (table != null)
+			for (int i = position; i < table.length; i += 2)
+				if (table[i] != null && table[i] != REMOVED)
+					return i;
+
+		return -1;
+	}
+
+	/**
+	 * Mark the property at the given index as changed (if the changes are tracked).
+	 *
+	 * @param index the index of the property
+	 */
+	void mark(int index) {
+		if (this.dirty != null)
+			this.dirty.set(index);
+	}
+
+	/**
+	 * Get the value of the added entry at the given position at the table.
+	 *
+	 * @param position the position of the entry (as returned by {@link #nextAdded(int)})
+	 * @return the value of the entry at the given position
+	 */
+	V valueAt(int position) {
+		return (V) this.table[position + 1];
+	}
+
+	/**
+	 * Get a spliterator over the values of this set.
+	 *
+	 * @return a new spliterator over the values of this set
+	 */
+	Spliterator<V> valueSpliterator() {
+		int size = this.descriptor.size();
+		return new Split<>(position -> position < size ?
+														 (V) this.descriptor.getProperty(position).get(this.instance) :
+														 this.valueAt((position - size) << 1), Spliterator.SIZED | Spliterator.SUBSIZED);
+	}
+
+	/**
+	 * Detach the property at the given index from this set.
+	 *
+	 * @param index the index of the property
+	 */
+	private void detach(int index) {
+		if (this.detached == null)
+			this.detached = new BitSet(this.descriptor.size());
+
+		this.detached.set(index);
+		this.modCount++;
+	}
+
+	/**
+	 * Remove the pair at the given index from the table.
+	 *
+	 * @param i the index of the key of the pair
+	 */
+	private void delete(int i) {
+		this.table[i] = REMOVED;
+		this.table[i + 1] = null;
+		this.count--;
+		this.modCount++;
+	}
+
+	/**
+	 * Create an entry for the given property. If the changes are tracked, Then setting the value of the entry will mark the property as changed.
+	 *
+	 * @param property the property of the entry
+	 * @return a new entry for the given property
+	 */
+	private Map.Entry<K, V> entry(BeanDescriptor.PropertyDescriptor property) {
+		if (this.dirty == null)
+			return new Bean.FieldEntry<>(this.instance, property);
+
+		return new Bean.FieldEntry<K, V>(this.instance, property) {
+			@Override
+			public V setValue(V value) {
+				V old = super.setValue(value);
+				BeanEntrySet.this.mark(this.property.index);
+				return old;
+			}
+		};
+	}
+
+	/**
+	 * Find the index of the given key at the table.
+	 *
+	 * @param key the key to find
+	 * @return the index of the given key at the table. Or -1 if the table don't have it
+	 */
+	private int find(Object key) {
+		Object[] table = this.table;
+
+		if (table == null)
+			return -1;
+
+		Object k = key == null ? NULL : key;
+		int mask = table.length - 1;
+
+		for (int i = index(k, mask); ; i = i + 2 & mask) {
+			Object item = table[i];
+
+			if (item == null)
+				return -1;
+			if (item == k || item != REMOVED && item.equals(k))
+				return i;
+		}
+	}
+
+	/**
+	 * Insert the given key and value to the table. (The key should not be at the table already)
+	 *
+	 * @param key   the key to be inserted
+	 * @param value the value to be inserted
+	 */
+	private void insert(Object key, Object value) {
+		if (this.table == null)
+			this.table = new Object[8];
+		else if (this.occupied + 1 << 2 > this.table.length / 2 * 3)
+			this.rehash();
+
+		Object k = key == null ? NULL : key;
+		int mask = this.table.length - 1;
+		int i = index(k, mask);
+
+		while (this.table[i] != null)
+			i = i + 2 & mask;
+
+		this.table[i] = k;
+		this.table[i + 1] = value;
+		this.count++;
+		this.occupied++;
+		this.modCount++;
+	}
+
+	/**
+	 * Mark the added entry with the given key as changed (if the changes are tracked).
+	 *
+	 * @param key the key of the entry
+	 */
+	private void markKey(Object key) {
+		if (this.dirtyKeys != null)
+			this.dirtyKeys.add(key == null ? NULL : key);
+	}
+
+	/**
+	 * Collect the positions of the entries of this set. The indexes of the attached properties then the number of the properties plus the index of
+	 * each used pair at the table.
+	 *
+	 * @return a new array of the positions of the entries of this set
+	 */
+	private int[] positions() {
+		int size = this.descriptor.size();
+		int[] positions = new int[this.size()];
+		int j = 0;
+
+		for (int i = 0; i < size; i++)
+			if (this.detached == null || !this.detached.get(i))
+				positions[j++] = i;
+		for (int i = this.nextAdded(0); i != -1; i = this.nextAdded(i + 2))
+			positions[j++] = size + (i >> 1);
+
+		return positions;
+	}
+
+	/**
+	 * Rebuild the table. Dropping the removed pairs and growing it if needed.
+	 */
+	private void rehash() {
+		Object[] old = this.table;
+		int length = 8;
+
+		while (this.count + 1 << 2 > length / 2 * 3)
+			length <<= 1;
+
+		this.table = new Object[length];
+		this.count = 0;
+		this.occupied = 0;
+
+		for (int i = 0; i < old.length; i += 2)
+			if (old[i] != null && old[i] != REMOVED)
+				this.insert(old[i] == NULL ? null : old[i], old[i + 1]);
+	}
+
+	/**
+	 * Get the first index to be probed for the given key at a table with the given mask.
+	 *
+	 * @param key  the key (null replaced with {@link #NULL})
+	 * @param mask the length of the table minus one
+	 * @return the index of the first probe
+	 */
+	private static int index(Object key, int mask) {
+		int h = key.hashCode();
+		return (h ^ h >>> 16) << 1 & mask;
+	}
+
+	/**
+	 * A spliterator over an array of positions. The positions are collected when the spliterator is first used. Maps each position to its element
+	 * when it gets reached.
+	 *
+	 * @param <T> the type of the elements
+	 */
+	private final class Split<T> implements Spliterator<T> {
+		/**
+		 * The characteristics of this spliterator.
+		 */
+		private final int characteristics;
+		/**
+		 * The function mapping a position to its element.
+		 */
+		private final IntFunction<? extends T> element;
+		/**
+		 * The modification count of the set expected by this spliterator (set when the positions are collected).
+		 */
+		private int expectedModCount;
+		/**
+		 * The last index of this spliterator at the positions (exclusive). Or -1 if the positions are not collected yet.
+		 */
+		private int fence;
+		/**
+		 * The next index of this spliterator at the positions.
+		 */
+		private int index;
+		/**
+		 * The positions of the elements. Or null if not collected yet.
+		 */
+		private int[] positions;
+
+		/**
+		 * Construct a new spliterator over all of the positions of the set (collected when first used).
+		 *
+		 * @param element         the function mapping a position to its element
+		 * @param characteristics the characteristics of the spliterator
+		 */
+		private Split(IntFunction<? extends T> element, int characteristics) {
+			this.fence = -1;
+			this.element = element;
+			this.characteristics = characteristics;
+		}
+
+		/**
+		 * Construct a new spliterator over a range of the given positions.
+		 *
+		 * @param positions        the positions of the elements
+		 * @param index            the first index at the positions (inclusive)
+		 * @param fence            the last index at the positions (exclusive)
+		 * @param expectedModCount the modification count of the set expected by the spliterator
+		 * @param element          the function mapping a position to its element
+		 * @param characteristics  the characteristics of the spliterator
+		 */
+		private Split(int[] positions, int index, int fence, int expectedModCount, IntFunction<? extends T> element, int characteristics) {
+			this.positions = positions;
+			this.index = index;
+			this.fence = fence;
+			this.expectedModCount = expectedModCount;
+			this.element = element;
+			this.characteristics = characteristics;
+		}
+
+		@Override
+		public int characteristics() {
+			return this.characteristics;
+		}
+
+		@Override
+		public long estimateSize() {
+			return this.fence() - this.index;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			Objects.requireNonNull(action, "action");
+			int fence = this.fence();
+
+			for (int i = this.index; i < fence; i++) {
+				this.check();
+				action.accept(this.element.apply(this.positions[i]));
+			}
+
+			this.index = fence;
+			this.check();
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			Objects.requireNonNull(action, "action");
+
+			if (this.index >= this.fence())
+				return false;
+
+			this.check();
+			action.accept(this.element.apply(this.positions[this.index++]));
+			this.check();
+			return true;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int middle = this.index + this.fence() >>> 1;
+
+			if (middle <= this.index)
+				return null;
+
+			Split<T> prefix = new Split<>(this.positions, this.index, middle, this.expectedModCount, this.element, this.characteristics);
+			this.index = middle;
+			return prefix;
+		}
+
+		/**
+		 * Throw if the set has been structurally modified since the positions were collected.
+		 *
+		 * @throws ConcurrentModificationException if the set has been structurally modified
+		 */
+		private void check() {
+			if (BeanEntrySet.this.modCount != this.expectedModCount)
+				throw new ConcurrentModificationException();
+		}
+
+		/**
+		 * Get the fence of this spliterator. Collecting the positions of the set if not collected yet.
+		 *
+		 * @return the last index of this spliterator at the positions (exclusive)
+		 */
+		private int fence() {
+			if (this.fence == -1) {
+				this.positions = BeanEntrySet.this.positions();
+				this.expectedModCount = BeanEntrySet.this.modCount;
+				this.fence = this.positions.length;
+			}
+
+			return this.fence;
+		}
+	}
+
+	/**
+	 * A view of a pair at the table. Reads and writes the table using its key.
+	 */
+	private final class TableEntry implements Map.Entry<K, V> {
+		/**
+		 * The key of this entry as stored at the table.
+		 */
+		private final Object key;
+
+		/**
+		 * Construct a new table entry.
+		 *
+		 * @param key the key as stored at the table
+		 */
+		private TableEntry(Object key) {
+			this.key = key;
+		}
+
+		@Override
+		public K getKey() {
+			return this.key == NULL ? null : (K) this.key;
+		}
+
+		@Override
+		public V getValue() {
+			int i = BeanEntrySet.this.find(this.getKey());
+			return i == -1 ? null : (V) BeanEntrySet.this.table[i + 1];
+		}
+
+		@Override
+		public V setValue(V value) {
+			int i = BeanEntrySet.this.find(this.getKey());
+
+			if (i == -1)
+				throw new IllegalStateException("Entry removed: " + this.getKey());
+
+			V old = (V) BeanEntrySet.this.table[i + 1];
+			BeanEntrySet.this.table[i + 1] = value;
+			BeanEntrySet.this.markKey(this.key);
+			return old;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.getKey());
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			} else if (o instanceof Map.Entry) {
+				Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+				return Objects.equals(this.getKey(), entry.getKey());
+			}
+
+			return false;
+		}
+
+		@Override
+		public String toString() {
+			return this.getKey() + "=" + this.getValue();
+		}
+	}
+}
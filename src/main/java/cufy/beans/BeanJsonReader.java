@@ -0,0 +1,639 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * A streaming JSON reader. Reads JSON objects directly into the properties of beans (using the {@link BeanDescriptor} of their classes) from a
+ * {@link Reader}. Without building intermediate maps. Numbers are parsed directly into the primitive fields (without boxing). And values that are
+ * already of the type of their properties are written without being converted.
+ * <br/>
+ * The keys are matched to the properties by their string form (as written by {@link BeanJsonWriter}). Keys that have no property are put to the
+ * bean if it is a map, and skipped otherwise. Values that are not objects of beans are read as {@link LinkedHashMap}s, {@link ArrayList}s, {@link
+ * String}s, {@link Integer}s (or {@link Long}s, or {@link BigInteger}s if they don't fit), {@link Double}s (or {@link BigDecimal}s if they don't
+ * fit), {@link Boolean}s and nulls.
+ * <br/>
+ * Numbers are never narrowed silently. A number that is not an integer, or is out of the range of the type of its property (like {@code
+ * 4294967297} for an {@code int} property, or {@code 1e39} for a {@code float} property) is rejected with an {@link IOException}.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public final class BeanJsonReader {
+	/**
+	 * The properties of each class mapped by the string form of their keys.
+	 */
+	private static final ClassValue<Map<String, BeanDescriptor.PropertyDescriptor>> names = new ClassValue<Map<String, BeanDescriptor.PropertyDescriptor>>() {
+		@Override
+		protected Map<String, BeanDescriptor.PropertyDescriptor> computeValue(Class<?> klass) {
+			Map<String, BeanDescriptor.PropertyDescriptor> names = new HashMap<>();
+
+			for (BeanDescriptor.PropertyDescriptor property : BeanDescriptor.of(klass).getProperties())
+				names.putIfAbsent(String.valueOf(property.key), property);
+
+			return names;
+		}
+	};
+
+	/**
+	 * The reader to read from.
+	 */
+	private final Reader in;
+	/**
+	 * A reusable buffer for strings and numbers.
+	 */
+	private final StringBuilder token = new StringBuilder();
+	/**
+	 * The number of characters consumed from the reader.
+	 */
+	private long position;
+	/**
+	 * The next character (already read from the reader). Or -2 if no character has been read ahead.
+	 */
+	private int peek = -2;
+
+	/**
+	 * Construct a new reader reading from the given reader.
+	 *
+	 * @param in the reader to read from
+	 * @throws NullPointerException if the given 'in' is null
+	 */
+	public BeanJsonReader(Reader in) {
+		Objects.requireNonNull(in, "in");
+		this.in = in;
+	}
+
+	/**
+	 * Read the given JSON text into the properties of the given instance.
+	 *
+	 * @param json     the JSON text of an object
+	 * @param instance the instance to read into
+	 * @param <T>      the type of the instance
+	 * @return the given instance
+	 * @throws NullPointerException     if the given 'json' or 'instance' is null
+	 * @throws IllegalArgumentException if the given 'json' is malformed. Or a value can't be stored at its property
+	 */
+	public static <T> T fromJson(String json, T instance) {
+		Objects.requireNonNull(json, "json");
+		Objects.requireNonNull(instance, "instance");
+
+		try {
+			return new BeanJsonReader(new StringReader(json)).read(instance);
+		} catch (IOException e) {
+			//StringReader don't throw. So it is a malformed JSON
+			throw new IllegalArgumentException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Read the next value.
+	 *
+	 * @return the next value
+	 * @throws IOException  if an I/O error occurs or the JSON is malformed
+	 * @throws EOFException if the reader ended before the value
+	 */
+	public Object read() throws IOException {
+		int c = this.skip();
+
+		switch (c) {
+			case '{':
+				Map<Object, Object> map = new LinkedHashMap<>();
+				this.readObject(map);
+				return map;
+			case '[':
+				List<Object> list = new ArrayList<>();
+				this.next();
+
+				if (this.skip() == ']') {
+					this.next();
+					return list;
+				}
+
+				while (true) {
+					list.add(this.read());
+
+					if (this.expect(',', ']') == ']')
+						return list;
+				}
+			case '"':
+				return this.readString();
+			case 't':
+				this.literal("true");
+				return true;
+			case 'f':
+				this.literal("false");
+				return false;
+			case 'n':
+				this.literal("null");
+				return null;
+			default:
+				this.readNumber();
+
+				if (this.isIntegral()) {
+					if (!this.isSmall()) {
+						BigInteger value = this.parseBig().toBigIntegerExact();
+
+						if (value.bitLength() >= Long.SIZE)
+							return value;
+					}
+
+					long value = this.parseLong();
+					return value == (int) value ? (Object) (int) value : (Object) value;
+				}
+
+				double value = this.parseDouble();
+				return Double.isInfinite(value) ? this.parseBig() : (Object) value;
+		}
+	}
+
+	/**
+	 * Read the next JSON object into the properties of the given instance. The values of properties that have beans as values (with properties) are
+	 * read into the current value of the property (if it is not null).
+	 *
+	 * @param instance the instance to read into
+	 * @param <T>      the type of the instance
+	 * @return the given instance
+	 * @throws NullPointerException     if the given 'instance' is null
+	 * @throws IOException              if an I/O error occurs or the JSON is malformed
+	 * @throws EOFException             if the reader ended before the object
+	 * @throws IllegalArgumentException if a value can't be stored at its property
+	 */
+	public <T> T read(T instance) throws IOException {
+		Objects.requireNonNull(instance, "instance");
+		this.readObject(instance);
+		return instance;
+	}
+
+	/**
+	 * Read the next JSON object into the given instance.
+	 *
+	 * @param instance the instance to read into (a map or a bean)
+	 * @throws IOException if an I/O error occurs or the JSON is malformed
+	 */
+	private void readObject(Object instance) throws IOException {
+		Map<Object, Object> map = instance instanceof Map ? (Map<Object, Object>) instance : null;
+		Set<?> entrySet = map == null ? null : map.entrySet();
+		BeanEntrySet<?, ?> beanEntrySet = entrySet instanceof BeanEntrySet ? (BeanEntrySet<?, ?>) entrySet : null;
+		Object target = beanEntrySet == null ? instance : beanEntrySet.instance;
+		Map<String, BeanDescriptor.PropertyDescriptor> properties = map != null && beanEntrySet == null ? Collections.emptyMap() : names.get(target.getClass());
+
+		if (this.skip() != '{')
+			throw this.error("Expected '{'");
+
+		this.next();
+
+		if (this.skip() == '}') {
+			this.next();
+			return;
+		}
+
+		while (true) {
+			if (this.skip() != '"')
+				throw this.error("Expected a key");
+
+			String key = this.readString();
+			BeanDescriptor.PropertyDescriptor property = properties.get(key);
+
+			this.expect(':');
+
+			if (property != null && (beanEntrySet == null || beanEntrySet.detached == null || !beanEntrySet.detached.get(property.index)))
+				this.readProperty(target, property);
+			else if (map != null)
+				map.put(key, this.read());
+			else
+				this.read();
+
+			if (this.expect(',', '}') == '}')
+				return;
+		}
+	}
+
+	/**
+	 * Read the next value into the given property of the given instance.
+	 *
+	 * @param instance the instance to write to
+	 * @param property the property to write to
+	 * @throws IOException if an I/O error occurs or the JSON is malformed
+	 */
+	private void readProperty(Object instance, BeanDescriptor.PropertyDescriptor property) throws IOException {
+		Class<?> type = property.field.getType();
+		int c = this.skip();
+
+		if (property.setter == null) {
+			//final fields can't be read into
+			this.read();
+			return;
+		}
+
+		if (property.natural && type.isPrimitive() && c != '"' && c != 'n' && c != 't' && c != 'f') {
+			this.readNumber();
+
+			if (type == int.class)
+				property.writeInt(instance, (int) this.parseInteger(Integer.MIN_VALUE, Integer.MAX_VALUE));
+			else if (type == long.class)
+				property.writeLong(instance, this.parseInteger(Long.MIN_VALUE, Long.MAX_VALUE));
+			else if (type == double.class)
+				property.writeDouble(instance, this.isIntegral() && this.isSmall() ? this.parseLong() : this.finite(this.parseDouble()));
+			else if (type == float.class)
+				property.write(instance, (float) this.finite(this.parseFloat()));
+			else if (type == short.class)
+				property.write(instance, (short) this.parseInteger(Short.MIN_VALUE, Short.MAX_VALUE));
+			else if (type == byte.class)
+				property.write(instance, (byte) this.parseInteger(Byte.MIN_VALUE, Byte.MAX_VALUE));
+			else
+				throw this.error("Unexpected number for " + property.field);
+
+			return;
+		}
+
+		if (c == '{' && property.natural && !type.isPrimitive()) {
+			Object current = property.peek(property.read(instance));
+
+			if (current != null && (current instanceof Map || BeanDescriptor.of(current.getClass()).size() != 0)) {
+				this.readObject(current);
+				return;
+			}
+		}
+
+		Object value = this.read();
+
+		if (value != null && property.natural && property.klass != value.getClass() && value instanceof Number) {
+			Number number = (Number) value;
+			Class<?> klass = property.klass;
+
+			//numbers of other types that can be stored exactly
+			value = klass == Integer.class ? (Object) (int) this.narrow(number, Integer.MIN_VALUE, Integer.MAX_VALUE) :
+					klass == Long.class ? (Object) this.narrow(number, Long.MIN_VALUE, Long.MAX_VALUE) :
+					klass == Double.class ? (Object) this.finite(number.doubleValue()) :
+					klass == Float.class ? (Object) (float) this.finite(number.floatValue()) :
+					klass == Short.class ? (Object) (short) this.narrow(number, Short.MIN_VALUE, Short.MAX_VALUE) :
+					klass == Byte.class ? (Object) (byte) this.narrow(number, Byte.MIN_VALUE, Byte.MAX_VALUE) :
+					value;
+		}
+		if (value instanceof String && property.natural && (property.klass == Double.class || property.klass == Float.class)) {
+			//non-finite numbers are written as strings
+			String string = (String) value;
+			double number = Double.parseDouble(string);
+			float single = (float) number;
+
+			if (!string.contains("Infinity") && (Double.isInfinite(number) || property.klass == Float.class && Float.isInfinite(single)))
+				throw this.error("Number out of the range of " + property.klass.getSimpleName() + ": " + string);
+
+			value = property.klass == Double.class ? (Object) number : (Object) single;
+		}
+
+		property.set(instance, value);
+	}
+
+	/**
+	 * Consume the next non-whitespace character and make sure it is one of the given characters.
+	 *
+	 * @param expected the expected characters
+	 * @return the consumed character
+	 * @throws IOException if an I/O error occurs or the next character is not one of the given characters
+	 */
+	private int expect(char... expected) throws IOException {
+		int c = this.skip();
+
+		for (char e : expected)
+			if (c == e) {
+				this.next();
+				return c;
+			}
+
+		throw this.error("Expected one of " + Arrays.toString(expected));
+	}
+
+	/**
+	 * Create an exception for a malformed JSON at the current position.
+	 *
+	 * @param message the message of the exception
+	 * @return a new exception
+	 */
+	private IOException error(String message) {
+		return new IOException(message + " at " + this.position);
+	}
+
+	/**
+	 * Make sure the given floating point number (converted from a finite number) did not overflow.
+	 *
+	 * @param value the converted number
+	 * @return the given number
+	 * @throws IOException if the given number is infinite
+	 */
+	private double finite(double value) throws IOException {
+		if (Double.isInfinite(value))
+			throw this.error("Number out of the floating point range");
+
+		return value;
+	}
+
+	/**
+	 * Narrow the given number to an integer in the given range.
+	 *
+	 * @param number the number to be narrowed
+	 * @param min    the minimum allowed value
+	 * @param max    the maximum allowed value
+	 * @return the given number as {@code long}
+	 * @throws IOException if the given number is not an integer in the given range
+	 */
+	private long narrow(Number number, long min, long max) throws IOException {
+		long value;
+
+		if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte)
+			value = number.longValue();
+		else if (number instanceof BigInteger && ((BigInteger) number).bitLength() < Long.SIZE)
+			value = number.longValue();
+		else if (number instanceof BigDecimal)
+			try {
+				value = ((BigDecimal) number).longValueExact();
+			} catch (ArithmeticException e) {
+				throw this.error("Expected an integer in [" + min + ", " + max + "] but got " + number);
+			}
+		else {
+			double d = number.doubleValue();
+
+			if (d != Math.rint(d) || d < -0x1p63 || d >= 0x1p63)
+				throw this.error("Expected an integer in [" + min + ", " + max + "] but got " + number);
+
+			value = (long) d;
+		}
+
+		if (value < min || value > max)
+			throw this.error("Expected an integer in [" + min + ", " + max + "] but got " + number);
+
+		return value;
+	}
+
+	/**
+	 * Determine if the number at the token buffer is integral.
+	 *
+	 * @return true, if the token has no fraction and no exponent
+	 */
+	private boolean isIntegral() {
+		for (int i = 0, length = this.token.length(); i < length; i++) {
+			char c = this.token.charAt(i);
+
+			if (c == '.' || c == 'e' || c == 'E')
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Determine if the number at the token buffer has few enough characters to always fit at a {@code long} (18 digits or less).
+	 *
+	 * @return true, if the token can be parsed as {@code long} without overflowing
+	 */
+	private boolean isSmall() {
+		return this.token.length() <= 18;
+	}
+
+	/**
+	 * Consume the given literal.
+	 *
+	 * @param literal the expected literal
+	 * @throws IOException if an I/O error occurs or the next characters are not the given literal
+	 */
+	private void literal(String literal) throws IOException {
+		for (int i = 0; i < literal.length(); i++)
+			if (this.next() != literal.charAt(i))
+				throw this.error("Expected " + literal);
+	}
+
+	/**
+	 * Consume the next character.
+	 *
+	 * @return the consumed character
+	 * @throws IOException  if an I/O error occurs
+	 * @throws EOFException if the reader ended
+	 */
+	private int next() throws IOException {
+		int c = this.peek == -2 ? this.in.read() : this.peek;
+		this.peek = -2;
+
+		if (c == -1)
+			throw new EOFException("Unexpected end of JSON at " + this.position);
+
+		this.position++;
+		return c;
+	}
+
+	/**
+	 * Parse the number at the token buffer as {@link BigDecimal}.
+	 *
+	 * @return the parsed number
+	 * @throws IOException if the token is not a number
+	 */
+	private BigDecimal parseBig() throws IOException {
+		try {
+			return new BigDecimal(this.token.toString());
+		} catch (NumberFormatException e) {
+			throw this.error("Malformed number");
+		}
+	}
+
+	/**
+	 * Parse the number at the token buffer as {@code double}.
+	 *
+	 * @return the parsed number
+	 * @throws IOException if the token is not a number
+	 */
+	private double parseDouble() throws IOException {
+		try {
+			return Double.parseDouble(this.token.toString());
+		} catch (NumberFormatException e) {
+			throw this.error("Malformed number");
+		}
+	}
+
+	/**
+	 * Parse the number at the token buffer as {@code float}. (Rounded once, unlike a {@code double} cast to {@code float})
+	 *
+	 * @return the parsed number
+	 * @throws IOException if the token is not a number
+	 */
+	private float parseFloat() throws IOException {
+		try {
+			return Float.parseFloat(this.token.toString());
+		} catch (NumberFormatException e) {
+			throw this.error("Malformed number");
+		}
+	}
+
+	/**
+	 * Parse the number at the token buffer as an integer in the given range. Numbers that are not integral are accepted only if they have no
+	 * fraction (like {@code 1.0} or {@code 1e3}).
+	 *
+	 * @param min the minimum allowed value
+	 * @param max the maximum allowed value
+	 * @return the parsed number
+	 * @throws IOException if the token is not a number. Or is not an integer in the given range
+	 */
+	private long parseInteger(long min, long max) throws IOException {
+		long value;
+
+		if (this.isIntegral())
+			value = this.parseLong();
+		else
+			try {
+				value = this.parseBig().longValueExact();
+			} catch (ArithmeticException e) {
+				throw this.error("Expected an integer in [" + min + ", " + max + "] but got " + this.token);
+			}
+
+		if (value < min || value > max)
+			throw this.error("Expected an integer in [" + min + ", " + max + "] but got " + this.token);
+
+		return value;
+	}
+
+	/**
+	 * Parse the integral number at the token buffer as {@code long}.
+	 *
+	 * @return the parsed number
+	 * @throws IOException if the token is not an integral number. Or it doesn't fit at a {@code long}
+	 */
+	private long parseLong() throws IOException {
+		int length = this.token.length();
+		boolean negative = length != 0 && this.token.charAt(0) == '-';
+		long value = 0;
+
+		if (length == (negative ? 1 : 0))
+			throw this.error("Expected a number");
+
+		try {
+			for (int i = negative ? 1 : 0; i < length; i++) {
+				char c = this.token.charAt(i);
+
+				if (c < '0' || c > '9')
+					throw this.error("Malformed number");
+
+				//accumulated negatively, so Long.MIN_VALUE don't overflow
+				value = Math.subtractExact(Math.multiplyExact(value, 10), c - '0');
+			}
+
+			return negative ? value : Math.negateExact(value);
+		} catch (ArithmeticException e) {
+			throw this.error("Expected an integer in [" + Long.MIN_VALUE + ", " + Long.MAX_VALUE + "] but got " + this.token);
+		}
+	}
+
+	/**
+	 * Read the characters of the next number to the token buffer.
+	 *
+	 * @throws IOException if an I/O error occurs or there is no number
+	 */
+	private void readNumber() throws IOException {
+		this.token.setLength(0);
+
+		while (true) {
+			int c = this.peek == -2 ? this.peek = this.in.read() : this.peek;
+
+			if (c >= '0' && c <= '9' || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E')
+				this.token.append((char) this.next());
+			else
+				break;
+		}
+
+		if (this.token.length() == 0)
+			throw this.error("Unexpected character");
+	}
+
+	/**
+	 * Read the next JSON string.
+	 *
+	 * @return the read string
+	 * @throws IOException if an I/O error occurs or the string is malformed
+	 */
+	private String readString() throws IOException {
+		this.token.setLength(0);
+		this.next();
+
+		while (true) {
+			int c = this.next();
+
+			if (c == '"')
+				return this.token.toString();
+			if (c != '\\') {
+				this.token.append((char) c);
+				continue;
+			}
+
+			switch (c = this.next()) {
+				case 'b':
+					this.token.append('\b');
+					break;
+				case 'f':
+					this.token.append('\f');
+					break;
+				case 'n':
+					this.token.append('\n');
+					break;
+				case 'r':
+					this.token.append('\r');
+					break;
+				case 't':
+					this.token.append('\t');
+					break;
+				case 'u':
+					int code = 0;
+					for (int i = 0; i < 4; i++) {
+						int digit = Character.digit(this.next(), 16);
+
+						if (digit == -1)
+							throw this.error("Malformed unicode escape");
+
+						code = code << 4 | digit;
+					}
+
+					this.token.append((char) code);
+					break;
+				default:
+					this.token.append((char) c);
+			}
+		}
+	}
+
+	/**
+	 * Skip the whitespaces. Without consuming the next non-whitespace character.
+	 *
+	 * @return the next non-whitespace character
+	 * @throws IOException  if an I/O error occurs
+	 * @throws EOFException if the reader ended
+	 */
+	private int skip() throws IOException {
+		while (true) {
+			int c = this.peek == -2 ? this.peek = this.in.read() : this.peek;
+
+			if (c == -1)
+				throw new EOFException("Unexpected end of JSON at " + this.position);
+			if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+				return c;
+
+			this.next();
+		}
+	}
+}
@@ -0,0 +1,367 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * A streaming JSON writer. Writes the properties of beans directly from their fields (using the {@link BeanDescriptor} of their classes) to an
+ * {@link Appendable}. Without creating entries, without building intermediate maps or strings and without boxing the primitive fields (except
+ * {@code float} and {@code double} fields).
+ * <br/>
+ * The keys are written as strings (using {@link String#valueOf(Object)}). Objects that have properties are written as JSON objects of their
+ * properties. Maps are written as JSON objects, collections and arrays as JSON arrays, numbers and booleans as they are and anything else as a
+ * string. Non-finite numbers are written as strings. {@code float} values are written in their own shortest form (not widened to {@code
+ * double}).
+ * <br/>
+ * JSON can't represent cycles. So writing a bean, map, collection or array that (directly or indirectly) contains itself is rejected with an
+ * {@link IllegalArgumentException}.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public final class BeanJsonWriter {
+	/**
+	 * The hex digits used to escape control characters.
+	 */
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	/**
+	 * A reusable buffer for the digits of integral numbers.
+	 */
+	private final char[] digits = new char[20];
+	/**
+	 * The appendable to write to.
+	 */
+	private final Appendable out;
+	/**
+	 * The beans, maps, iterables and arrays currently being written (compared by identity). Used to detect cycles.
+	 */
+	private final Set<Object> writing = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * Construct a new writer writing to the given appendable.
+	 *
+	 * @param out the appendable to write to
+	 * @throws NullPointerException if the given 'out' is null
+	 */
+	public BeanJsonWriter(Appendable out) {
+		Objects.requireNonNull(out, "out");
+		this.out = out;
+	}
+
+	/**
+	 * Get the JSON text of the given value.
+	 *
+	 * @param value the value to be written
+	 * @return the JSON text of the given value
+	 * @throws IllegalArgumentException if the given value contains itself
+	 */
+	public static String toJson(Object value) {
+		StringBuilder builder = new StringBuilder();
+
+		try {
+			new BeanJsonWriter(builder).write(value);
+		} catch (IOException e) {
+			//StringBuilder don't throw
+			throw new UncheckedIOException(e);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Write the given value.
+	 *
+	 * @param value the value to be written
+	 * @return this
+	 * @throws IllegalArgumentException if the given value contains itself
+	 * @throws IOException              if an I/O error occurs
+	 */
+	public BeanJsonWriter write(Object value) throws IOException {
+		if (value == null)
+			this.out.append("null");
+		else if (value instanceof Lazy)
+			this.write(((Lazy<?>) value).get());
+		else if (value instanceof CharSequence || value instanceof Character)
+			this.writeString(value.toString());
+		else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+			this.writeLong(((Number) value).longValue());
+		else if (value instanceof Double)
+			this.writeDouble((Double) value);
+		else if (value instanceof Float)
+			this.writeFloat((Float) value);
+		else if (value instanceof Number)
+			this.out.append(value.toString());
+		else if (value instanceof Boolean)
+			this.out.append((Boolean) value ? "true" : "false");
+		else if (value instanceof Map && !(((Map) value).entrySet() instanceof BeanEntrySet))
+			this.writeMap((Map<?, ?>) value);
+		else if (value instanceof Iterable)
+			this.writeIterable((Iterable<?>) value);
+		else if (value.getClass().isArray())
+			this.writeArray(value);
+		else if (value instanceof Map || BeanDescriptor.of(value.getClass()).size() != 0)
+			this.writeBean(value);
+		else
+			this.writeString(value.toString());
+
+		return this;
+	}
+
+	/**
+	 * Write the given instance as a JSON object of its properties. If the given instance is a map with a {@link BeanEntrySet}, Then its detached
+	 * properties will be skipped and its added entries will be written after its properties.
+	 *
+	 * @param instance the instance to be written
+	 * @return this
+	 * @throws NullPointerException     if the given 'instance' is null
+	 * @throws IllegalArgumentException if the given 'instance' contains itself
+	 * @throws IOException              if an I/O error occurs
+	 */
+	public BeanJsonWriter writeBean(Object instance) throws IOException {
+		Objects.requireNonNull(instance, "instance");
+		Set<?> entrySet = instance instanceof Map ? ((Map<?, ?>) instance).entrySet() : null;
+		BeanEntrySet<?, ?> beanEntrySet = entrySet instanceof BeanEntrySet ? (BeanEntrySet<?, ?>) entrySet : null;
+		Object target = beanEntrySet == null ? instance : beanEntrySet.instance;
+		BeanDescriptor descriptor = BeanDescriptor.of(target.getClass());
+		boolean first = true;
+
+		this.enter(instance);
+		this.out.append('{');
+
+		for (int i = 0, size = descriptor.size(); i < size; i++) {
+			if (beanEntrySet != null && beanEntrySet.detached != null && beanEntrySet.detached.get(i))
+				continue;
+
+			BeanDescriptor.PropertyDescriptor property = descriptor.getProperty(i);
+			Class<?> type = property.field.getType();
+
+			if (!first)
+				this.out.append(',');
+
+			first = false;
+			this.writeString(String.valueOf(property.key));
+			this.out.append(':');
+
+			if (type == int.class)
+				this.writeLong(property.readInt(target));
+			else if (type == long.class)
+				this.writeLong(property.readLong(target));
+			else if (type == double.class)
+				this.writeDouble(property.readDouble(target));
+			else
+				this.write(property.read(target));
+		}
+
+		if (beanEntrySet != null)
+			for (int i = beanEntrySet.nextAdded(0); i != -1; i = beanEntrySet.nextAdded(i + 2)) {
+				if (!first)
+					this.out.append(',');
+
+				first = false;
+				this.writeString(String.valueOf(beanEntrySet.keyAt(i)));
+				this.out.append(':');
+				this.write(beanEntrySet.valueAt(i));
+			}
+
+		this.out.append('}');
+		this.writing.remove(instance);
+		return this;
+	}
+
+	/**
+	 * Start writing the given container. Making sure it is not being written already.
+	 *
+	 * @param container the bean, map, iterable or array to be written
+	 * @throws IllegalArgumentException if the given container is being written already (it contains itself)
+	 */
+	private void enter(Object container) {
+		if (!this.writing.add(container))
+			throw new IllegalArgumentException("Cyclic reference to an instance of " + container.getClass().getName());
+	}
+
+	/**
+	 * Write the elements of the given array as a JSON array.
+	 *
+	 * @param array the array to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void writeArray(Object array) throws IOException {
+		this.enter(array);
+		this.out.append('[');
+
+		for (int i = 0, length = Array.getLength(array); i < length; i++) {
+			if (i != 0)
+				this.out.append(',');
+
+			this.write(Array.get(array, i));
+		}
+
+		this.out.append(']');
+		this.writing.remove(array);
+	}
+
+	/**
+	 * Write the given number. Non-finite numbers are written as strings.
+	 *
+	 * @param value the number to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void writeDouble(double value) throws IOException {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			this.writeString(Double.toString(value));
+		} else if (value == (long) value && Math.abs(value) < 1e15 && !(value == 0 && 1 / value < 0)) {
+			this.writeLong((long) value);
+			this.out.append(".0");
+		} else {
+			this.out.append(Double.toString(value));
+		}
+	}
+
+	/**
+	 * Write the given {@code float}. Using its own shortest form. Non-finite numbers are written as strings.
+	 *
+	 * @param value the number to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void writeFloat(float value) throws IOException {
+		if (Float.isNaN(value) || Float.isInfinite(value)) {
+			this.writeString(Float.toString(value));
+		} else if (value == (long) value && Math.abs(value) < 1e15 && !(value == 0 && 1 / value < 0)) {
+			this.writeLong((long) value);
+			this.out.append(".0");
+		} else {
+			this.out.append(Float.toString(value));
+		}
+	}
+
+	/**
+	 * Write the elements of the given iterable as a JSON array.
+	 *
+	 * @param iterable the iterable to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void writeIterable(Iterable<?> iterable) throws IOException {
+		boolean first = true;
+
+		this.enter(iterable);
+		this.out.append('[');
+
+		for (Object element : iterable) {
+			if (!first)
+				this.out.append(',');
+
+			first = false;
+			this.write(element);
+		}
+
+		this.out.append(']');
+		this.writing.remove(iterable);
+	}
+
+	/**
+	 * Write the given integral number. Using the reusable digits buffer.
+	 *
+	 * @param value the number to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void writeLong(long value) throws IOException {
+		int i = this.digits.length;
+		//negative, so Long.MIN_VALUE don't overflow
+		long v = value < 0 ? value : -value;
+
+		do {
+			this.digits[--i] = (char) ('0' - v % 10);
+			v /= 10;
+		} while (v != 0);
+
+		if (value < 0)
+			this.out.append('-');
+
+		while (i < this.digits.length)
+			this.out.append(this.digits[i++]);
+	}
+
+	/**
+	 * Write the entries of the given map as a JSON object.
+	 *
+	 * @param map the map to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void writeMap(Map<?, ?> map) throws IOException {
+		boolean first = true;
+
+		this.enter(map);
+		this.out.append('{');
+
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			if (!first)
+				this.out.append(',');
+
+			first = false;
+			this.writeString(String.valueOf(entry.getKey()));
+			this.out.append(':');
+			this.write(entry.getValue());
+		}
+
+		this.out.append('}');
+		this.writing.remove(map);
+	}
+
+	/**
+	 * Write the given string as a JSON string (quoted and escaped).
+	 *
+	 * @param string the string to be written
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void writeString(String string) throws IOException {
+		this.out.append('"');
+
+		for (int i = 0, length = string.length(); i < length; i++) {
+			char c = string.charAt(i);
+
+			switch (c) {
+				case '"':
+					this.out.append("\\\"");
+					break;
+				case '\\':
+					this.out.append("\\\\");
+					break;
+				case '\n':
+					this.out.append("\\n");
+					break;
+				case '\r':
+					this.out.append("\\r");
+					break;
+				case '\t':
+					this.out.append("\\t");
+					break;
+				default:
+					if (c < 0x20)
+						this.out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+					else
+						this.out.append(c);
+			}
+		}
+
+		this.out.append('"');
+	}
+}
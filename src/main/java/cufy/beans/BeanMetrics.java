@@ -0,0 +1,317 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional metrics of the expensive operations of beans. Counters and timers (striped using {@link LongAdder}) per bean class and per {@link
+ * Operation}. Disabled by default. When the metrics and the events are disabled, An instrumented operation costs a single read of a volatile flag.
+ * Can be enabled using {@link #setEnabled(boolean)} or by setting the system property {@code cufy.beans.metrics} to
+ * {@code true}.
+ * <br/>
+ * If the runtime has JDK Flight Recorder, Flight Recorder events are emitted whenever a recording enables them (regardless of whether the metrics
+ * are enabled). A {@code cufy.beans.DescriptorBuild} event for each descriptor build and a {@code cufy.beans.Conversion} event for each conversion
+ * that takes at least the {@link #getSlowThreshold() slow threshold} (the system property {@code cufy.beans.metrics.slow} in nanoseconds, one
+ * millisecond by default). The events are defined at a separate source set (compiled for Java 11) and are loaded reflectively. Whether any of the
+ * events is enabled is not asked on each operation. It is cached and updated by a flight recorder listener whenever a recording starts or stops.
+ *
+ * @author LSaferSE
+ * @version 2 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public final class BeanMetrics {
+	/**
+	 * Emits a conversion event ({@code BeanEvents.convert(Class, String, long)}). Or null if the runtime has no JDK Flight Recorder.
+	 */
+	private static final MethodHandle CONVERT = event("convert", MethodType.methodType(void.class, Class.class, String.class, long.class));
+	/**
+	 * Emits a descriptor build event ({@code BeanEvents.describe(Class, int, long)}). Or null if the runtime has no JDK Flight Recorder.
+	 */
+	private static final MethodHandle DESCRIBE = event("describe", MethodType.methodType(void.class, Class.class, int.class, long.class));
+	/**
+	 * True, if the runtime has JDK Flight Recorder (and the events are available). Computing it registers the listener that updates {@link #events}.
+	 */
+	private static final boolean JFR = CONVERT != null && DESCRIBE != null && listen();
+	/**
+	 * The start time returned by {@link #start()} when the metrics and the events are disabled.
+	 */
+	private static final long OFF = Long.MIN_VALUE;
+	/**
+	 * The counters and timers of the classes.
+	 */
+	private static final ClassValue<Metric> metrics = new ClassValue<Metric>() {
+		@Override
+		protected Metric computeValue(Class<?> klass) {
+			return new Metric();
+		}
+	};
+
+	/**
+	 * True, if the metrics are enabled.
+	 */
+	private static volatile boolean enabled = Boolean.getBoolean("cufy.beans.metrics");
+	/**
+	 * True, if any of the flight recorder events is enabled (by a running recording). Updated by the listener registered by {@link #listen()}. (Has
+	 * no initializer, so it is not reset after the listener sets it while this class is being initialized)
+	 */
+	private static volatile boolean events;
+	/**
+	 * The minimum time (in nanoseconds) of a conversion to emit a flight recorder event for it.
+	 */
+	private static volatile long slowThreshold = Long.getLong("cufy.beans.metrics.slow", 1_000_000L);
+	/**
+	 * True, if the metrics or any of the events is enabled ({@code enabled || events}). Kept as a single flag, so that {@link #start()} reads one
+	 * volatile field.
+	 */
+	private static volatile boolean timed = enabled || events;
+
+	/**
+	 * This is an util class and must not be instanced as an object.
+	 *
+	 * @throws AssertionError when called
+	 */
+	private BeanMetrics() {
+		throw new AssertionError("No instance for you!");
+	}
+
+	/**
+	 * Get how many times the given operation has been done for the given class (while the metrics were enabled).
+	 *
+	 * @param klass     the class
+	 * @param operation the operation
+	 * @return the number of times the given operation has been done for the given class
+	 * @throws NullPointerException if the given 'klass' or 'operation' is null
+	 */
+	public static long getCount(Class<?> klass, Operation operation) {
+		Objects.requireNonNull(klass, "klass");
+		Objects.requireNonNull(operation, "operation");
+		return metrics.get(klass).counts[operation.ordinal()].sum();
+	}
+
+	/**
+	 * Get the minimum time of a conversion to emit a flight recorder event for it.
+	 *
+	 * @return the slow threshold in nanoseconds
+	 */
+	public static long getSlowThreshold() {
+		return slowThreshold;
+	}
+
+	/**
+	 * Get the total time spent doing the given operation for the given class (while the metrics were enabled).
+	 *
+	 * @param klass     the class
+	 * @param operation the operation
+	 * @return the total time in nanoseconds
+	 * @throws NullPointerException if the given 'klass' or 'operation' is null
+	 */
+	public static long getTime(Class<?> klass, Operation operation) {
+		Objects.requireNonNull(klass, "klass");
+		Objects.requireNonNull(operation, "operation");
+		return metrics.get(klass).times[operation.ordinal()].sum();
+	}
+
+	/**
+	 * Determine if the metrics are enabled.
+	 *
+	 * @return true, if the metrics are enabled
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Reset the counters and the timers of the given class.
+	 *
+	 * @param klass the class
+	 * @throws NullPointerException if the given 'klass' is null
+	 */
+	public static void reset(Class<?> klass) {
+		Objects.requireNonNull(klass, "klass");
+		Metric metric = metrics.get(klass);
+
+		for (int i = 0; i < metric.counts.length; i++) {
+			metric.counts[i].reset();
+			metric.times[i].reset();
+		}
+	}
+
+	/**
+	 * Enable or disable the metrics.
+	 *
+	 * @param enabled true, to enable the metrics
+	 */
+	public static synchronized void setEnabled(boolean enabled) {
+		BeanMetrics.enabled = enabled;
+		BeanMetrics.timed = enabled || BeanMetrics.events;
+	}
+
+	/**
+	 * Set the minimum time of a conversion to emit a flight recorder event for it.
+	 *
+	 * @param slowThreshold the slow threshold in nanoseconds
+	 * @throws IllegalArgumentException if the given 'slowThreshold' is negative
+	 */
+	public static void setSlowThreshold(long slowThreshold) {
+		if (slowThreshold < 0)
+			throw new IllegalArgumentException("slowThreshold < 0");
+
+		BeanMetrics.slowThreshold = slowThreshold;
+	}
+
+	/**
+	 * Record an operation that has been started at the given time. Does nothing if the operation has been started while the metrics and the events
+	 * were disabled. The metrics are updated only if they are enabled. The events check whether they are enabled themselves.
+	 *
+	 * @param klass     the class the operation has been done for
+	 * @param operation the operation
+	 * @param start     the start time of the operation (as returned by {@link #start()})
+	 * @param detail    the detail of the operation (the key of the converted property, or the number of properties of the built descriptor)
+	 */
+	static void record(Class<?> klass, Operation operation, long start, Object detail) {
+		if (start == OFF)
+			return;
+
+		long time = System.nanoTime() - start;
+
+		if (enabled) {
+			Metric metric = metrics.get(klass);
+			metric.counts[operation.ordinal()].increment();
+			metric.times[operation.ordinal()].add(time);
+		}
+
+		if (JFR && events)
+			try {
+				if (operation == Operation.DESCRIBE)
+					DESCRIBE.invokeExact(klass, (int) (Integer) detail, time);
+				else if (operation == Operation.CONVERT && time >= slowThreshold)
+					CONVERT.invokeExact(klass, String.valueOf(detail), time);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new IllegalStateException(t);
+			}
+	}
+
+	/**
+	 * Set whether any of the flight recorder events is enabled. Called by the listener of the events ({@code BeanEvents}) whenever a recording starts
+	 * or stops.
+	 *
+	 * @param events true, if any of the events is enabled
+	 */
+	static synchronized void setEvents(boolean events) {
+		BeanMetrics.events = events;
+		BeanMetrics.timed = BeanMetrics.enabled || events;
+	}
+
+	/**
+	 * Start timing an operation.
+	 *
+	 * @return the start time of the operation. Or a marker if the metrics and the events are disabled
+	 */
+	static long start() {
+		return timed ? System.nanoTime() : OFF;
+	}
+
+	/**
+	 * Find the static method with the given name and type at the events class ({@code cufy.beans.BeanEvents}).
+	 *
+	 * @param name the name of the method
+	 * @param type the type of the method
+	 * @return a handle of the method. Or null if the runtime has no JDK Flight Recorder (or the events class is not available)
+	 */
+	private static MethodHandle event(String name, MethodType type) {
+		try {
+			Class<?> events = Class.forName("cufy.beans.BeanEvents", true, BeanMetrics.class.getClassLoader());
+			return MethodHandles.lookup().findStatic(events, name, type);
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Register the flight recorder listener of the events ({@code BeanEvents.listen()}). The listener sets whether any of the events is enabled now and
+	 * whenever a recording starts or stops.
+	 *
+	 * @return true, if the listener has been registered. False, if the runtime has no JDK Flight Recorder (or the events class is not available)
+	 */
+	private static boolean listen() {
+		MethodHandle listen = event("listen", MethodType.methodType(void.class));
+
+		if (listen == null)
+			return false;
+
+		try {
+			listen.invokeExact();
+			return true;
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new IllegalStateException(t);
+		}
+	}
+
+	/**
+	 * The instrumented operations.
+	 */
+	public enum Operation {
+		/**
+		 * The conversion of a value before being set to a property ({@link Bean.Property#converter()}).
+		 */
+		CONVERT,
+		/**
+		 * The build of the descriptor of a class (including the reflection).
+		 */
+		DESCRIBE,
+		/**
+		 * The construction of an entry set of an instance ({@link Bean.FieldEntry#entrySet(Object)}).
+		 */
+		ENTRY_SET,
+		/**
+		 * The reflection of the fields of a class ({@code Reflect$.getAllFields}) while building its descriptor.
+		 */
+		REFLECT
+	}
+
+	/**
+	 * The counters and the timers of a class.
+	 */
+	private static final class Metric {
+		/**
+		 * The counter of each operation (by its ordinal).
+		 */
+		final LongAdder[] counts = new LongAdder[Operation.values().length];
+		/**
+		 * The timer (total nanoseconds) of each operation (by its ordinal).
+		 */
+		final LongAdder[] times = new LongAdder[Operation.values().length];
+
+		/**
+		 * Construct a new metric with zero counters and timers.
+		 */
+		Metric() {
+			for (int i = 0; i < this.counts.length; i++) {
+				this.counts[i] = new LongAdder();
+				this.times[i] = new LongAdder();
+			}
+		}
+	}
+}
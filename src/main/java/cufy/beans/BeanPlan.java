@@ -0,0 +1,206 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A compiled plan to get or put the values of a fixed array of keys on the instances of a class. The keys are resolved to the indexes of the
+ * properties of the class once (when the plan is compiled). Then each {@link #getAll} or {@link #putAll} reads or writes the properties directly.
+ * Without looking up any key. A plan can be reused for any number of instances of its class.
+ * <br/>
+ * The keys that have no property (or have a property that has been detached from the {@link BeanEntrySet} of the instance) are delegated to the
+ * map methods of the instance (if it is a map). So are all the keys of a {@link ConcurrentBean} (so its properties are written atomically through
+ * its own operations).
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public final class BeanPlan {
+	/**
+	 * The descriptor of the class of this plan.
+	 */
+	private final BeanDescriptor descriptor;
+	/**
+	 * The indexes of the properties of the keys. Or -1 for the keys that have no property.
+	 */
+	private final int[] indexes;
+	/**
+	 * The keys of this plan.
+	 */
+	private final Object[] keys;
+
+	/**
+	 * Construct a new plan.
+	 *
+	 * @param descriptor the descriptor of the class
+	 * @param keys       the keys (already copied)
+	 */
+	private BeanPlan(BeanDescriptor descriptor, Object[] keys) {
+		this.descriptor = descriptor;
+		this.keys = keys;
+		this.indexes = new int[keys.length];
+
+		for (int i = 0; i < keys.length; i++)
+			this.indexes[i] = descriptor.indexOf(keys[i]);
+	}
+
+	/**
+	 * Compile a plan for the given keys on the instances of the given class.
+	 *
+	 * @param klass the class of the instances
+	 * @param keys  the keys of the plan
+	 * @return a new plan for the given keys
+	 * @throws NullPointerException if the given 'klass' or 'keys' is null
+	 */
+	public static BeanPlan of(Class<?> klass, Object... keys) {
+		Objects.requireNonNull(klass, "klass");
+		Objects.requireNonNull(keys, "keys");
+		return new BeanPlan(BeanDescriptor.of(klass), keys.clone());
+	}
+
+	/**
+	 * Get the {@link BeanEntrySet} of the given instance. (Field-only beans are not asked for their entry sets, since their entry sets are views
+	 * over themselves)
+	 *
+	 * @param instance the instance
+	 * @return the bean entry set of the given instance. Or null if it has none
+	 */
+	static BeanEntrySet<?, ?> entrySet(Object instance) {
+		if (instance instanceof Map && !(instance instanceof Bean && !(instance instanceof FullBean))) {
+			Set<?> entrySet = ((Map<?, ?>) instance).entrySet();
+
+			if (entrySet instanceof BeanEntrySet)
+				return (BeanEntrySet<?, ?>) entrySet;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Get the values of the keys of this plan on the given instance. The value of each key will be stored at the index of the key at the given
+	 * output array.
+	 *
+	 * @param instance the instance to get the values from
+	 * @param out      the array to store the values at
+	 * @throws NullPointerException     if the given 'instance' or 'out' is null
+	 * @throws IllegalArgumentException if the given 'out' is shorter than the keys of this plan. Or if the given 'instance' is not an instance of
+	 *                                  the class of this plan (and is not a map)
+	 */
+	public void getAll(Object instance, Object[] out) {
+		Objects.requireNonNull(instance, "instance");
+		Objects.requireNonNull(out, "out");
+		if (out.length < this.keys.length)
+			throw new IllegalArgumentException("out.length < " + this.keys.length);
+
+		Map<Object, Object> map = instance instanceof Map ? (Map<Object, Object>) instance : null;
+		BeanEntrySet<?, ?> entrySet = entrySet(instance);
+		Object target = this.target(instance, entrySet);
+		BitSet detached = entrySet == null ? null : entrySet.detached;
+
+		for (int i = 0; i < this.keys.length; i++) {
+			int index = this.indexes[i];
+
+			out[i] = index != -1 && target != null && (detached == null || !detached.get(index)) ?
+					 this.descriptor.getProperty(index).get(target) :
+					 map == null ? null : map.get(this.keys[i]);
+		}
+	}
+
+	/**
+	 * Get the keys of this plan.
+	 *
+	 * @return a copy of the keys of this plan
+	 */
+	public Object[] getKeys() {
+		return this.keys.clone();
+	}
+
+	/**
+	 * Put the given values to the keys of this plan on the given instance. The value of each key is the value at the index of the key at the given
+	 * values array. The values of the properties are converted like when they get put to beans.
+	 *
+	 * @param instance the instance to put the values to
+	 * @param values   the values to be put
+	 * @throws NullPointerException          if the given 'instance' or 'values' is null
+	 * @throws IllegalArgumentException      if the given 'values' is shorter than the keys of this plan. Or if the given 'instance' is not an
+	 *                                       instance of the class of this plan (and is not a map)
+	 * @throws UnsupportedOperationException if a key has no property and the given 'instance' can't store it
+	 */
+	public void putAll(Object instance, Object[] values) {
+		Objects.requireNonNull(instance, "instance");
+		Objects.requireNonNull(values, "values");
+		if (values.length < this.keys.length)
+			throw new IllegalArgumentException("values.length < " + this.keys.length);
+
+		Map<Object, Object> map = instance instanceof Map ? (Map<Object, Object>) instance : null;
+		BeanEntrySet<?, ?> entrySet = entrySet(instance);
+		Object target = this.target(instance, entrySet);
+		BitSet detached = entrySet == null ? null : entrySet.detached;
+
+		for (int i = 0; i < this.keys.length; i++) {
+			int index = this.indexes[i];
+
+			if (index != -1 && target != null && (detached == null || !detached.get(index))) {
+				this.descriptor.getProperty(index).set(target, values[i]);
+
+				if (entrySet != null)
+					entrySet.mark(index);
+			} else if (map != null) {
+				map.put(this.keys[i], values[i]);
+			} else {
+				throw new UnsupportedOperationException("Can't store the key: " + this.keys[i]);
+			}
+		}
+	}
+
+	/**
+	 * Get the number of the keys of this plan.
+	 *
+	 * @return the number of the keys of this plan
+	 */
+	public int size() {
+		return this.keys.length;
+	}
+
+	/**
+	 * Get the instance holding the values of the properties of the given instance.
+	 *
+	 * @param instance the instance
+	 * @param entrySet the bean entry set of the instance (or null if it has none)
+	 * @return the instance holding the values of the properties. Or null if that instance is not an instance of the class of this plan (and the
+	 * given instance is a map)
+	 * @throws IllegalArgumentException if the given 'instance' is not an instance of the class of this plan and is not a map
+	 */
+	private Object target(Object instance, BeanEntrySet<?, ?> entrySet) {
+		Object target = entrySet == null ? instance : entrySet.instance;
+
+		if (instance instanceof ConcurrentBean)
+			//every key goes through its atomic operations
+			return null;
+		if (target.getClass() == this.descriptor.getKlass())
+			return target;
+		if (instance instanceof Map)
+			//every key goes through the map methods
+			return null;
+
+		throw new IllegalArgumentException(instance + " is not an instance of " + this.descriptor.getKlass());
+	}
+}
@@ -0,0 +1,334 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.util.*;
+
+/**
+ * An immutable point-in-time copy of the entries of a bean. The values of the properties are captured into an array (indexed like the properties of
+ * the {@link BeanDescriptor} of the class of the bean). Without creating entries and without iterating the entry set of the bean (if the bean has a
+ * {@link BeanEntrySet}). The entries that have no property are captured into a second array (in pairs, each key followed by its value).
+ * <br/>
+ * The {@link Lazy} objects of lazy properties are captured as they are (without computing their values). Their values get computed when they get
+ * read from the snapshot (or from the bean).
+ * <br/>
+ * Snapshots never change after being constructed. So they can be handed to other threads freely. A snapshot can be copied cheaply using {@link
+ * #copy()}. The copy shares the arrays of the snapshot until it gets written.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public final class BeanSnapshot<K, V> extends AbstractMap<K, V> implements FullBean<K, V> {
+	/**
+	 * The value of a property that has no entry (like a detached property).
+	 */
+	static final Object ABSENT = new Object();
+
+	/**
+	 * The descriptor of the properties of this snapshot.
+	 */
+	final BeanDescriptor descriptor;
+	/**
+	 * The keys and the values of the entries that have no property. Each key followed by its value.
+	 */
+	final Object[] extra;
+	/**
+	 * The number of the used slots at {@link #extra}.
+	 */
+	final int length;
+	/**
+	 * The number of entries of this snapshot.
+	 */
+	final int size;
+	/**
+	 * The values of the properties (indexed like the properties of the descriptor).
+	 */
+	final Object[] values;
+	/**
+	 * The entries of this snapshot. Created when requested.
+	 */
+	private Set<Map.Entry<K, V>> entrySet;
+
+	/**
+	 * Construct a new snapshot over the given arrays. (The arrays should never be changed after this)
+	 *
+	 * @param descriptor the descriptor of the properties
+	 * @param values     the values of the properties
+	 * @param extra      the keys and the values of the entries that have no property
+	 * @param length     the number of the used slots at the given 'extra'
+	 * @param size       the number of the entries
+	 */
+	BeanSnapshot(BeanDescriptor descriptor, Object[] values, Object[] extra, int length, int size) {
+		this.descriptor = descriptor;
+		this.values = values;
+		this.extra = extra;
+		this.length = length;
+		this.size = size;
+	}
+
+	/**
+	 * Capture the entries of the given instance. If the instance is a snapshot, Then it is returned as it is. If the instance is a {@link
+	 * CopyOnWriteBean}, Then its own (array sharing) {@link CopyOnWriteBean#snapshot()} is used. If the instance is a map with a {@link
+	 * BeanEntrySet}, Then the properties are read from the instance of the set directly and its added entries are read from its table. If the
+	 * instance is any other map, Then its entries are iterated. Otherwise, the properties of the instance are read.
+	 * <br/>
+	 * The capture is consistent if the instance is not changed while being captured.
+	 *
+	 * @param instance the instance to be captured
+	 * @param <K>      the type of the keys
+	 * @param <V>      the type of the values
+	 * @return a new snapshot of the entries of the given instance
+	 * @throws NullPointerException if the given 'instance' is null
+	 */
+	public static <K, V> BeanSnapshot<K, V> of(Object instance) {
+		Objects.requireNonNull(instance, "instance");
+		if (instance instanceof BeanSnapshot)
+			return (BeanSnapshot<K, V>) instance;
+		if (instance instanceof CopyOnWriteBean)
+			return ((CopyOnWriteBean<K, V>) instance).snapshot();
+
+		Set<?> entrySet = instance instanceof Map ? ((Map<?, ?>) instance).entrySet() : null;
+
+		if (entrySet instanceof BeanEntrySet) {
+			BeanEntrySet<?, ?> beanEntrySet = (BeanEntrySet<?, ?>) entrySet;
+			BeanDescriptor descriptor = BeanDescriptor.of(beanEntrySet.instance.getClass());
+			Object[] values = new Object[descriptor.size()];
+			int properties = 0;
+
+			for (int i = 0; i < values.length; i++)
+				if (beanEntrySet.detached != null && beanEntrySet.detached.get(i)) {
+					values[i] = ABSENT;
+				} else {
+					values[i] = capture(descriptor.getProperty(i), beanEntrySet.instance);
+					properties++;
+				}
+
+			int size = beanEntrySet.size();
+			Object[] extra = new Object[size - properties << 1];
+
+			for (int i = beanEntrySet.nextAdded(0), j = 0; i != -1; i = beanEntrySet.nextAdded(i + 2), j += 2) {
+				extra[j] = beanEntrySet.keyAt(i);
+				extra[j + 1] = beanEntrySet.valueAt(i);
+			}
+
+			return new BeanSnapshot<>(descriptor, values, extra, extra.length, size);
+		}
+
+		BeanDescriptor descriptor = BeanDescriptor.of(instance.getClass());
+		Object[] values = new Object[descriptor.size()];
+
+		if (entrySet == null) {
+			for (int i = 0; i < values.length; i++)
+				values[i] = capture(descriptor.getProperty(i), instance);
+
+			return new BeanSnapshot<>(descriptor, values, new Object[0], 0, values.length);
+		}
+
+		Object[] extra = new Object[entrySet.size() << 1];
+		int length = 0;
+		int size = 0;
+
+		Arrays.fill(values, ABSENT);
+
+		for (Object object : entrySet) {
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+			int index = descriptor.indexOf(entry.getKey());
+
+			if (index == -1) {
+				if (length == extra.length)
+					extra = Arrays.copyOf(extra, length + 2 << 1);
+
+				extra[length++] = entry.getKey();
+				extra[length++] = entry.getValue();
+			} else {
+				values[index] = entry.getValue();
+			}
+
+			size++;
+		}
+
+		return new BeanSnapshot<>(descriptor, values, extra, length, size);
+	}
+
+	/**
+	 * Get the value of the given property on the given instance to be captured. The lazy object of a lazy property is captured as it is.
+	 *
+	 * @param property the property to be captured
+	 * @param instance the instance to read the property from
+	 * @return the value to be captured
+	 */
+	static Object capture(BeanDescriptor.PropertyDescriptor property, Object instance) {
+		return property.lazy ? property.read(instance) : property.get(instance);
+	}
+
+	/**
+	 * Find the index of the given key at the given pairs array.
+	 *
+	 * @param extra  the pairs array
+	 * @param length the number of the used slots at the array
+	 * @param key    the key to find
+	 * @return the index of the given key. Or -1 if the array don't have it
+	 */
+	static int find(Object[] extra, int length, Object key) {
+		for (int i = 0; i < length; i += 2)
+			if (Objects.equals(extra[i], key))
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Get the value of the property at the given index from its captured value. Computing the value of the captured lazy object if the property is
+	 * lazy.
+	 *
+	 * @param descriptor the descriptor of the properties
+	 * @param index      the index of the property
+	 * @param value      the captured value (not {@link #ABSENT})
+	 * @return the value of the property
+	 */
+	static Object load(BeanDescriptor descriptor, int index, Object value) {
+		return descriptor.getProperty(index).unwrap(value);
+	}
+
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException("clear");
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		int index = this.descriptor.indexOf(key);
+		return index == -1 ? find(this.extra, this.length, key) != -1 : this.values[index] != ABSENT;
+	}
+
+	/**
+	 * Create a copy-on-write bean that starts with the entries of this snapshot. The copy shares the arrays of this snapshot until it gets written.
+	 *
+	 * @return a new copy-on-write bean with the entries of this snapshot
+	 */
+	public CopyOnWriteBean<K, V> copy() {
+		return new CopyOnWriteBean<>(this.descriptor, this.values, this.extra, this.length, this.size);
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if (this.entrySet == null)
+			this.entrySet = new AbstractSet<Map.Entry<K, V>>() {
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+					return new Iterator<Map.Entry<K, V>>() {
+						/**
+						 * The next position (a property or a slot at the extra array, after the properties).
+						 */
+						private int next = this.skip(0);
+
+						@Override
+						public boolean hasNext() {
+							return this.next != -1;
+						}
+
+						@Override
+						public Map.Entry<K, V> next() {
+							if (this.next == -1)
+								throw new NoSuchElementException();
+
+							int position = this.next;
+							int properties = BeanSnapshot.this.values.length;
+							this.next = this.skip(position < properties ? position + 1 : position + 2);
+
+							return position < properties ?
+								   new AbstractMap.SimpleImmutableEntry<>(
+										   (K) BeanSnapshot.this.descriptor.getProperty(position).key,
+										   (V) load(BeanSnapshot.this.descriptor, position, BeanSnapshot.this.values[position])
+								   ) :
+								   new AbstractMap.SimpleImmutableEntry<>(
+										   (K) BeanSnapshot.this.extra[position - properties],
+										   (V) BeanSnapshot.this.extra[position - properties + 1]
+								   );
+						}
+
+						/**
+						 * Get the next position that has an entry starting from the given position.
+						 *
+						 * @param position the position to start from
+						 * @return the next position that has an entry. Or -1 if there is none
+						 */
+						private int skip(int position) {
+							Object[] values = BeanSnapshot.this.values;
+
+							for (; position < values.length; position++)
+								if (values[position] != ABSENT)
+									return position;
+
+							return position - values.length < BeanSnapshot.this.length ? position : -1;
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return BeanSnapshot.this.size;
+				}
+			};
+
+		return this.entrySet;
+	}
+
+	@Override
+	public V get(Object key) {
+		int index = this.descriptor.indexOf(key);
+
+		if (index == -1) {
+			int i = find(this.extra, this.length, key);
+			return i == -1 ? null : (V) this.extra[i + 1];
+		}
+
+		Object value = this.values[index];
+		return value == ABSENT ? null : (V) load(this.descriptor, index, value);
+	}
+
+	/**
+	 * Get the descriptor of the properties of this snapshot.
+	 *
+	 * @return the descriptor of this snapshot
+	 */
+	public BeanDescriptor getDescriptor() {
+		return this.descriptor;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		throw new UnsupportedOperationException("put");
+	}
+
+	@Override
+	public V remove(Object key) {
+		throw new UnsupportedOperationException("remove");
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public BeanSnapshot<K, V> snapshot() {
+		return this;
+	}
+}
@@ -0,0 +1,702 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * A columnar storage of the properties of many beans of the same class. Each property is stored at its own column (an array). Primitive properties
+ * are stored at primitive arrays. So a row costs only its slots at the columns (no object header and no boxing).
+ * <br/>
+ * The rows can be accessed as beans using {@link #row(int)} (views that read and write the columns). And the columns can be scanned using {@link
+ * #ints(Object)}, {@link #longs(Object)}, {@link #doubles(Object)} and {@link #values(Object)}.
+ * <br/>
+ * The values put to the rows are converted like the values put to the fields of beans. The columns of {@link Lazy lazy} properties hold the lazy
+ * objects. So their values are computed only when they get read.
+ *
+ * @param <T> the type of the beans
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public class BeanTable<T> {
+	/**
+	 * A column of {@code boolean}s.
+	 */
+	private static final int BOOLEAN = 0;
+	/**
+	 * A column of {@code byte}s.
+	 */
+	private static final int BYTE = 1;
+	/**
+	 * A column of {@code char}s.
+	 */
+	private static final int CHAR = 2;
+	/**
+	 * A column of {@code double}s.
+	 */
+	private static final int DOUBLE = 3;
+	/**
+	 * A column of {@code float}s.
+	 */
+	private static final int FLOAT = 4;
+	/**
+	 * A column of {@code int}s.
+	 */
+	private static final int INT = 5;
+	/**
+	 * A column of {@code long}s.
+	 */
+	private static final int LONG = 6;
+	/**
+	 * A column of objects.
+	 */
+	private static final int OBJECT = 7;
+	/**
+	 * A column of {@code short}s.
+	 */
+	private static final int SHORT = 8;
+
+	/**
+	 * The columns. An array for each property (at the index of the property).
+	 */
+	protected Object[] columns;
+	/**
+	 * The descriptor of the class of the beans.
+	 */
+	protected final BeanDescriptor descriptor;
+	/**
+	 * The kind of the column of each property.
+	 */
+	protected final int[] kinds;
+	/**
+	 * The number of rows.
+	 */
+	protected int size;
+
+	/**
+	 * Construct a new empty table for the beans of the given class.
+	 *
+	 * @param klass the class of the beans
+	 * @throws NullPointerException if the given 'klass' is null
+	 */
+	public BeanTable(Class<T> klass) {
+		this(klass, 16);
+	}
+
+	/**
+	 * Construct a new empty table for the beans of the given class.
+	 *
+	 * @param klass    the class of the beans
+	 * @param capacity the initial number of rows to allocate
+	 * @throws NullPointerException     if the given 'klass' is null
+	 * @throws IllegalArgumentException if the given 'capacity' is negative
+	 */
+	public BeanTable(Class<T> klass, int capacity) {
+		Objects.requireNonNull(klass, "klass");
+		if (capacity < 0)
+			throw new IllegalArgumentException("Negative capacity: " + capacity);
+
+		this.descriptor = BeanDescriptor.of(klass);
+		this.kinds = new int[this.descriptor.size()];
+		this.columns = new Object[this.kinds.length];
+
+		for (int i = 0; i < this.kinds.length; i++) {
+			Class<?> type = this.descriptor.getProperty(i).field.getType();
+
+			this.kinds[i] = type == int.class ? INT :
+							type == long.class ? LONG :
+							type == double.class ? DOUBLE :
+							type == boolean.class ? BOOLEAN :
+							type == byte.class ? BYTE :
+							type == char.class ? CHAR :
+							type == short.class ? SHORT :
+							type == float.class ? FLOAT :
+							OBJECT;
+			this.columns[i] = allocate(this.kinds[i], capacity);
+		}
+	}
+
+	/**
+	 * Allocate a new column.
+	 *
+	 * @param kind     the kind of the column
+	 * @param capacity the length of the column
+	 * @return a new column
+	 */
+	private static Object allocate(int kind, int capacity) {
+		switch (kind) {
+			case BOOLEAN:
+				return new boolean[capacity];
+			case BYTE:
+				return new byte[capacity];
+			case CHAR:
+				return new char[capacity];
+			case DOUBLE:
+				return new double[capacity];
+			case FLOAT:
+				return new float[capacity];
+			case INT:
+				return new int[capacity];
+			case LONG:
+				return new long[capacity];
+			case SHORT:
+				return new short[capacity];
+			default:
+				return new Object[capacity];
+		}
+	}
+
+	/**
+	 * Add a row with the values of the properties of the given bean. (The values are copied as they are)
+	 *
+	 * @param bean the bean to copy the values from
+	 * @return the index of the added row
+	 * @throws NullPointerException     if the given 'bean' is null
+	 * @throws IllegalArgumentException if the given 'bean' is not an instance of the class of this table
+	 */
+	public int add(T bean) {
+		Objects.requireNonNull(bean, "bean");
+		if (!this.descriptor.getKlass().isInstance(bean))
+			throw new IllegalArgumentException(bean + " is not an instance of " + this.descriptor.getKlass());
+
+		BeanAccessor accessor = this.descriptor.getAccessor();
+		int row = this.grow();
+
+		for (int i = 0; i < this.kinds.length; i++)
+			switch (this.kinds[i]) {
+				case INT:
+					((int[]) this.columns[i])[row] = accessor.getInt(bean, i);
+					break;
+				case LONG:
+					((long[]) this.columns[i])[row] = accessor.getLong(bean, i);
+					break;
+				case DOUBLE:
+					((double[]) this.columns[i])[row] = accessor.getDouble(bean, i);
+					break;
+				default:
+					this.store(i, row, accessor.get(bean, i));
+			}
+
+		return row;
+	}
+
+	/**
+	 * Add a row with the default values (zeros, false and nulls).
+	 *
+	 * @return the index of the added row
+	 */
+	public int addRow() {
+		return this.grow();
+	}
+
+	/**
+	 * Get a stream over the column of the {@code double} property with the given key. The stream reads the column directly.
+	 *
+	 * @param key the key of the property
+	 * @return a stream of the values of the property at all the rows
+	 * @throws IllegalArgumentException if there is no property with the given key or it is not a {@code double} property
+	 */
+	public DoubleStream doubles(Object key) {
+		return Arrays.stream((double[]) this.column(key, DOUBLE), 0, this.size);
+	}
+
+	/**
+	 * Get the descriptor of the class of the beans of this table.
+	 *
+	 * @return the descriptor of this table
+	 */
+	public BeanDescriptor getDescriptor() {
+		return this.descriptor;
+	}
+
+	/**
+	 * Get a stream over the column of the {@code int} property with the given key. The stream reads the column directly.
+	 *
+	 * @param key the key of the property
+	 * @return a stream of the values of the property at all the rows
+	 * @throws IllegalArgumentException if there is no property with the given key or it is not an {@code int} property
+	 */
+	public IntStream ints(Object key) {
+		return Arrays.stream((int[]) this.column(key, INT), 0, this.size);
+	}
+
+	/**
+	 * Write the values at the given row to the properties of the given instance. (The values are written as they are) The properties with final
+	 * fields are skipped.
+	 *
+	 * @param row      the index of the row
+	 * @param instance the instance to write to
+	 * @param <I>      the type of the instance
+	 * @return the given instance
+	 * @throws NullPointerException      if the given 'instance' is null
+	 * @throws IndexOutOfBoundsException if the given 'row' is out of bounds
+	 * @throws IllegalArgumentException  if the given 'instance' is not an instance of the class of this table
+	 */
+	public <I extends T> I load(int row, I instance) {
+		Objects.requireNonNull(instance, "instance");
+		this.check(row);
+		BeanAccessor accessor = this.descriptor.getAccessor();
+
+		for (int i = 0; i < this.kinds.length; i++) {
+			if (this.descriptor.getProperty(i).setter == null)
+				continue;
+
+			switch (this.kinds[i]) {
+				case INT:
+					accessor.setInt(instance, i, ((int[]) this.columns[i])[row]);
+					break;
+				case LONG:
+					accessor.setLong(instance, i, ((long[]) this.columns[i])[row]);
+					break;
+				case DOUBLE:
+					accessor.setDouble(instance, i, ((double[]) this.columns[i])[row]);
+					break;
+				default:
+					accessor.set(instance, i, this.load(i, row));
+			}
+		}
+
+		return instance;
+	}
+
+	/**
+	 * Get a stream over the column of the {@code long} property with the given key. The stream reads the column directly.
+	 *
+	 * @param key the key of the property
+	 * @return a stream of the values of the property at all the rows
+	 * @throws IllegalArgumentException if there is no property with the given key or it is not a {@code long} property
+	 */
+	public LongStream longs(Object key) {
+		return Arrays.stream((long[]) this.column(key, LONG), 0, this.size);
+	}
+
+	/**
+	 * Get a bean view over the row at the given index.
+	 *
+	 * @param row the index of the row
+	 * @return a view reading and writing the row at the given index
+	 * @throws IndexOutOfBoundsException if the given 'row' is out of bounds
+	 */
+	public Row row(int row) {
+		this.check(row);
+		return new Row(row);
+	}
+
+	/**
+	 * Get the number of rows at this table.
+	 *
+	 * @return the number of rows
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Get a stream over the values of the property with the given key at all the rows (boxed if primitive).
+	 *
+	 * @param key the key of the property
+	 * @return a stream of the values of the property at all the rows
+	 * @throws IllegalArgumentException if there is no property with the given key
+	 */
+	public Stream<Object> values(Object key) {
+		int index = this.indexOf(key);
+
+		if (this.kinds[index] == OBJECT && !this.descriptor.getProperty(index).lazy)
+			return Arrays.stream((Object[]) this.columns[index], 0, this.size);
+
+		return IntStream.range(0, this.size).mapToObj(row -> this.value(index, row));
+	}
+
+	@Override
+	public String toString() {
+		return "BeanTable(" + this.descriptor.getKlass().getName() + ", " + this.size + " rows)";
+	}
+
+	/**
+	 * Make sure the given row is at this table.
+	 *
+	 * @param row the index of the row
+	 * @throws IndexOutOfBoundsException if the given 'row' is out of bounds
+	 */
+	private void check(int row) {
+		if (row < 0 || row >= this.size)
+			throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + this.size);
+	}
+
+	/**
+	 * Get the column of the property with the given key.
+	 *
+	 * @param key  the key of the property
+	 * @param kind the expected kind of the column
+	 * @return the column of the property
+	 * @throws IllegalArgumentException if there is no property with the given key or its column is not of the given kind
+	 */
+	private Object column(Object key, int kind) {
+		int index = this.indexOf(key);
+
+		if (this.kinds[index] != kind)
+			throw new IllegalArgumentException("The column of " + key + " is of " + this.descriptor.getProperty(index).field.getType());
+
+		return this.columns[index];
+	}
+
+	/**
+	 * Add a row (growing the columns if needed).
+	 *
+	 * @return the index of the added row
+	 */
+	private int grow() {
+		if (this.kinds.length != 0 && this.size == Array.getLength(this.columns[0])) {
+			int capacity = Math.max(16, this.size + (this.size >> 1));
+
+			for (int i = 0; i < this.columns.length; i++) {
+				Object column = allocate(this.kinds[i], capacity);
+				System.arraycopy(this.columns[i], 0, column, 0, this.size);
+				this.columns[i] = column;
+			}
+		}
+
+		return this.size++;
+	}
+
+	/**
+	 * Get the index of the property with the given key.
+	 *
+	 * @param key the key of the property
+	 * @return the index of the property
+	 * @throws IllegalArgumentException if there is no property with the given key
+	 */
+	private int indexOf(Object key) {
+		int index = this.descriptor.indexOf(key);
+
+		if (index == -1)
+			throw new IllegalArgumentException("No property with the key: " + key);
+
+		return index;
+	}
+
+	/**
+	 * Get the value at the given row of the column at the given index (boxed if primitive).
+	 *
+	 * @param index the index of the column
+	 * @param row   the index of the row
+	 * @return the value at the given row of the column
+	 */
+	private Object load(int index, int row) {
+		Object column = this.columns[index];
+
+		switch (this.kinds[index]) {
+			case BOOLEAN:
+				return ((boolean[]) column)[row];
+			case BYTE:
+				return ((byte[]) column)[row];
+			case CHAR:
+				return ((char[]) column)[row];
+			case DOUBLE:
+				return ((double[]) column)[row];
+			case FLOAT:
+				return ((float[]) column)[row];
+			case INT:
+				return ((int[]) column)[row];
+			case LONG:
+				return ((long[]) column)[row];
+			case SHORT:
+				return ((short[]) column)[row];
+			default:
+				return ((Object[]) column)[row];
+		}
+	}
+
+	/**
+	 * Get the value of the property at the given index at the given row. (The value of the lazy object if the property is lazy)
+	 *
+	 * @param index the index of the property
+	 * @param row   the index of the row
+	 * @return the value of the property at the given row
+	 */
+	private Object value(int index, int row) {
+		return this.descriptor.getProperty(index).unwrap(this.load(index, row));
+	}
+
+	/**
+	 * Store the given value (as it is) at the given row of the column at the given index.
+	 *
+	 * @param index the index of the column
+	 * @param row   the index of the row
+	 * @param value the value to be stored
+	 * @throws IllegalArgumentException if the given value can't be stored at the column
+	 */
+	private void store(int index, int row, Object value) {
+		Object column = this.columns[index];
+
+		try {
+			switch (this.kinds[index]) {
+				case BOOLEAN:
+					((boolean[]) column)[row] = (Boolean) value;
+					break;
+				case BYTE:
+					((byte[]) column)[row] = (Byte) value;
+					break;
+				case CHAR:
+					((char[]) column)[row] = (Character) value;
+					break;
+				case DOUBLE:
+					((double[]) column)[row] = (Double) value;
+					break;
+				case FLOAT:
+					((float[]) column)[row] = (Float) value;
+					break;
+				case INT:
+					((int[]) column)[row] = (Integer) value;
+					break;
+				case LONG:
+					((long[]) column)[row] = (Long) value;
+					break;
+				case SHORT:
+					((short[]) column)[row] = (Short) value;
+					break;
+				default:
+					if (value != null && !this.descriptor.getProperty(index).field.getType().isInstance(value))
+						throw new ClassCastException(value.getClass().getName());
+
+					((Object[]) column)[row] = value;
+			}
+		} catch (ClassCastException | NullPointerException e) {
+			throw new IllegalArgumentException("Can't set " + this.descriptor.getProperty(index).field + " to " + value, e);
+		}
+	}
+
+	/**
+	 * A bean view over a row of the table. Reads and writes the columns of the table directly. Its keys are the keys of the properties of the class
+	 * of the table. Its entries can't be removed.
+	 */
+	public final class Row extends AbstractMap<Object, Object> implements FullBean<Object, Object> {
+		/**
+		 * The index of the row of this view.
+		 */
+		private final int row;
+		/**
+		 * The entries of this view. Created when requested.
+		 */
+		private Set<Map.Entry<Object, Object>> entrySet;
+
+		/**
+		 * Construct a new view over the row at the given index.
+		 *
+		 * @param row the index of the row
+		 */
+		private Row(int row) {
+			this.row = row;
+		}
+
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException("clear");
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return BeanTable.this.descriptor.indexOf(key) != -1;
+		}
+
+		@Override
+		public Set<Map.Entry<Object, Object>> entrySet() {
+			if (this.entrySet == null)
+				this.entrySet = new AbstractSet<Map.Entry<Object, Object>>() {
+					@Override
+					public Iterator<Map.Entry<Object, Object>> iterator() {
+						return new Iterator<Map.Entry<Object, Object>>() {
+							/**
+							 * The index of the next property.
+							 */
+							private int next;
+
+							@Override
+							public boolean hasNext() {
+								return this.next < BeanTable.this.kinds.length;
+							}
+
+							@Override
+							public Map.Entry<Object, Object> next() {
+								if (this.next >= BeanTable.this.kinds.length)
+									throw new NoSuchElementException();
+
+								return Row.this.new Cell(this.next++);
+							}
+						};
+					}
+
+					@Override
+					public int size() {
+						return BeanTable.this.kinds.length;
+					}
+				};
+
+			return this.entrySet;
+		}
+
+		@Override
+		public Object get(Object key) {
+			int index = BeanTable.this.descriptor.indexOf(key);
+			return index == -1 ? null : BeanTable.this.value(index, this.row);
+		}
+
+		@Override
+		public Object put(Object key, Object value) {
+			int index = BeanTable.this.descriptor.indexOf(key);
+
+			if (index == -1)
+				throw new UnsupportedOperationException("Can't store the key: " + key);
+
+			return this.set(index, value);
+		}
+
+		@Override
+		public Object remove(Object key) {
+			throw new UnsupportedOperationException("remove");
+		}
+
+		@Override
+		public int size() {
+			return BeanTable.this.kinds.length;
+		}
+
+		@Override
+		public double getDouble(Object key) {
+			int index = BeanTable.this.descriptor.indexOf(key);
+
+			if (index != -1 && BeanTable.this.kinds[index] == DOUBLE)
+				return ((double[]) BeanTable.this.columns[index])[this.row];
+
+			return ((Number) this.get(key)).doubleValue();
+		}
+
+		@Override
+		public int getInt(Object key) {
+			int index = BeanTable.this.descriptor.indexOf(key);
+
+			if (index != -1 && BeanTable.this.kinds[index] == INT)
+				return ((int[]) BeanTable.this.columns[index])[this.row];
+
+			return ((Number) this.get(key)).intValue();
+		}
+
+		@Override
+		public long getLong(Object key) {
+			int index = BeanTable.this.descriptor.indexOf(key);
+
+			if (index != -1 && BeanTable.this.kinds[index] == LONG)
+				return ((long[]) BeanTable.this.columns[index])[this.row];
+
+			return ((Number) this.get(key)).longValue();
+		}
+
+		/**
+		 * Get the index of the row of this view.
+		 *
+		 * @return the index of the row
+		 */
+		public int getRow() {
+			return this.row;
+		}
+
+		@Override
+		public void setDouble(Object key, double value) {
+			int index = BeanTable.this.descriptor.indexOf(key);
+
+			if (index != -1 && BeanTable.this.kinds[index] == DOUBLE && BeanTable.this.descriptor.getProperty(index).natural)
+				((double[]) BeanTable.this.columns[index])[this.row] = value;
+			else
+				this.put(key, value);
+		}
+
+		@Override
+		public void setInt(Object key, int value) {
+			int index = BeanTable.this.descriptor.indexOf(key);
+
+			if (index != -1 && BeanTable.this.kinds[index] == INT && BeanTable.this.descriptor.getProperty(index).natural)
+				((int[]) BeanTable.this.columns[index])[this.row] = value;
+			else
+				this.put(key, value);
+		}
+
+		@Override
+		public void setLong(Object key, long value) {
+			int index = BeanTable.this.descriptor.indexOf(key);
+
+			if (index != -1 && BeanTable.this.kinds[index] == LONG && BeanTable.this.descriptor.getProperty(index).natural)
+				((long[]) BeanTable.this.columns[index])[this.row] = value;
+			else
+				this.put(key, value);
+		}
+
+		/**
+		 * Set the value of the property at the given index at the row of this view. The value will be converted like the values of the fields of
+		 * beans.
+		 *
+		 * @param index the index of the property
+		 * @param value the value to be set
+		 * @return the previous value
+		 * @throws IllegalArgumentException if the value can't be stored at the column of the property
+		 */
+		private Object set(int index, Object value) {
+			BeanDescriptor.PropertyDescriptor property = BeanTable.this.descriptor.getProperty(index);
+			Object old = BeanTable.this.load(index, this.row);
+			BeanTable.this.store(index, this.row, property.prepare(value));
+			return property.peek(old);
+		}
+
+		/**
+		 * An entry of a row. Reads and writes the column of its property.
+		 */
+		private final class Cell extends AbstractEntry<Object, Object> {
+			/**
+			 * The index of the property of this entry.
+			 */
+			private final int index;
+
+			/**
+			 * Construct a new entry for the property at the given index.
+			 *
+			 * @param index the index of the property
+			 */
+			private Cell(int index) {
+				this.index = index;
+			}
+
+			@Override
+			public Object getKey() {
+				return BeanTable.this.descriptor.getProperty(this.index).key;
+			}
+
+			@Override
+			public Object getValue() {
+				return BeanTable.this.value(this.index, Row.this.row);
+			}
+
+			@Override
+			public Object setValue(Object value) {
+				return Row.this.set(this.index, value);
+			}
+		}
+	}
+}
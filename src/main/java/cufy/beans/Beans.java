@@ -0,0 +1,270 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Bulk conversions between maps and instances with properties. A bulk shares one {@link BeanDescriptor} for all of its elements and splits the
+ * work into chunks that run in a {@link ForkJoinPool}. The elements are independent. So the work scales with the parallelism of the pool.
+ *
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public final class Beans {
+	/**
+	 * The default number of elements converted by a single task.
+	 */
+	public static final int DEFAULT_CHUNK = 1024;
+
+	/**
+	 * This is an util class and must not be instanced as an object.
+	 *
+	 * @throws AssertionError when called
+	 */
+	private Beans() {
+		throw new AssertionError("No instance for you!");
+	}
+
+	/**
+	 * Convert each of the given maps to a new instance of the given class. Using the common pool and the {@link #DEFAULT_CHUNK default chunk}.
+	 *
+	 * @param klass the class of the instances
+	 * @param maps  the maps to be converted
+	 * @param <T>   the type of the instances
+	 * @return a fixed-size list of the new instances (in the order of the given maps)
+	 * @throws NullPointerException     if the given 'klass' or 'maps' is null. Or if any of the maps is null
+	 * @throws IllegalArgumentException if the given class has no accessible constructor with no parameters. Or if a value can't be stored at its
+	 *                                  property
+	 * @see #fromMaps(Class, Collection, ForkJoinPool, int)
+	 */
+	public static <T> List<T> fromMaps(Class<T> klass, Collection<? extends Map<?, ?>> maps) {
+		return Beans.fromMaps(klass, maps, ForkJoinPool.commonPool(), DEFAULT_CHUNK);
+	}
+
+	/**
+	 * Convert each of the given maps to a new instance of the given class. Each instance is constructed using the constructor of the class with no
+	 * parameters. Then, the value of each key at the map that has a property at the class is {@link BeanDescriptor.PropertyDescriptor#set set} to
+	 * the property (the other keys are ignored).
+	 *
+	 * @param klass the class of the instances
+	 * @param maps  the maps to be converted
+	 * @param pool  the pool to run the conversions at
+	 * @param chunk the maximum number of maps converted by a single task
+	 * @param <T>   the type of the instances
+	 * @return a fixed-size list of the new instances (in the order of the given maps)
+	 * @throws NullPointerException     if the given 'klass' or 'maps' or 'pool' is null. Or if any of the maps is null
+	 * @throws IllegalArgumentException if the given 'chunk' is not positive. Or if the given class has no accessible constructor with no parameters.
+	 *                                  Or if a value can't be stored at its property
+	 */
+	public static <T> List<T> fromMaps(Class<T> klass, Collection<? extends Map<?, ?>> maps, ForkJoinPool pool, int chunk) {
+		Objects.requireNonNull(klass, "klass");
+		Objects.requireNonNull(maps, "maps");
+		Objects.requireNonNull(pool, "pool");
+		if (chunk < 1)
+			throw new IllegalArgumentException("chunk < 1");
+
+		BeanDescriptor descriptor = BeanDescriptor.of(klass);
+		MethodHandle constructor = constructor(klass);
+		Object[] source = maps.toArray();
+		Object[] result = new Object[source.length];
+
+		run(source.length, pool, chunk, i -> {
+			Map<?, ?> map = (Map<?, ?>) source[i];
+			Objects.requireNonNull(map, "map");
+			Object instance;
+
+			try {
+				instance = constructor.invokeExact();
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new IllegalArgumentException("Can't construct " + klass, t);
+			}
+
+			for (int j = 0, size = descriptor.size(); j < size; j++) {
+				BeanDescriptor.PropertyDescriptor property = descriptor.getProperty(j);
+				Object value = map.get(property.key);
+
+				if (value != null || map.containsKey(property.key))
+					property.set(instance, value);
+			}
+
+			result[i] = instance;
+		});
+
+		return (List<T>) Arrays.asList(result);
+	}
+
+	/**
+	 * Convert each of the given instances to a new map of its entries. Using the common pool and the {@link #DEFAULT_CHUNK default chunk}.
+	 *
+	 * @param instances the instances to be converted
+	 * @param <K>       the type of the keys
+	 * @param <V>       the type of the values
+	 * @return a fixed-size list of the new maps (in the order of the given instances)
+	 * @throws NullPointerException if the given 'instances' is null. Or if any of the instances is null
+	 * @see #toMaps(Collection, ForkJoinPool, int)
+	 */
+	public static <K, V> List<Map<K, V>> toMaps(Collection<?> instances) {
+		return Beans.toMaps(instances, ForkJoinPool.commonPool(), DEFAULT_CHUNK);
+	}
+
+	/**
+	 * Convert each of the given instances to a new map of its entries. Instances that are maps are copied. Other instances are converted to a map
+	 * of the values of their properties (read using the descriptor of their class, shared by the instances of the same class in a task).
+	 *
+	 * @param instances the instances to be converted
+	 * @param pool      the pool to run the conversions at
+	 * @param chunk     the maximum number of instances converted by a single task
+	 * @param <K>       the type of the keys
+	 * @param <V>       the type of the values
+	 * @return a fixed-size list of the new maps (in the order of the given instances)
+	 * @throws NullPointerException     if the given 'instances' or 'pool' is null. Or if any of the instances is null
+	 * @throws IllegalArgumentException if the given 'chunk' is not positive
+	 */
+	public static <K, V> List<Map<K, V>> toMaps(Collection<?> instances, ForkJoinPool pool, int chunk) {
+		Objects.requireNonNull(instances, "instances");
+		Objects.requireNonNull(pool, "pool");
+		if (chunk < 1)
+			throw new IllegalArgumentException("chunk < 1");
+
+		Object[] source = instances.toArray();
+		Object[] result = new Object[source.length];
+
+		run(source.length, pool, chunk, i -> {
+			Object instance = source[i];
+			Objects.requireNonNull(instance, "instance");
+
+			if (instance instanceof Map) {
+				result[i] = new HashMap<>((Map<?, ?>) instance);
+				return;
+			}
+
+			BeanDescriptor descriptor = BeanDescriptor.of(instance.getClass());
+			Map<Object, Object> map = new HashMap<>(Math.max(16, descriptor.size() * 4 / 3 + 1));
+
+			for (int j = 0, size = descriptor.size(); j < size; j++) {
+				BeanDescriptor.PropertyDescriptor property = descriptor.getProperty(j);
+				map.put(property.key, property.get(instance));
+			}
+
+			result[i] = map;
+		});
+
+		return (List<Map<K, V>>) (List) Arrays.asList(result);
+	}
+
+	/**
+	 * Get a handle that constructs instances of the given class using its constructor with no parameters. Typed {@code ()Object}.
+	 *
+	 * @param klass the class
+	 * @return a handle constructing instances of the given class
+	 * @throws IllegalArgumentException if the given class has no accessible constructor with no parameters
+	 */
+	private static MethodHandle constructor(Class<?> klass) {
+		try {
+			Constructor<?> constructor = klass.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			return MethodHandles.lookup()
+					.unreflectConstructor(constructor)
+					.asType(MethodType.methodType(Object.class));
+		} catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+			throw new IllegalArgumentException(klass + " has no accessible constructor with no parameters", e);
+		}
+	}
+
+	/**
+	 * Run the given action for each index in {@code [0, length)}. Directly if the length is not more than the given chunk. Otherwise, at the given
+	 * pool split into chunks.
+	 *
+	 * @param length the number of indexes
+	 * @param pool   the pool to run at
+	 * @param chunk  the maximum number of indexes of a single task
+	 * @param action the action to run for each index
+	 */
+	private static void run(int length, ForkJoinPool pool, int chunk, IntConsumer action) {
+		if (length <= chunk) {
+			for (int i = 0; i < length; i++)
+				action.accept(i);
+			return;
+		}
+
+		pool.invoke(new Chunk(0, length, chunk, action));
+	}
+
+	/**
+	 * A task running an action for a range of indexes. Splitting it in halves until it is not more than the chunk.
+	 */
+	private static final class Chunk extends RecursiveAction {
+		/**
+		 * The version of the serialized form of this class.
+		 */
+		private static final long serialVersionUID = -5837346373624462672L;
+
+		/**
+		 * The action to run for each index.
+		 */
+		private final IntConsumer action;
+		/**
+		 * The maximum number of indexes of a single task.
+		 */
+		private final int chunk;
+		/**
+		 * The first index (inclusive).
+		 */
+		private final int from;
+		/**
+		 * The last index (exclusive).
+		 */
+		private final int to;
+
+		/**
+		 * Construct a new task.
+		 *
+		 * @param from   the first index (inclusive)
+		 * @param to     the last index (exclusive)
+		 * @param chunk  the maximum number of indexes of a single task
+		 * @param action the action to run for each index
+		 */
+		private Chunk(int from, int to, int chunk, IntConsumer action) {
+			this.from = from;
+			this.to = to;
+			this.chunk = chunk;
+			this.action = action;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from <= this.chunk) {
+				for (int i = this.from; i < this.to; i++)
+					this.action.accept(i);
+				return;
+			}
+
+			int middle = this.from + this.to >>> 1;
+			invokeAll(new Chunk(this.from, middle, this.chunk, this.action), new Chunk(middle, this.to, this.chunk, this.action));
+		}
+	}
+}
@@ -0,0 +1,771 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A thread-safe bean. Each property is updated atomically on its own (no global lock). And the entries that have no field are stored at a {@link
+ * ConcurrentHashMap}.
+ * <br/>
+ * The properties with {@code volatile} fields that this class can access (public fields, or fields of classes in this package) are updated
+ * lock-free using field updaters. The other properties are updated while holding a lock chosen from a fixed set of striped locks (by the instance
+ * and the property). So all the writes to a property should go through the bean (writing a field directly skips the lock).
+ * <br/>
+ * Like {@link Bean}, The properties can't be removed. So {@link #compute}, {@link #computeIfPresent} and {@link #merge} store null at a property
+ * when their function returns null. And the single operations ({@link #put}, {@link #replace}, {@link #putIfAbsent}, ...) of a property return its
+ * exact previous value.
+ * <br/>
+ * The values of {@link Lazy lazy} properties are stored as lazy objects. They get computed when they get read (including by the operations that
+ * pass the current value to a function). And the atomic operations compare the lazy objects (not their values).
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public abstract class ConcurrentBean<K, V> extends AbstractMap<K, V> implements FullBean<K, V>, ConcurrentMap<K, V>, Serializable {
+	/**
+	 * The atomic cells of the properties of each class.
+	 */
+	private static final ClassValue<Cell[]> cells = new ClassValue<Cell[]>() {
+		@Override
+		protected Cell[] computeValue(Class<?> klass) {
+			BeanDescriptor descriptor = BeanDescriptor.of(klass);
+			Cell[] cells = new Cell[descriptor.size()];
+
+			for (int i = 0; i < cells.length; i++)
+				cells[i] = new Cell(descriptor.getProperty(i));
+
+			return cells;
+		}
+	};
+	/**
+	 * The striped locks used for the properties that can't be updated lock-free.
+	 */
+	private static final Object[] locks = new Object[64];
+	/**
+	 * The stand-in of null keys and values at the overflow map.
+	 */
+	private static final Object NULL = new Object();
+	/**
+	 * The version of the serialized form of this class.
+	 */
+	private static final long serialVersionUID = 1554460917900288217L;
+
+	static {
+		for (int i = 0; i < locks.length; i++)
+			locks[i] = new Object();
+	}
+
+	/**
+	 * The entries that have no field. (Null keys and values are replaced with {@link #NULL})
+	 */
+	protected transient ConcurrentHashMap<Object, Object> overflow = new ConcurrentHashMap<>();
+	/**
+	 * The entry set of this. Created when requested. (It has no state, So racing to create it is harmless)
+	 */
+	protected transient volatile Set<Map.Entry<K, V>> entrySet;
+
+	/**
+	 * Mask the given key or value to be stored at the overflow map.
+	 *
+	 * @param object the key or value
+	 * @return the given object. Or {@link #NULL} if it is null
+	 */
+	private static Object mask(Object object) {
+		return object == null ? NULL : object;
+	}
+
+	/**
+	 * Unmask the given key or value read from the overflow map.
+	 *
+	 * @param object the masked key or value
+	 * @param <T>    the type of the key or value
+	 * @return the given object. Or null if it is {@link #NULL}
+	 */
+	private static <T> T unmask(Object object) {
+		return object == NULL ? null : (T) object;
+	}
+
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException("clear");
+	}
+
+	@Override
+	public V compute(K key, BiFunction<? super K, ? super V, ? extends V> function) {
+		Objects.requireNonNull(function, "function");
+		Cell cell = this.cell(key);
+
+		if (cell == null)
+			return unmask(this.overflow.compute(mask(key), (k, v) -> {
+				V value = function.apply(key, unmask(v));
+				return value == null ? null : mask(value);
+			}));
+
+		while (true) {
+			Object current = cell.get(this);
+			Object value = cell.property.prepare(function.apply(key, (V) cell.property.unwrap(current)));
+
+			if (cell.compareAndSet(this, current, value))
+				return (V) cell.property.unwrap(value);
+		}
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+		Objects.requireNonNull(function, "function");
+		Cell cell = this.cell(key);
+
+		if (cell == null)
+			while (true) {
+				Object current = this.overflow.get(mask(key));
+
+				if (current != null && current != NULL)
+					return (V) current;
+
+				V value = function.apply(key);
+
+				if (value == null)
+					return null;
+				if (current == null ? this.overflow.putIfAbsent(mask(key), value) == null : this.overflow.replace(mask(key), NULL, value))
+					return value;
+			}
+
+		while (true) {
+			Object current = cell.get(this);
+			Object present = cell.property.unwrap(current);
+
+			if (present != null)
+				return (V) present;
+
+			V value = function.apply(key);
+
+			if (value == null)
+				return null;
+
+			Object converted = cell.property.prepare(value);
+
+			if (cell.compareAndSet(this, current, converted))
+				return (V) cell.property.unwrap(converted);
+		}
+	}
+
+	@Override
+	public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> function) {
+		Objects.requireNonNull(function, "function");
+		Cell cell = this.cell(key);
+
+		if (cell == null)
+			return unmask(this.overflow.computeIfPresent(mask(key), (k, v) -> {
+				if (v == NULL)
+					return NULL;
+
+				return function.apply(key, (V) v);
+			}));
+
+		while (true) {
+			Object current = cell.get(this);
+			Object present = cell.property.unwrap(current);
+
+			if (present == null)
+				return null;
+
+			Object value = cell.property.prepare(function.apply(key, (V) present));
+
+			if (cell.compareAndSet(this, current, value))
+				return (V) cell.property.unwrap(value);
+		}
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return this.cell(key) != null || this.overflow.containsKey(mask(key));
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		for (Cell cell : cells.get(this.getClass()))
+			if (Objects.equals(value, cell.value(this)))
+				return true;
+
+		return this.overflow.containsValue(mask(value));
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		Set<Map.Entry<K, V>> entrySet = this.entrySet;
+
+		if (entrySet == null)
+			this.entrySet = entrySet = new EntrySet();
+
+		return entrySet;
+	}
+
+	@Override
+	public V get(Object key) {
+		Cell cell = this.cell(key);
+		return cell == null ? unmask(this.overflow.get(mask(key))) : (V) cell.value(this);
+	}
+
+	@Override
+	public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> function) {
+		Objects.requireNonNull(value, "value");
+		Objects.requireNonNull(function, "function");
+		Cell cell = this.cell(key);
+
+		if (cell == null)
+			return unmask(this.overflow.merge(mask(key), value, (v, w) -> v == NULL ? w : function.apply((V) v, (V) w)));
+
+		while (true) {
+			Object current = cell.get(this);
+			Object present = cell.property.unwrap(current);
+			Object merged = cell.property.prepare(present == null ? value : function.apply((V) present, value));
+
+			if (cell.compareAndSet(this, current, merged))
+				return (V) cell.property.unwrap(merged);
+		}
+	}
+
+	@Override
+	public V put(K key, V value) {
+		Cell cell = this.cell(key);
+		return cell == null ? unmask(this.overflow.put(mask(key), mask(value))) : (V) cell.property.peek(cell.getAndSet(this, cell.property.prepare(value)));
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		Cell cell = this.cell(key);
+
+		if (cell == null)
+			while (true) {
+				Object current = this.overflow.putIfAbsent(mask(key), mask(value));
+
+				if (current == null)
+					return null;
+				if (current != NULL)
+					return (V) current;
+				if (this.overflow.replace(mask(key), NULL, mask(value)))
+					return null;
+			}
+
+		Object converted = cell.property.prepare(value);
+
+		while (true) {
+			Object current = cell.get(this);
+			Object present = cell.property.unwrap(current);
+
+			if (present != null)
+				return (V) present;
+			if (cell.compareAndSet(this, current, converted))
+				return null;
+		}
+	}
+
+	@Override
+	public V remove(Object key) {
+		if (this.cell(key) != null)
+			throw new UnsupportedOperationException("Can't remove the property: " + key);
+
+		return unmask(this.overflow.remove(mask(key)));
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		if (this.cell(key) != null)
+			throw new UnsupportedOperationException("Can't remove the property: " + key);
+
+		return this.overflow.remove(mask(key), mask(value));
+	}
+
+	@Override
+	public V replace(K key, V value) {
+		Cell cell = this.cell(key);
+
+		if (cell == null)
+			return unmask(this.overflow.replace(mask(key), mask(value)));
+
+		return (V) cell.property.peek(cell.getAndSet(this, cell.property.prepare(value)));
+	}
+
+	@Override
+	public boolean replace(K key, V expected, V value) {
+		Cell cell = this.cell(key);
+
+		if (cell == null)
+			return this.overflow.replace(mask(key), mask(expected), mask(value));
+
+		Object converted = cell.property.prepare(value);
+
+		while (true) {
+			Object current = cell.get(this);
+
+			if (!Objects.equals(cell.property.unwrap(current), expected))
+				return false;
+			if (cell.compareAndSet(this, current, converted))
+				return true;
+		}
+	}
+
+	@Override
+	public int size() {
+		return cells.get(this.getClass()).length + this.overflow.size();
+	}
+
+	@Override
+	public void getAll(K[] keys, Object[] out) {
+		Objects.requireNonNull(keys, "keys");
+		Objects.requireNonNull(out, "out");
+		if (out.length < keys.length)
+			throw new IllegalArgumentException("out.length < " + keys.length);
+
+		Cell[] cells = ConcurrentBean.cells.get(this.getClass());
+		BeanDescriptor descriptor = BeanDescriptor.of(this.getClass());
+
+		for (int i = 0; i < keys.length; i++) {
+			BeanDescriptor.PropertyDescriptor property = descriptor.getProperty(keys[i]);
+
+			out[i] = property == null ?
+					 unmask(this.overflow.get(mask(keys[i]))) :
+					 cells[property.index].value(this);
+		}
+	}
+
+	@Override
+	public void putAll(K[] keys, Object[] values) {
+		Objects.requireNonNull(keys, "keys");
+		Objects.requireNonNull(values, "values");
+		if (values.length < keys.length)
+			throw new IllegalArgumentException("values.length < " + keys.length);
+
+		Cell[] cells = ConcurrentBean.cells.get(this.getClass());
+		BeanDescriptor descriptor = BeanDescriptor.of(this.getClass());
+
+		for (int i = 0; i < keys.length; i++) {
+			BeanDescriptor.PropertyDescriptor property = descriptor.getProperty(keys[i]);
+
+			if (property == null)
+				this.overflow.put(mask(keys[i]), mask(values[i]));
+			else
+				cells[property.index].getAndSet(this, property.prepare(values[i]));
+		}
+	}
+
+	@Override
+	public int getInt(K key) {
+		Cell cell = this.cell(key);
+		return cell != null && cell.ints != null ? cell.ints.get(this) : ((Number) this.get(key)).intValue();
+	}
+
+	@Override
+	public void setInt(K key, int value) {
+		Cell cell = this.cell(key);
+
+		if (cell != null && cell.ints != null && cell.property.natural)
+			cell.ints.set(this, value);
+		else
+			this.put(key, (V) (Object) value);
+	}
+
+	@Override
+	public long getLong(K key) {
+		Cell cell = this.cell(key);
+		return cell != null && cell.longs != null ? cell.longs.get(this) : ((Number) this.get(key)).longValue();
+	}
+
+	@Override
+	public void setLong(K key, long value) {
+		Cell cell = this.cell(key);
+
+		if (cell != null && cell.longs != null && cell.property.natural)
+			cell.longs.set(this, value);
+		else
+			this.put(key, (V) (Object) value);
+	}
+
+	/**
+	 * Get the cell of the property with the given key.
+	 *
+	 * @param key the key of the property
+	 * @return the cell of the property. Or null if there is no property with the given key
+	 */
+	private Cell cell(Object key) {
+		BeanDescriptor.PropertyDescriptor property = BeanDescriptor.of(this.getClass()).getProperty(key);
+		return property == null ? null : cells.get(this.getClass())[property.index];
+	}
+
+	/**
+	 * Deserialization method.
+	 *
+	 * @param stream to initialize this using
+	 * @throws ClassNotFoundException if the class of a serialized object could not be found.
+	 * @throws IOException            if an I/O error occurs.
+	 * @throws NullPointerException   if the given 'stream' is null
+	 */
+	private void readObject(ObjectInputStream stream) throws ClassNotFoundException, IOException {
+		Objects.requireNonNull(stream, "stream");
+		this.overflow = new ConcurrentHashMap<>();
+
+		int length = stream.readInt();
+		for (int i = 0; i < length; i++)
+			this.overflow.put(mask(stream.readObject()), mask(stream.readObject()));
+	}
+
+	/**
+	 * Serialization method. Writes the entries that have no field. (The fields are written by the serialization of the class of this)
+	 *
+	 * @param stream to use to serialize this
+	 * @throws IOException          if an I/O error occurs
+	 * @throws NullPointerException if the given 'stream' is null
+	 */
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		Objects.requireNonNull(stream, "stream");
+		List<Object> entries = new ArrayList<>();
+
+		for (Map.Entry<Object, Object> entry : this.overflow.entrySet()) {
+			entries.add(unmask(entry.getKey()));
+			entries.add(unmask(entry.getValue()));
+		}
+
+		stream.writeInt(entries.size() / 2);
+		for (Object object : entries)
+			stream.writeObject(object);
+	}
+
+	/**
+	 * The atomic operations of a property.
+	 */
+	private static final class Cell {
+		/**
+		 * The updater of the field of the property if it is a volatile {@code int} field. Or null.
+		 */
+		final AtomicIntegerFieldUpdater<Object> ints;
+		/**
+		 * The updater of the field of the property if it is a volatile {@code long} field. Or null.
+		 */
+		final AtomicLongFieldUpdater<Object> longs;
+		/**
+		 * The property of this cell.
+		 */
+		final BeanDescriptor.PropertyDescriptor property;
+		/**
+		 * The updater of the field of the property if it is a volatile non-primitive field. Or null.
+		 */
+		final AtomicReferenceFieldUpdater<Object, Object> references;
+
+		/**
+		 * Construct a new cell for the given property.
+		 *
+		 * @param property the property of the cell
+		 */
+		private Cell(BeanDescriptor.PropertyDescriptor property) {
+			Field field = property.field;
+			Class klass = field.getDeclaringClass();
+			int modifiers = field.getModifiers();
+			AtomicIntegerFieldUpdater<Object> ints = null;
+			AtomicLongFieldUpdater<Object> longs = null;
+			AtomicReferenceFieldUpdater<Object, Object> references = null;
+
+			if (Modifier.isVolatile(modifiers) && !Modifier.isStatic(modifiers))
+				try {
+					if (field.getType() == int.class)
+						ints = AtomicIntegerFieldUpdater.newUpdater(klass, field.getName());
+					else if (field.getType() == long.class)
+						longs = AtomicLongFieldUpdater.newUpdater(klass, field.getName());
+					else if (!field.getType().isPrimitive())
+						references = AtomicReferenceFieldUpdater.newUpdater(klass, field.getType(), field.getName());
+				} catch (RuntimeException ignored) {
+					//not accessible from this class. The striped locks will be used
+				}
+
+			this.property = property;
+			this.ints = ints;
+			this.longs = longs;
+			this.references = references;
+		}
+
+		/**
+		 * Set the value of the property on the given instance to the given value if its current value is the given expected value. The values are
+		 * compared by identity (and by value if the field is primitive).
+		 *
+		 * @param instance the instance
+		 * @param expected the expected current value
+		 * @param value    the new value (as it is)
+		 * @return true, if the value has been set
+		 * @throws IllegalArgumentException if the given 'value' can't be stored at the field of the property
+		 */
+		boolean compareAndSet(Object instance, Object expected, Object value) {
+			if (this.references != null)
+				return this.references.compareAndSet(instance, expected, this.check(value));
+			if (this.ints != null)
+				return expected != null && this.ints.compareAndSet(instance, (Integer) expected, (Integer) this.check(value));
+			if (this.longs != null)
+				return expected != null && this.longs.compareAndSet(instance, (Long) expected, (Long) this.check(value));
+
+			synchronized (this.lock(instance)) {
+				Object current = this.property.read(instance);
+
+				if (current != expected && !(this.property.field.getType().isPrimitive() && Objects.equals(current, expected)))
+					return false;
+
+				this.property.write(instance, value);
+				return true;
+			}
+		}
+
+		/**
+		 * Get the value of the field of the property on the given instance.
+		 *
+		 * @param instance the instance
+		 * @return the current value of the field of the property
+		 */
+		Object get(Object instance) {
+			if (this.references != null)
+				return this.references.get(instance);
+			if (this.ints != null)
+				return this.ints.get(instance);
+			if (this.longs != null)
+				return this.longs.get(instance);
+
+			synchronized (this.lock(instance)) {
+				return this.property.read(instance);
+			}
+		}
+
+		/**
+		 * Set the value of the property on the given instance and return its previous value. Atomically.
+		 *
+		 * @param instance the instance
+		 * @param value    the new value (as it is)
+		 * @return the previous value of the property
+		 * @throws IllegalArgumentException if the given 'value' can't be stored at the field of the property
+		 */
+		Object getAndSet(Object instance, Object value) {
+			if (this.references != null)
+				return this.references.getAndSet(instance, this.check(value));
+			if (this.ints != null)
+				return this.ints.getAndSet(instance, (Integer) this.check(value));
+			if (this.longs != null)
+				return this.longs.getAndSet(instance, (Long) this.check(value));
+
+			synchronized (this.lock(instance)) {
+				Object old = this.property.read(instance);
+				this.property.write(instance, value);
+				return old;
+			}
+		}
+
+		/**
+		 * Get the value of the property on the given instance. (The value of the lazy object at the field if the property is lazy)
+		 *
+		 * @param instance the instance
+		 * @return the current value of the property
+		 */
+		Object value(Object instance) {
+			return this.property.unwrap(this.get(instance));
+		}
+
+		/**
+		 * Make sure the given value can be stored at the field of the property.
+		 *
+		 * @param value the value to be checked
+		 * @return the given value
+		 * @throws IllegalArgumentException if the given 'value' can't be stored at the field of the property
+		 */
+		private Object check(Object value) {
+			Class<?> type = this.property.field.getType();
+
+			if (type.isPrimitive() ? !MethodType.methodType(type).wrap().returnType().isInstance(value) : value != null && !type.isInstance(value))
+				throw new IllegalArgumentException("Can't set " + this.property.field + " to " + value);
+
+			return value;
+		}
+
+		/**
+		 * Get the lock of the property on the given instance.
+		 *
+		 * @param instance the instance
+		 * @return the striped lock to be held while accessing the property on the given instance
+		 */
+		private Object lock(Object instance) {
+			return locks[(System.identityHashCode(instance) * 31 + this.property.index) & locks.length - 1];
+		}
+	}
+
+	/**
+	 * The entry set of a concurrent bean. The entries of the properties then the entries at the overflow map. Weakly consistent like the views of
+	 * {@link ConcurrentHashMap}.
+	 */
+	private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+		@Override
+		public void clear() {
+			ConcurrentBean.this.clear();
+		}
+
+		@Override
+		public boolean contains(Object object) {
+			if (!(object instanceof Map.Entry))
+				return false;
+
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>) object;
+			Object key = entry.getKey();
+			return ConcurrentBean.this.containsKey(key) && Objects.equals(ConcurrentBean.this.get(key), entry.getValue());
+		}
+
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator() {
+			return new Iterator<Map.Entry<K, V>>() {
+				/**
+				 * The cells of the properties.
+				 */
+				private final Cell[] cells = ConcurrentBean.cells.get(ConcurrentBean.this.getClass());
+				/**
+				 * The iterator of the overflow map.
+				 */
+				private final Iterator<Object> overflow = ConcurrentBean.this.overflow.keySet().iterator();
+				/**
+				 * The key of the last returned overflow entry. Or null if the last returned entry was not an overflow entry.
+				 */
+				private Object last;
+				/**
+				 * The index of the next property.
+				 */
+				private int next;
+
+				@Override
+				public boolean hasNext() {
+					return this.next < this.cells.length || this.overflow.hasNext();
+				}
+
+				@Override
+				public Map.Entry<K, V> next() {
+					if (this.next < this.cells.length) {
+						this.last = null;
+						return new CellEntry(this.cells[this.next++]);
+					}
+
+					Object key = this.last = this.overflow.next();
+					return new OverflowEntry(key);
+				}
+
+				@Override
+				public void remove() {
+					if (this.last == null)
+						throw new IllegalStateException();
+
+					this.overflow.remove();
+					this.last = null;
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return ConcurrentBean.this.size();
+		}
+	}
+
+	/**
+	 * An entry of a property. Reads and writes the property atomically.
+	 */
+	private final class CellEntry extends AbstractEntry<K, V> {
+		/**
+		 * The cell of the property.
+		 */
+		private final Cell cell;
+
+		/**
+		 * Construct a new entry for the given cell.
+		 *
+		 * @param cell the cell of the property
+		 */
+		private CellEntry(Cell cell) {
+			this.cell = cell;
+		}
+
+		@Override
+		public K getKey() {
+			return (K) this.cell.property.key;
+		}
+
+		@Override
+		public V getValue() {
+			return (V) this.cell.value(ConcurrentBean.this);
+		}
+
+		@Override
+		public V setValue(V value) {
+			return (V) this.cell.property.peek(this.cell.getAndSet(ConcurrentBean.this, this.cell.property.prepare(value)));
+		}
+	}
+
+	/**
+	 * An entry at the overflow map. Reads and writes the overflow map using its key.
+	 */
+	private final class OverflowEntry extends AbstractEntry<K, V> {
+		/**
+		 * The key of this entry as stored at the overflow map.
+		 */
+		private final Object key;
+
+		/**
+		 * Construct a new overflow entry.
+		 *
+		 * @param key the key as stored at the overflow map
+		 */
+		private OverflowEntry(Object key) {
+			this.key = key;
+		}
+
+		@Override
+		public K getKey() {
+			return unmask(this.key);
+		}
+
+		@Override
+		public V getValue() {
+			return unmask(ConcurrentBean.this.overflow.get(this.key));
+		}
+
+		@Override
+		public V setValue(V value) {
+			while (true) {
+				Object old = ConcurrentBean.this.overflow.get(this.key);
+
+				if (old == null)
+					throw new IllegalStateException("Entry removed: " + this.getKey());
+				if (ConcurrentBean.this.overflow.replace(this.key, old, mask(value)))
+					return unmask(old);
+			}
+		}
+	}
+}
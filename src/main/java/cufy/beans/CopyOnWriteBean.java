@@ -0,0 +1,355 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.util.*;
+
+/**
+ * A bean that shares the arrays of a {@link BeanSnapshot} until it gets written. The first write copies the arrays. Taking a snapshot of this
+ * shares the arrays again (so the next write will copy them again). So taking a snapshot of this costs a single small object.
+ * <br/>
+ * The values of the properties (of the {@link BeanDescriptor} this was created with) are converted like the values of the fields of beans. Any
+ * other key can be stored too. The values of lazy properties are stored as {@link Lazy} objects (computed when they get read). This is not
+ * thread safe. But the snapshots taken from this are.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public final class CopyOnWriteBean<K, V> extends AbstractMap<K, V> implements FullBean<K, V> {
+	/**
+	 * The descriptor of the properties of this.
+	 */
+	private final BeanDescriptor descriptor;
+	/**
+	 * The entries of this. Created when requested.
+	 */
+	private Set<Map.Entry<K, V>> entrySet;
+	/**
+	 * The keys and the values of the entries that have no property. Each key followed by its value.
+	 */
+	private Object[] extra;
+	/**
+	 * The number of the used slots at {@link #extra}.
+	 */
+	private int length;
+	/**
+	 * True, if the arrays of this are shared with a snapshot (so they should be copied before being written).
+	 */
+	private boolean shared;
+	/**
+	 * The number of entries of this.
+	 */
+	private int size;
+	/**
+	 * The values of the properties (indexed like the properties of the descriptor).
+	 */
+	private Object[] values;
+
+	/**
+	 * Construct a new copy-on-write bean with the properties of the given class and no entries.
+	 *
+	 * @param klass the class of the properties
+	 * @throws NullPointerException if the given 'klass' is null
+	 */
+	public CopyOnWriteBean(Class<?> klass) {
+		Objects.requireNonNull(klass, "klass");
+		this.descriptor = BeanDescriptor.of(klass);
+		this.values = new Object[this.descriptor.size()];
+		this.extra = new Object[0];
+		Arrays.fill(this.values, BeanSnapshot.ABSENT);
+	}
+
+	/**
+	 * Construct a new copy-on-write bean sharing the given arrays.
+	 *
+	 * @param descriptor the descriptor of the properties
+	 * @param values     the values of the properties
+	 * @param extra      the keys and the values of the entries that have no property
+	 * @param length     the number of the used slots at the given 'extra'
+	 * @param size       the number of the entries
+	 */
+	CopyOnWriteBean(BeanDescriptor descriptor, Object[] values, Object[] extra, int length, int size) {
+		this.descriptor = descriptor;
+		this.values = values;
+		this.extra = extra;
+		this.length = length;
+		this.size = size;
+		this.shared = true;
+	}
+
+	@Override
+	public void clear() {
+		this.values = new Object[this.descriptor.size()];
+		this.extra = new Object[0];
+		this.length = 0;
+		this.size = 0;
+		this.shared = false;
+		Arrays.fill(this.values, BeanSnapshot.ABSENT);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		int index = this.descriptor.indexOf(key);
+		return index == -1 ? BeanSnapshot.find(this.extra, this.length, key) != -1 : this.values[index] != BeanSnapshot.ABSENT;
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if (this.entrySet == null)
+			this.entrySet = new AbstractSet<Map.Entry<K, V>>() {
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+					return new Iterator<Map.Entry<K, V>>() {
+						/**
+						 * The key of the last returned entry. Or {@link BeanSnapshot#ABSENT} if it has been removed (or no entry has been returned).
+						 */
+						private Object last = BeanSnapshot.ABSENT;
+						/**
+						 * The position of the last returned entry.
+						 */
+						private int position;
+						/**
+						 * The next position (a property or a slot at the extra array, after the properties).
+						 */
+						private int next = this.skip(0);
+
+						@Override
+						public boolean hasNext() {
+							return this.next != -1;
+						}
+
+						@Override
+						public Map.Entry<K, V> next() {
+							if (this.next == -1)
+								throw new NoSuchElementException();
+
+							int properties = CopyOnWriteBean.this.values.length;
+							this.position = this.next;
+							this.last = this.position < properties ?
+										CopyOnWriteBean.this.descriptor.getProperty(this.position).key :
+										CopyOnWriteBean.this.extra[this.position - properties];
+							this.next = this.skip(this.position < properties ? this.position + 1 : this.position + 2);
+
+							return CopyOnWriteBean.this.new Pair((K) this.last);
+						}
+
+						@Override
+						public void remove() {
+							if (this.last == BeanSnapshot.ABSENT)
+								throw new IllegalStateException();
+
+							CopyOnWriteBean.this.remove(this.last);
+
+							//the last pair has been moved to the removed slot
+							if (this.position >= CopyOnWriteBean.this.values.length)
+								this.next = this.skip(this.position);
+
+							this.last = BeanSnapshot.ABSENT;
+						}
+
+						/**
+						 * Get the next position that has an entry starting from the given position.
+						 *
+						 * @param position the position to start from
+						 * @return the next position that has an entry. Or -1 if there is none
+						 */
+						private int skip(int position) {
+							Object[] values = CopyOnWriteBean.this.values;
+
+							for (; position < values.length; position++)
+								if (values[position] != BeanSnapshot.ABSENT)
+									return position;
+
+							return position - values.length < CopyOnWriteBean.this.length ? position : -1;
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return CopyOnWriteBean.this.size;
+				}
+			};
+
+		return this.entrySet;
+	}
+
+	@Override
+	public V get(Object key) {
+		int index = this.descriptor.indexOf(key);
+
+		if (index == -1) {
+			int i = BeanSnapshot.find(this.extra, this.length, key);
+			return i == -1 ? null : (V) this.extra[i + 1];
+		}
+
+		Object value = this.values[index];
+		return value == BeanSnapshot.ABSENT ? null : (V) BeanSnapshot.load(this.descriptor, index, value);
+	}
+
+	/**
+	 * Get the descriptor of the properties of this.
+	 *
+	 * @return the descriptor of this
+	 */
+	public BeanDescriptor getDescriptor() {
+		return this.descriptor;
+	}
+
+	/**
+	 * Determine if the arrays of this are currently shared with a snapshot (the next write will copy them).
+	 *
+	 * @return true, if the arrays of this are shared
+	 */
+	public boolean isShared() {
+		return this.shared;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		int index = this.descriptor.indexOf(key);
+
+		if (index != -1) {
+			BeanDescriptor.PropertyDescriptor property = this.descriptor.getProperty(index);
+			Object converted = property.prepare(value);
+			this.own();
+
+			Object old = this.values[index];
+			this.values[index] = converted;
+
+			if (old != BeanSnapshot.ABSENT)
+				return (V) property.peek(old);
+
+			this.size++;
+			return null;
+		}
+
+		int i = BeanSnapshot.find(this.extra, this.length, key);
+		this.own();
+
+		if (i != -1) {
+			V old = (V) this.extra[i + 1];
+			this.extra[i + 1] = value;
+			return old;
+		}
+		if (this.length == this.extra.length)
+			this.extra = Arrays.copyOf(this.extra, this.length + 2 << 1);
+
+		this.extra[this.length++] = key;
+		this.extra[this.length++] = value;
+		this.size++;
+		return null;
+	}
+
+	@Override
+	public V remove(Object key) {
+		int index = this.descriptor.indexOf(key);
+
+		if (index != -1) {
+			Object old = this.values[index];
+
+			if (old == BeanSnapshot.ABSENT)
+				return null;
+
+			this.own();
+			this.values[index] = BeanSnapshot.ABSENT;
+			this.size--;
+			return (V) this.descriptor.getProperty(index).peek(old);
+		}
+
+		int i = BeanSnapshot.find(this.extra, this.length, key);
+
+		if (i == -1)
+			return null;
+
+		this.own();
+		V old = (V) this.extra[i + 1];
+		this.length -= 2;
+		this.extra[i] = this.extra[this.length];
+		this.extra[i + 1] = this.extra[this.length + 1];
+		this.extra[this.length] = null;
+		this.extra[this.length + 1] = null;
+		this.size--;
+		return old;
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Take a snapshot of the entries of this. The snapshot shares the arrays of this. So the next write to this will copy them.
+	 *
+	 * @return a new snapshot of the entries of this
+	 */
+	@Override
+	public BeanSnapshot<K, V> snapshot() {
+		this.shared = true;
+		return new BeanSnapshot<>(this.descriptor, this.values, this.extra, this.length, this.size);
+	}
+
+	/**
+	 * Make sure the arrays of this are not shared with a snapshot. Copying them if they are.
+	 */
+	private void own() {
+		if (this.shared) {
+			this.values = this.values.clone();
+			this.extra = this.extra.clone();
+			this.shared = false;
+		}
+	}
+
+	/**
+	 * An entry of this. Reads and writes this using its key.
+	 */
+	private final class Pair extends AbstractEntry<K, V> {
+		/**
+		 * The key of this entry.
+		 */
+		private final K key;
+
+		/**
+		 * Construct a new entry with the given key.
+		 *
+		 * @param key the key of the entry
+		 */
+		private Pair(K key) {
+			this.key = key;
+		}
+
+		@Override
+		public K getKey() {
+			return this.key;
+		}
+
+		@Override
+		public V getValue() {
+			return CopyOnWriteBean.this.get(this.key);
+		}
+
+		@Override
+		public V setValue(V value) {
+			if (!CopyOnWriteBean.this.containsKey(this.key))
+				throw new IllegalStateException("Entry removed: " + this.key);
+
+			return CopyOnWriteBean.this.put(this.key, value);
+		}
+	}
+}
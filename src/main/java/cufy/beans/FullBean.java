@@ -73,6 +73,36 @@ public interface FullBean<K, V> extends Bean<K, V> {
 		return null;
 	}
 
+	@Override
+	default int getInt(K key) {
+		return ((Number) this.get(key)).intValue();
+	}
+
+	@Override
+	default void setInt(K key, int value) {
+		this.put(key, (V) (Object) value);
+	}
+
+	@Override
+	default long getLong(K key) {
+		return ((Number) this.get(key)).longValue();
+	}
+
+	@Override
+	default void setLong(K key, long value) {
+		this.put(key, (V) (Object) value);
+	}
+
+	@Override
+	default double getDouble(K key) {
+		return ((Number) this.get(key)).doubleValue();
+	}
+
+	@Override
+	default void setDouble(K key, double value) {
+		this.put(key, (V) (Object) value);
+	}
+
 	@Override
 	default V remove(Object key) {
 		V old = null;
@@ -0,0 +1,178 @@
+/*
+ *	Copyright 2020 Cufyorg
+ *
+ *	Licensed under the Apache License, Version 2.0 (the "License");
+ *	you may not use this file except in compliance with the License.
+ *	You may obtain a copy of the License at
+ *
+ *	    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *	Unless required by applicable law or agreed to in writing, software
+ *	distributed under the License is distributed on an "AS IS" BASIS,
+ *	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *	See the License for the specific language governing permissions and
+ *	limitations under the License.
+ */
+package cufy.beans;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A lazily computed value. The supplier of the value is invoked on the first {@link #get()} and the result is memoized. Concurrent first
+ * invocations are safe (the supplier will be invoked by only one of them, and the others will wait for its result). If the supplier throws, Then
+ * nothing is memoized and the next {@link #get()} will invoke it again.
+ * <br/>
+ * A property with a field of this type is a lazy property. Getting the value of a lazy property (using {@link Bean#get}, or the value of its
+ * entry) gets the value of the lazy object at its field. Iterating the entries of a bean don't compute the values of its lazy properties unless
+ * their values get read. Putting a value to a lazy property stores an already computed lazy object (unless the value is a lazy object itself).
+ * <br/>
+ * Serializing a lazy object computes its value. And only the value is written.
+ *
+ * @param <T> the type of the value
+ * @author LSaferSE
+ * @version 1 release (17-Oct-2026)
+ * @since 17-Oct-2026
+ */
+public final class Lazy<T> implements Supplier<T>, Serializable {
+	/**
+	 * The version of the serialized form of this class.
+	 */
+	private static final long serialVersionUID = 4550951156717333002L;
+
+	/**
+	 * The supplier of the value. Set and cleared (once the value has been computed, so the supplier and what it captures can be collected) while
+	 * holding the lock of this, and read only while holding it. (So it is visible even if this was published through a race) Null if the value has
+	 * been computed.
+	 */
+	private transient Supplier<? extends T> supplier;
+	/**
+	 * True, if the value has been computed.
+	 */
+	private transient volatile boolean loaded;
+	/**
+	 * The value. (Visible to the threads that read {@link #loaded} as true)
+	 */
+	private transient T value;
+
+	/**
+	 * Construct a new lazy object. That computes its value using the given supplier, Or that has the given value already computed if the given
+	 * supplier is null.
+	 *
+	 * @param supplier the supplier of the value. Or null if the value is already computed
+	 * @param value    the value if it is already computed. (Ignored if the given 'supplier' is not null)
+	 */
+	private Lazy(Supplier<? extends T> supplier, T value) {
+		synchronized (this) {
+			this.supplier = supplier;
+			this.value = supplier == null ? value : null;
+			this.loaded = supplier == null;
+		}
+	}
+
+	/**
+	 * Get a lazy object that computes its value using the given supplier (on its first {@link #get()}).
+	 *
+	 * @param supplier the supplier of the value
+	 * @param <T>      the type of the value
+	 * @return a new lazy object computing its value using the given supplier
+	 * @throws NullPointerException if the given 'supplier' is null
+	 */
+	public static <T> Lazy<T> of(Supplier<? extends T> supplier) {
+		Objects.requireNonNull(supplier, "supplier");
+		return new Lazy<>(supplier, null);
+	}
+
+	/**
+	 * Get a lazy object that has the given value already computed.
+	 *
+	 * @param value the value
+	 * @param <T>   the type of the value
+	 * @return a new lazy object with the given value
+	 */
+	public static <T> Lazy<T> value(T value) {
+		return new Lazy<>(null, value);
+	}
+
+	/**
+	 * Get the value of the given object if it is a lazy object. Otherwise, the given object itself.
+	 *
+	 * @param object the object to be unwrapped
+	 * @return the value of the given lazy object. Or the given object if it is not a lazy object
+	 */
+	static Object unwrap(Object object) {
+		return object instanceof Lazy ? ((Lazy<?>) object).get() : object;
+	}
+
+	/**
+	 * Get the value of this. Computing it if it has not been computed yet.
+	 *
+	 * @return the value of this
+	 */
+	@Override
+	public T get() {
+		if (!this.loaded)
+			synchronized (this) {
+				if (!this.loaded) {
+					this.value = this.supplier.get();
+					this.loaded = true;
+					this.supplier = null;
+				}
+			}
+
+		return this.value;
+	}
+
+	/**
+	 * Get the value of this if it has been computed. Without computing it.
+	 *
+	 * @return the value of this. Or null if it has not been computed yet
+	 */
+	public T getIfLoaded() {
+		return this.loaded ? this.value : null;
+	}
+
+	/**
+	 * Determine if the value of this has been computed.
+	 *
+	 * @return true, if the value of this has been computed
+	 */
+	public boolean isLoaded() {
+		return this.loaded;
+	}
+
+	@Override
+	public String toString() {
+		return this.loaded ? String.valueOf(this.value) : "(not loaded)";
+	}
+
+	/**
+	 * Deserialization method.
+	 *
+	 * @param stream to initialize this using
+	 * @throws ClassNotFoundException if the class of a serialized object could not be found.
+	 * @throws IOException            if an I/O error occurs.
+	 * @throws NullPointerException   if the given 'stream' is null
+	 */
+	private void readObject(ObjectInputStream stream) throws ClassNotFoundException, IOException {
+		Objects.requireNonNull(stream, "stream");
+		this.value = (T) stream.readObject();
+		this.loaded = true;
+	}
+
+	/**
+	 * Serialization method. Computes the value of this (if it has not been computed yet) then writes it.
+	 *
+	 * @param stream to use to serialize this
+	 * @throws IOException          if an I/O error occurs
+	 * @throws NullPointerException if the given 'stream' is null
+	 */
+	private void writeObject(ObjectOutputStream stream) throws IOException {
+		Objects.requireNonNull(stream, "stream");
+		stream.writeObject(this.get());
+	}
+}
@@ -5,6 +5,9 @@ import cufy.meta.MetaObject;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.*;
+import java.util.*;
+
 @SuppressWarnings({"JavaDoc"})
 public class AbstractBeanTest {
 	@Test
@@ -37,6 +40,70 @@ public class AbstractBeanTest {
 		Assert.assertEquals("Non-field value stored wrongly", "R", bean.get("A"));
 	}
 
+	@Test
+	public void _serialization() throws IOException, ClassNotFoundException {
+		Serial bean = new Serial();
+		bean.put("i", 5);
+		bean.put("s", "S");
+		bean.put("A", "B");
+		bean.remove("l");
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(bean);
+		}
+
+		Serial copy;
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (Serial) input.readObject();
+		}
+
+		Assert.assertEquals("Primitive property not restored", 5, copy.i);
+		Assert.assertEquals("Object property not restored", "S", copy.s);
+		Assert.assertEquals("Non-field entry not restored", "B", copy.get("A"));
+		Assert.assertFalse("Removed property restored", copy.containsKey("l"));
+		Assert.assertEquals("Wrong size calc", 3, copy.size());
+	}
+
+	@Test
+	public void _dirty() throws IOException, ClassNotFoundException {
+		Serial bean = new Serial();
+		bean.put("i", 1);
+		Assert.assertTrue("Changes tracked before opting-in", bean.getDirtyKeys().isEmpty());
+
+		bean.setTracking(true);
+		bean.setLong("l", 9L);
+		bean.put("A", "B");
+		bean.putAll(Collections.singletonMap("s", "S"));
+
+		Assert.assertEquals("Wrong dirty keys", new HashSet<>(Arrays.asList("l", "s", "A")), bean.getDirtyKeys());
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			bean.writeDirtyTo(output);
+		}
+
+		Serial copy = new Serial();
+		copy.put("i", 7);
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy.readDirtyFrom(input);
+		}
+
+		Assert.assertEquals("Clean property written", 7, copy.i);
+		Assert.assertEquals("Dirty primitive property not applied", 9L, copy.l);
+		Assert.assertEquals("Dirty object property not applied", "S", copy.s);
+		Assert.assertEquals("Dirty non-field entry not applied", "B", copy.get("A"));
+
+		bean.clearDirty();
+		Assert.assertTrue("Changes not cleared", bean.getDirtyKeys().isEmpty());
+
+		for (Map.Entry<Object, Object> entry : bean.entrySet())
+			if ("i".equals(entry.getKey()))
+				entry.setValue(3);
+
+		Assert.assertEquals("Entry change not tracked", Collections.singleton("i"), bean.getDirtyKeys());
+	}
+
 	@Test
 	public void clear() {
 		//TODO
@@ -44,7 +111,16 @@ public class AbstractBeanTest {
 
 	@Test
 	public void containsKey() {
-		//TODO
+		AbstractBean<Object, Object> bean = new AbstractBean<Object, Object>() {
+			@Bean.Property
+			private int p;
+		};
+
+		bean.put("A", null);
+
+		Assert.assertTrue("Field key not found", bean.containsKey("p"));
+		Assert.assertTrue("Non-field key with null value not found", bean.containsKey("A"));
+		Assert.assertFalse("Missing key found", bean.containsKey("B"));
 	}
 
 	@Test
@@ -64,7 +140,16 @@ public class AbstractBeanTest {
 
 	@Test
 	public void get() {
-		//TODO
+		AbstractBean<Object, Object> bean = new AbstractBean<Object, Object>() {
+			@Bean.Property
+			private int p = 3;
+		};
+
+		bean.put("A", "B");
+
+		Assert.assertEquals("Field value not reached", 3, bean.get("p"));
+		Assert.assertEquals("Non-field value not reached", "B", bean.get("A"));
+		Assert.assertNull("Missing key has a value", bean.get("B"));
 	}
 
 	@Test
@@ -79,7 +164,15 @@ public class AbstractBeanTest {
 
 	@Test
 	public void put() {
-		//TODO
+		AbstractBean<Object, Object> bean = new AbstractBean<Object, Object>() {
+			@Bean.Property
+			private int p = 3;
+		};
+
+		Assert.assertEquals("Wrong previous value", 3, bean.put("p", "4"));
+		Assert.assertNull("Wrong previous value", bean.put("A", "B"));
+		Assert.assertEquals("Field value not converted", 4, bean.get("p"));
+		Assert.assertEquals("Wrong size calc", 2, bean.size());
 	}
 
 	@Test
@@ -89,7 +182,17 @@ public class AbstractBeanTest {
 
 	@Test
 	public void remove() {
-		//TODO
+		AbstractBean<Object, Object> bean = new AbstractBean<Object, Object>() {
+			@Bean.Property
+			private int p = 3;
+		};
+
+		bean.put("A", "B");
+
+		Assert.assertEquals("Wrong removed value", "B", bean.remove("A"));
+		Assert.assertNull("Removed twice", bean.remove("A"));
+		Assert.assertFalse("Key not removed", bean.containsKey("A"));
+		Assert.assertEquals("Wrong size calc", 1, bean.size());
 	}
 
 	@Test
@@ -101,4 +204,13 @@ public class AbstractBeanTest {
 	public void values() {
 		//TODO
 	}
+
+	static class Serial extends AbstractBean<Object, Object> {
+		@Bean.Property
+		transient int i;
+		@Bean.Property
+		transient long l;
+		@Bean.Property
+		transient String s;
+	}
 }
@@ -0,0 +1,154 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeanAccessorTest {
+	@Test
+	public void _default() {
+		//only an inherited private field. Nothing to be accessed directly
+		Object object = new Inherited() {
+		};
+
+		BeanAccessor accessor = BeanDescriptor.of(object.getClass()).getAccessor();
+
+		Assert.assertTrue("Default accessor not used", accessor instanceof BeanAccessor.HandleAccessor);
+		Assert.assertSame("Accessor not cached", accessor, BeanDescriptor.of(object.getClass()).getAccessor());
+		Assert.assertEquals("Wrong value", 5, accessor.get(object, 0));
+	}
+
+	@Test
+	public void _companion() {
+		CompanionBean bean = new CompanionBean();
+		BeanAccessor accessor = BeanDescriptor.of(CompanionBean.class).getAccessor();
+
+		Assert.assertEquals("Companion not used", CompanionBean.class.getName() + "$$BeanAccessor", accessor.getClass().getName());
+
+		bean.put("direct", "7");
+		bean.put("hidden", 8);
+
+		Assert.assertEquals("Direct field not written", 7L, bean.direct);
+		Assert.assertEquals("Direct field not read", 7L, bean.get("direct"));
+		Assert.assertEquals("Final field not read", "fixed", bean.get("fixed"));
+		Assert.assertEquals("Private field not written", "8", bean.get("hidden"));
+	}
+
+	@Test
+	public void _generated() {
+		GeneratedBean bean = new GeneratedBean();
+		BeanDescriptor descriptor = BeanDescriptor.of(GeneratedBean.class);
+		BeanAccessor accessor = descriptor.getAccessor();
+		int count = descriptor.indexOf("count");
+		int name = descriptor.indexOf("name");
+		int ratio = descriptor.indexOf("ratio");
+		int total = descriptor.indexOf("total");
+
+		Assert.assertTrue("Accessor not generated", accessor.getClass().getName().startsWith(GeneratedBean.class.getName() + "$$GeneratedAccessor"));
+
+		accessor.setInt(bean, count, 3);
+		accessor.setLong(bean, total, 4L);
+		accessor.setDouble(bean, ratio, 0.5);
+		accessor.set(bean, name, "n");
+		Assert.assertEquals("Private int field not written", 3, accessor.getInt(bean, count));
+		Assert.assertEquals("Private long field not written", 4L, accessor.getLong(bean, total));
+		Assert.assertEquals("Double field not written", 0.5, accessor.getDouble(bean, ratio), 0);
+		Assert.assertEquals("Object field not written", "n", bean.get("name"));
+		Assert.assertEquals("Primitive not boxed", 3, accessor.get(bean, count));
+
+		accessor.set(bean, count, 6);
+		Assert.assertEquals("Boxed value not written", 6, bean.get("count"));
+		Assert.assertEquals("Final field not read", "fixed", accessor.get(bean, descriptor.indexOf("fixed")));
+
+		bean.put("count", "7");
+		Assert.assertEquals("Value not converted", 7, bean.getInt("count"));
+
+		try {
+			accessor.set(bean, count, "8");
+			Assert.fail("Stored a string at an int field");
+		} catch (IllegalArgumentException ignored) {
+		}
+		try {
+			accessor.set(bean, count, null);
+			Assert.fail("Stored null at an int field");
+		} catch (IllegalArgumentException ignored) {
+		}
+		try {
+			accessor.get(new Object(), count);
+			Assert.fail("Read a field of another class");
+		} catch (IllegalArgumentException ignored) {
+		}
+		try {
+			accessor.get(bean, descriptor.size());
+			Assert.fail("Read a property out of bounds");
+		} catch (IndexOutOfBoundsException ignored) {
+		}
+	}
+
+	@Test
+	public void _factory() {
+		CountingBean bean = new CountingBean();
+
+		bean.put("value", "9");
+
+		Assert.assertTrue("Factory not used", BeanDescriptor.of(CountingBean.class).getAccessor() instanceof CountingAccessor);
+		Assert.assertEquals("Value not converted", 9, bean.get("value"));
+		Assert.assertEquals("Accessor not used", 3, CountingAccessor.calls);
+	}
+
+	public static class CountingAccessor implements BeanAccessor {
+		static int calls;
+
+		@Override
+		public Object get(Object instance, int index) {
+			calls++;
+			return ((CountingBean) instance).value;
+		}
+
+		@Override
+		public void set(Object instance, int index, Object value) {
+			calls++;
+			((CountingBean) instance).value = (Integer) value;
+		}
+	}
+
+	public static class CountingBean implements Bean<Object, Object> {
+		@Bean.Property
+		private int value;
+	}
+
+	public static class CompanionBean implements Bean<Object, Object> {
+		@Bean.Property
+		long direct = 1;
+		@Bean.Property
+		final String fixed = "fixed";
+		@Bean.Property
+		private String hidden = "hidden";
+	}
+
+	//all private, so it gets no companion
+	public static class GeneratedBean implements Bean<Object, Object> {
+		@Bean.Property
+		private int count;
+		@Bean.Property
+		private final String fixed = "fixed";
+		@Bean.Property
+		private String name;
+		@Bean.Property
+		private double ratio;
+		@Bean.Property
+		private long total;
+	}
+
+	public static class Inherited {
+		@Bean.Property
+		private int p = 5;
+	}
+
+	public static class CountingFactory implements BeanAccessor.Factory {
+		@Override
+		public BeanAccessor newAccessor(BeanDescriptor descriptor) {
+			return descriptor.getKlass() == CountingBean.class ? new CountingAccessor() : null;
+		}
+	}
+}
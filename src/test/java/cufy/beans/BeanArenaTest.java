@@ -0,0 +1,63 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeanArenaTest {
+	@Test
+	public void add() {
+		BeanArena arena = new BeanArena(Item.class, 0);
+
+		for (int i = 0; i < 1000; i++)
+			arena.add(new Item(i, "item" + i, i * 0.5));
+
+		Assert.assertEquals("Wrong size", 1000, arena.size());
+		Assert.assertTrue("Not grown", arena.getCapacity() >= arena.getUsed());
+		Assert.assertEquals("Wrong int", 999, arena.get(999).getInt("id"));
+		Assert.assertEquals("Wrong string", "item500", arena.get(500).get("name"));
+		Assert.assertEquals("Wrong double", 2.5, arena.get(5).getDouble("price"), 0);
+
+		Item item = arena.get(42).load(new Item(0, null, 0));
+		Assert.assertEquals("Wrong loaded int", 42, item.id);
+		Assert.assertEquals("Wrong loaded string", "item42", item.name);
+	}
+
+	@Test
+	public void compact() {
+		BeanArena arena = new BeanArena(Item.class, 64);
+		BeanArena.Record first = arena.add(new Item(1, "a", 1));
+		BeanArena.Record second = arena.add(new Item(2, "b", 2));
+
+		Assert.assertEquals("Wrong previous value", "a", first.put("name", "replaced"));
+		first.put("name", "again");
+		second.setInt("id", 3);
+
+		Assert.assertTrue("Replaced value not counted", arena.getGarbage() > 0);
+
+		int used = arena.getUsed();
+		arena.compact();
+
+		Assert.assertEquals("Garbage not dropped", 0, arena.getGarbage());
+		Assert.assertTrue("Not compacted", arena.getUsed() < used);
+		Assert.assertEquals("Value lost", "again", first.get("name"));
+		Assert.assertEquals("Value lost", "b", second.get("name"));
+		Assert.assertEquals("Primitive lost", 3, second.get("id"));
+		Assert.assertEquals("Wrong entries", "{id=1, name=again, price=1.0}", first.toString());
+	}
+
+	static class Item {
+		@Bean.Property
+		int id;
+		@Bean.Property
+		String name;
+		@Bean.Property
+		double price;
+
+		Item(int id, String name, double price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeanCodecTest {
+	@Test
+	public void decode() {
+		List<Record> records = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			records.add(new Record(i, i * 10L, i % 3 == 0 ? null : "r" + i, i % 2 == 0, Arrays.asList(i, -i)));
+
+		ByteBuffer buffer = BeanCodec.of(Record.class).encode(records);
+		List<Record> decoded = BeanCodec.of(Record.class).decode(buffer, Record::new);
+
+		Assert.assertEquals("Wrong count", 100, decoded.size());
+		Assert.assertFalse("Buffer not consumed", buffer.hasRemaining());
+
+		for (int i = 0; i < 100; i++) {
+			Record record = decoded.get(i);
+
+			Assert.assertEquals("Wrong int", i, record.i);
+			Assert.assertEquals("Wrong long", i * 10L, record.l);
+			Assert.assertEquals("Wrong string", i % 3 == 0 ? null : "r" + i, record.s);
+			Assert.assertEquals("Wrong boolean", i % 2 == 0, record.b);
+			Assert.assertEquals("Wrong serialized value", Arrays.asList(i, -i), record.o);
+		}
+	}
+
+	@Test
+	public void encode() {
+		List<Record> records = Arrays.asList(new Record(1, 2, "a", true, null), new Record(3, 4, "b", false, 5));
+		BeanCodec codec = BeanCodec.of(Record.class);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+
+		buffer.position(7);
+		codec.encode(records, buffer);
+		int end = buffer.position();
+		codec.encode(records, buffer);
+
+		buffer.flip();
+		buffer.position(7);
+		List<BeanCodec.View> first = codec.view(buffer);
+		Assert.assertEquals("Position not moved to the end of the block", end, buffer.position());
+		List<BeanCodec.View> second = codec.view(buffer);
+
+		Assert.assertEquals("Wrong value at the first block", "b", first.get(1).get("s"));
+		Assert.assertEquals("Wrong value at the second block", 5, second.get(1).get("o"));
+
+		try {
+			codec.encode(records, ByteBuffer.allocate(16));
+			Assert.fail("Encoded to a small buffer");
+		} catch (java.nio.BufferOverflowException ignored) {
+		}
+	}
+
+	@Test
+	public void grow() {
+		List<Record> records = new ArrayList<>();
+		for (int i = 0; i < 50; i++)
+			records.add(new Record(i, i, String.join("", Collections.nCopies(i * 10, "x")), false, null));
+
+		List<BeanCodec.View> views = BeanCodec.of(Record.class).view(BeanCodec.of(Record.class).encode(records));
+
+		Assert.assertEquals("Wrong count", 50, views.size());
+		for (int i = 0; i < 50; i++) {
+			Assert.assertEquals("Wrong int", i, views.get(i).getInt("i"));
+			Assert.assertEquals("Wrong string", i * 10, ((String) views.get(i).get("s")).length());
+		}
+
+		try {
+			BeanCodec.of(Record.class).encode(new AbstractList<Object>() {
+				@Override
+				public Object get(int index) {
+					throw new AssertionError("Encoded a block that can't fit");
+				}
+
+				@Override
+				public int size() {
+					return Integer.MAX_VALUE;
+				}
+			});
+			Assert.fail("Encoded more records than a block can hold");
+		} catch (IllegalArgumentException ignored) {
+		}
+	}
+
+	@Test
+	public void view() {
+		List<Record> records = Arrays.asList(new Record(1, 2, "a", true, null), new Record(3, 4, "b", false, 5));
+		List<BeanCodec.View> views = BeanCodec.of(Record.class).view(BeanCodec.of(Record.class).encode(records));
+
+		Assert.assertEquals("Wrong count", 2, views.size());
+		Assert.assertEquals("Wrong int", 3, views.get(1).getInt("i"));
+		Assert.assertEquals("Wrong long", 2, views.get(0).getLong("l"));
+		Assert.assertEquals("Wrong boxed value", 4L, views.get(1).get("l"));
+		Assert.assertEquals("Wrong string", "a", views.get(0).get("s"));
+		Assert.assertNull("Null not decoded", views.get(0).get("o"));
+		Assert.assertEquals("Wrong size", 5, views.get(0).size());
+		Assert.assertEquals("Wrong entries", 5, views.get(1).entrySet().size());
+
+		try {
+			BeanCodec.of(Other.class).view(BeanCodec.of(Record.class).encode(records));
+			Assert.fail("Viewed with a different layout");
+		} catch (IllegalArgumentException ignored) {
+		}
+
+		ByteBuffer counted = BeanCodec.of(Record.class).encode(records);
+		counted.putInt(8, 1 << 20);
+		try {
+			BeanCodec.of(Record.class).view(counted);
+			Assert.fail("Viewed more records than the block holds");
+		} catch (IllegalArgumentException ignored) {
+		}
+
+		ByteBuffer truncated = BeanCodec.of(Record.class).encode(records);
+		truncated.limit(truncated.limit() - 1);
+		try {
+			BeanCodec.of(Record.class).view(truncated);
+			Assert.fail("Viewed a block longer than the buffer");
+		} catch (IllegalArgumentException ignored) {
+		}
+	}
+
+	static class Other {
+		@Bean.Property
+		int i;
+	}
+
+	static class Record {
+		@Bean.Property
+		boolean b;
+		@Bean.Property
+		int i;
+		@Bean.Property
+		long l;
+		@Bean.Property
+		Object o;
+		@Bean.Property
+		String s;
+
+		Record() {
+		}
+
+		Record(int i, long l, String s, boolean b, Object o) {
+			this.i = i;
+			this.l = l;
+			this.s = s;
+			this.b = b;
+			this.o = o;
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeanCopierTest {
+	@Test
+	public void copy() {
+		Object source = new Object() {
+			@Bean.Property
+			private int a = 1;
+			@Bean.Property
+			private String b = "2";
+			@Bean.Property
+			private Integer c = 3;
+			@Bean.Property
+			private double d = 4.5;
+			@Bean.Property
+			private String ignored = "ignored";
+		};
+		Object target = new Object() {
+			@Bean.Property
+			private int a;
+			@Bean.Property
+			private int b;
+			@Bean.Property
+			private Number c;
+			@Bean.Property
+			private double d;
+			@Bean.Property
+			private String e = "e";
+		};
+
+		BeanCopier copier = BeanCopier.of(source.getClass(), target.getClass());
+		copier.copy(source, target);
+
+		Bean<Object, Object> bean = Bean.forInstance(target);
+
+		Assert.assertSame("Copier not cached", copier, BeanCopier.of(source.getClass(), target.getClass()));
+		Assert.assertEquals("Wrong pairs count", 4, copier.size());
+		Assert.assertEquals("Primitive not copied", 1, bean.get("a"));
+		Assert.assertEquals("Value not converted", 2, bean.get("b"));
+		Assert.assertEquals("Assignable value not copied", 3, bean.get("c"));
+		Assert.assertEquals("Double not copied", 4.5, bean.getDouble("d"), 0);
+		Assert.assertEquals("Unpaired property changed", "e", bean.get("e"));
+	}
+
+	@Test
+	public void convert() {
+		Object source = new Object() {
+			@Bean.Property
+			private String a = "1";
+		};
+		Object target = new Object() {
+			@Bean.Property
+			private int a;
+		};
+
+		BeanMetrics.setEnabled(true);
+		try {
+			BeanCopier.of(source.getClass(), target.getClass()).copy(source, target);
+		} finally {
+			BeanMetrics.setEnabled(false);
+		}
+
+		Assert.assertEquals("Value not converted", 1, Bean.forInstance(target).get("a"));
+		Assert.assertEquals("Conversion not recorded", 1, BeanMetrics.getCount(target.getClass(), BeanMetrics.Operation.CONVERT));
+	}
+
+	@Test
+	public void putAll() {
+		Bean<Object, Object> source = new Bean<Object, Object>() {
+			@Bean.Property
+			private long a = 1;
+			@Bean.Property
+			private String b = "2";
+		};
+		Bean<Object, Object> target = new Bean<Object, Object>() {
+			@Bean.Property
+			private long a;
+			@Bean.Property
+			private int b;
+		};
+
+		target.putAll(source);
+
+		Assert.assertEquals("Primitive not copied", 1L, target.get("a"));
+		Assert.assertEquals("Value not converted", 2, target.get("b"));
+	}
+}
@@ -0,0 +1,128 @@
+package cufy.beans;
+
+import cufy.meta.MetaClazz;
+import cufy.meta.MetaObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeanDescriptorTest {
+	@Test
+	public void _cached() {
+		Object object = new Object() {
+			@Bean.Property
+			private int p;
+		};
+
+		Assert.assertSame("Descriptor not cached", BeanDescriptor.of(object.getClass()), BeanDescriptor.of(object.getClass()));
+	}
+
+	@Test
+	public void _counters() throws ReflectiveOperationException {
+		Object object = new Object() {
+			@Bean.Property
+			private int p;
+		};
+
+		Bean.FieldEntry.setValue(object.getClass().getDeclaredField("p"), object, "1");
+		long lookups = BeanDescriptor.getLookupCount();
+		long resolutions = BeanDescriptor.getResolutionCount();
+
+		BeanMetrics.setEnabled(true);
+		try {
+			for (int i = 0; i < 10; i++)
+				Bean.FieldEntry.setValue(object.getClass().getDeclaredField("p"), object, i);
+		} finally {
+			BeanMetrics.setEnabled(false);
+		}
+
+		Assert.assertEquals("Value not written", 9, (Object) Bean.FieldEntry.getValue(object.getClass().getDeclaredField("p"), object));
+		Assert.assertTrue("Lookups not counted", BeanDescriptor.getLookupCount() >= lookups + 10);
+		Assert.assertEquals("Descriptor resolved again", resolutions, BeanDescriptor.getResolutionCount());
+
+		lookups = BeanDescriptor.getLookupCount();
+		BeanDescriptor.of(object.getClass());
+		Assert.assertEquals("Lookups counted while the metrics are disabled", lookups, BeanDescriptor.getLookupCount());
+		Assert.assertSame("Properties list not cached", BeanDescriptor.of(object.getClass()).getProperties(), BeanDescriptor.of(object.getClass()).getProperties());
+	}
+
+	@Test
+	public void _final() {
+		Bean<Object, Object> bean = new Bean<Object, Object>() {
+			@Bean.Property
+			private final Integer f = 1;
+			@Bean.Property
+			private int p = 2;
+		};
+
+		Assert.assertEquals("Final field not read", 1, bean.get("f"));
+		Assert.assertEquals("Wrong old value", 1, bean.put("f", 3));
+		Assert.assertEquals("Primitive field not read", 2, bean.get("p"));
+		Assert.assertEquals("Wrong old value", 2, bean.put("p", "4"));
+		Assert.assertEquals("Primitive field not written", 4, bean.get("p"));
+	}
+
+	@Test
+	public void _shadowed() throws ReflectiveOperationException {
+		Object object = new Object() {
+			@Bean.Property(key = @MetaObject("k"))
+			private int a = 1;
+			@Bean.Property(key = @MetaObject("k"))
+			private int b = 2;
+			@Bean.Property
+			private String c = "c";
+		};
+
+		BeanDescriptor descriptor = BeanDescriptor.of(object.getClass());
+
+		Assert.assertEquals("Wrong size calc", 2, descriptor.size());
+		Assert.assertEquals("Wrong index", 0, descriptor.indexOf("k"));
+		Assert.assertEquals("Wrong index", 1, descriptor.indexOf("c"));
+		Assert.assertEquals("Wrong index", -1, descriptor.indexOf("a"));
+		Assert.assertEquals("First field should win", 1, descriptor.getProperty("k").get(object));
+		Assert.assertEquals("Shadowed field should not be indexed", -1, descriptor.getProperty(object.getClass().getDeclaredField("b")).getIndex());
+	}
+
+	@Test
+	public void accepts() {
+		Bean<Object, Object> bean = new Bean<Object, Object>() {
+			@Bean.Property
+			private int p;
+			@Bean.Property(type = @MetaClazz(Integer.class))
+			private Object o;
+			@Bean.Property(strict = true)
+			private int s;
+		};
+
+		BeanDescriptor descriptor = BeanDescriptor.of(bean.getClass());
+
+		Assert.assertTrue("Wrapper not accepted", descriptor.getProperty("p").accepts(5));
+		Assert.assertFalse("String accepted", descriptor.getProperty("p").accepts("5"));
+		Assert.assertFalse("Null accepted", descriptor.getProperty("p").accepts(null));
+		Assert.assertFalse("Overridden type accepted", descriptor.getProperty("o").accepts(5));
+
+		bean.put("s", 5);
+		Assert.assertEquals("Strict field not written", 5, bean.get("s"));
+
+		try {
+			bean.put("s", "6");
+			Assert.fail("Strict field converted a value");
+		} catch (IllegalArgumentException ignored) {
+		}
+	}
+
+	@Test
+	public void getProperty() {
+		Object object = new Object() {
+			@Bean.Property(key = @MetaObject(value = "false", type = @MetaClazz(Boolean.class)), type = @MetaClazz(Integer.class))
+			private int property0 = 90;
+		};
+
+		BeanDescriptor.PropertyDescriptor property = BeanDescriptor.of(object.getClass()).getProperty(false);
+
+		Assert.assertNotNull("Property not found", property);
+		Assert.assertEquals("Wrong key", false, property.getKey());
+		Assert.assertEquals("Wrong old value", 90, property.set(object, "700"));
+		Assert.assertEquals("Value not converted", 700, property.get(object));
+	}
+}
@@ -0,0 +1,334 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeanEntrySetTest {
+	@Test
+	public void _codec() throws IOException, ClassNotFoundException {
+		Codec source = new Codec();
+		source.a = 1;
+		source.b = 2.5;
+		source.c = "c";
+		source.d = true;
+
+		BeanEntrySet<Object, Object> entrySet = new BeanEntrySet<>(source);
+		entrySet.removeEntry("b");
+		entrySet.putValue("b", "B");
+		entrySet.putValue(null, "N");
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			entrySet.writeTo(output);
+		}
+
+		BeanEntrySet<Object, Object> copy = new BeanEntrySet<>(new Codec());
+		copy.putValue("a", 9);
+		copy.putValue("x", "X");
+		copy.putValue("d", false);
+
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy.readFrom(input);
+		}
+
+		Assert.assertEquals("Primitive not decoded", 1, copy.getValue("a"));
+		Assert.assertEquals("Object not decoded", "c", copy.getValue("c"));
+		Assert.assertEquals("Boolean not decoded", true, copy.getValue("d"));
+		Assert.assertEquals("Detached property not restored", "B", copy.getValue("b"));
+		Assert.assertEquals("Null key not restored", "N", copy.getValue(null));
+		Assert.assertFalse("Previous state not replaced", copy.containsKey("x"));
+		Assert.assertEquals("Wrong size calc", 5, copy.size());
+
+		Object other = new Object() {
+			@Bean.Property
+			private long a;
+		};
+
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			new BeanEntrySet<>(other).readFrom(input);
+			Assert.fail("Decoded with a different layout");
+		} catch (InvalidClassException ignored) {
+		}
+	}
+
+	@Test
+	public void _detach() {
+		Object object = new Object() {
+			@Bean.Property
+			private int p = 1;
+		};
+
+		BeanEntrySet<Object, Object> entrySet = new BeanEntrySet<>(object);
+
+		Assert.assertEquals("Wrong removed value", 1, entrySet.removeEntry("p").getValue());
+		Assert.assertFalse("Property not detached", entrySet.containsKey("p"));
+		Assert.assertEquals("Wrong size calc", 0, entrySet.size());
+
+		Assert.assertNull("Detached property got set", entrySet.putValue("p", 5));
+		Assert.assertEquals("Non-field value not stored", 5, entrySet.getValue("p"));
+		Assert.assertEquals("Field changed after being detached", 1, new BeanEntrySet<>(object).getValue("p"));
+	}
+
+	@Test
+	public void iterator() {
+		Object object = new Object() {
+			@Bean.Property
+			private int a = 1;
+			@Bean.Property
+			private int b = 2;
+		};
+
+		BeanEntrySet<Object, Object> entrySet = new BeanEntrySet<>(object);
+		entrySet.putValue("c", 3);
+
+		int sum = 0;
+		for (Map.Entry<Object, Object> entry : entrySet)
+			sum += (Integer) entry.getValue();
+
+		Assert.assertEquals("Not all entries iterated", 6, sum);
+
+		Iterator<Map.Entry<Object, Object>> iterator = entrySet.iterator();
+		while (iterator.hasNext())
+			if (!"b".equals(iterator.next().getKey()))
+				iterator.remove();
+
+		Assert.assertEquals("Wrong size calc", 1, entrySet.size());
+		Assert.assertTrue("Wrong entry removed", entrySet.containsKey("b"));
+		Assert.assertFalse("Entry not removed", entrySet.containsKey("c"));
+	}
+
+	@Test
+	public void iteratorModified() {
+		Bean<Object, Object> bean = Bean.forInstance(new Codec());
+		bean.put("x", 1);
+
+		Iterator<Map.Entry<Object, Object>> iterator = bean.entrySet().iterator();
+		iterator.next();
+		for (int i = 0; i < 100; i++)
+			bean.put(i, i);
+		try {
+			iterator.next();
+			Assert.fail("Added entries not detected");
+		} catch (ConcurrentModificationException ignored) {
+		}
+
+		iterator = bean.entrySet().iterator();
+		iterator.next();
+		bean.remove("x");
+		try {
+			iterator.hasNext();
+			Assert.fail("Removed entry not detected");
+		} catch (ConcurrentModificationException ignored) {
+		}
+
+		iterator = bean.entrySet().iterator();
+		iterator.next();
+		iterator.remove();
+		bean.put("x", 2);
+		try {
+			iterator.remove();
+			Assert.fail("Removed twice");
+		} catch (IllegalStateException ignored) {
+		}
+		try {
+			iterator.next();
+			Assert.fail("Added entry not detected after a removal");
+		} catch (ConcurrentModificationException ignored) {
+		}
+
+		iterator = bean.entrySet().iterator();
+		int count = 0;
+		while (iterator.hasNext()) {
+			Map.Entry<Object, Object> entry = iterator.next();
+			entry.setValue(entry.getValue());
+			iterator.remove();
+			count++;
+		}
+		Assert.assertEquals("Not all entries iterated", 104, count);
+		Assert.assertTrue("Not all entries removed", bean.isEmpty());
+	}
+
+	@Test
+	public void _table() {
+		Object object = new Object() {
+			@Bean.Property
+			private int a = 1;
+		};
+
+		BeanEntrySet<Object, Object> entrySet = new BeanEntrySet<>(object);
+
+		for (int i = 0; i < 1000; i++)
+			entrySet.putValue(i, i);
+		for (int i = 0; i < 1000; i += 2)
+			entrySet.removeEntry(i);
+
+		entrySet.putValue(null, "null");
+
+		Assert.assertEquals("Wrong size calc", 502, entrySet.size());
+		Assert.assertEquals("Null key not stored", "null", entrySet.getValue(null));
+		Assert.assertNull("Removed key still stored", entrySet.getValue(10));
+		Assert.assertEquals("Wrong previous value", 11, entrySet.putValue(11, 12));
+		Assert.assertEquals("Value not replaced", 12, entrySet.getValue(11));
+
+		int count = 0;
+		Iterator<Map.Entry<Object, Object>> iterator = entrySet.iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<Object, Object> entry = iterator.next();
+			count++;
+
+			if (entry.getKey() instanceof Integer && (Integer) entry.getKey() < 500)
+				iterator.remove();
+		}
+
+		Assert.assertEquals("Not all entries iterated", 502, count);
+		Assert.assertEquals("Wrong size calc", 252, entrySet.size());
+		Assert.assertFalse("Entry not removed by the iterator", entrySet.containsKey(11));
+		Assert.assertTrue("Entry removed by the iterator", entrySet.containsKey(501));
+	}
+
+	@Test
+	public void clear() {
+		Object object = new Object() {
+			@Bean.Property
+			private int a = 1;
+		};
+
+		BeanEntrySet<Object, Object> entrySet = new BeanEntrySet<>(object);
+		entrySet.putValue("c", 3);
+		entrySet.clear();
+
+		Assert.assertTrue("Not cleared", entrySet.isEmpty());
+		Assert.assertFalse("Iterating a cleared set", entrySet.iterator().hasNext());
+	}
+
+	@Test
+	public void _dirty() throws IOException, ClassNotFoundException {
+		Codec codec = new Codec();
+		BeanEntrySet<Object, Object> entrySet = new BeanEntrySet<>(codec);
+		entrySet.putValue("x", 1);
+		entrySet.setTracking(true);
+
+		entrySet.putValue("a", 4);
+		entrySet.removeEntry("b");
+		entrySet.removeEntry("x");
+		entrySet.putValue(null, "N");
+
+		Assert.assertEquals("Wrong dirty keys", new HashSet<>(Arrays.asList("a", "b", "x", null)), entrySet.getDirtyKeys());
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			entrySet.writeDirtyTo(output);
+		}
+
+		BeanEntrySet<Object, Object> copy = new BeanEntrySet<>(new Codec());
+		copy.putValue("x", 1);
+		copy.putValue("c", "C");
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy.readDirtyFrom(input);
+		}
+
+		Assert.assertEquals("Dirty property not applied", 4, copy.getValue("a"));
+		Assert.assertFalse("Detachment not applied", copy.containsKey("b"));
+		Assert.assertFalse("Removal not applied", copy.containsKey("x"));
+		Assert.assertEquals("Added entry not applied", "N", copy.getValue(null));
+		Assert.assertEquals("Clean property changed", "C", copy.getValue("c"));
+		Assert.assertFalse("Applying changes tracked", copy.isTracking());
+
+		entrySet.setTracking(false);
+		entrySet.putValue("a", 5);
+		Assert.assertTrue("Changes tracked after opting-out", entrySet.getDirtyKeys().isEmpty());
+	}
+
+	@Test
+	public void spliterator() {
+		Codec codec = new Codec();
+		BeanEntrySet<Object, Object> entrySet = new BeanEntrySet<>(codec);
+		entrySet.removeEntry("d");
+		for (int i = 0; i < 1000; i++)
+			entrySet.putValue(i, i);
+
+		Spliterator<Map.Entry<Object, Object>> spliterator = entrySet.spliterator();
+		Assert.assertTrue("Not sized", spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+		Assert.assertTrue("Not distinct", spliterator.hasCharacteristics(Spliterator.DISTINCT | Spliterator.NONNULL));
+		Assert.assertEquals("Wrong size", 1003, spliterator.getExactSizeIfKnown());
+
+		Spliterator<Map.Entry<Object, Object>> prefix = spliterator.trySplit();
+		Assert.assertNotNull("Not split", prefix);
+		Assert.assertEquals("Not split evenly", 501, prefix.getExactSizeIfKnown());
+		Assert.assertEquals("Not split evenly", 502, spliterator.getExactSizeIfKnown());
+
+		Assert.assertEquals("Wrong count", 1003, entrySet.stream().count());
+		Assert.assertEquals("Wrong parallel sum", 499500, entrySet.parallelStream()
+				.filter(entry -> entry.getKey() instanceof Integer)
+				.mapToInt(entry -> (Integer) entry.getValue())
+				.sum());
+
+		Bean<Object, Object> bean = Bean.forInstance(codec);
+		Spliterator<Object> keys = bean.keySet().spliterator();
+		bean.put(null, "N");
+		Assert.assertEquals("Wrong key count", 5, bean.keySet().stream().count());
+		Assert.assertFalse("Null key reported as non-null", keys.hasCharacteristics(Spliterator.NONNULL));
+		Assert.assertTrue("Late added null key not reached", StreamSupport.stream(keys, false).anyMatch(Objects::isNull));
+		Assert.assertTrue("Values not sized", bean.values().spliterator().hasCharacteristics(Spliterator.SIZED));
+		Assert.assertEquals("Wrong values", Arrays.asList(0, 0.0, null, false, "N"), bean.values().stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void spliteratorModified() {
+		Codec codec = new Codec();
+		BeanEntrySet<Object, Object> entrySet = new BeanEntrySet<>(codec);
+
+		Spliterator<Map.Entry<Object, Object>> late = entrySet.spliterator();
+		entrySet.putValue("x", 1);
+		entrySet.removeEntry("d");
+		Assert.assertEquals("Positions collected before first use", 4, late.getExactSizeIfKnown());
+		Assert.assertEquals("Wrong keys", Arrays.asList("a", "b", "c", "x"), StreamSupport.stream(late, false)
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList()));
+
+		Spliterator<Map.Entry<Object, Object>> spliterator = entrySet.spliterator();
+		Assert.assertTrue("Not advanced", spliterator.tryAdvance(entry -> {
+		}));
+		entrySet.putValue("y", 2);
+		try {
+			spliterator.tryAdvance(entry -> {
+			});
+			Assert.fail("Added entry not detected");
+		} catch (ConcurrentModificationException ignored) {
+		}
+
+		Spliterator<Object> values = entrySet.valueSpliterator();
+		try {
+			values.forEachRemaining(value -> entrySet.removeEntry("a"));
+			Assert.fail("Detached property not detected");
+		} catch (ConcurrentModificationException ignored) {
+		}
+
+		Spliterator<Map.Entry<Object, Object>> unchanged = entrySet.spliterator();
+		unchanged.tryAdvance(entry -> entrySet.putValue("x", 3));
+		Assert.assertEquals("Replacing a value is not structural", 3, unchanged.estimateSize());
+	}
+
+	static class Codec {
+		@Bean.Property
+		int a;
+		@Bean.Property
+		double b;
+		@Bean.Property
+		String c;
+		@Bean.Property
+		boolean d;
+	}
+}
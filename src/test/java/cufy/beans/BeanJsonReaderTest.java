@@ -0,0 +1,156 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeanJsonReaderTest {
+	@Test
+	public void read() throws IOException {
+		BeanJsonReader reader = new BeanJsonReader(new StringReader(" {\"a\": [1, 2.5, \"x\\u0041\", true, null], \"b\": {}} 7"));
+
+		Map<?, ?> map = (Map<?, ?>) reader.read();
+
+		Assert.assertEquals("Wrong array", Arrays.asList(1, 2.5, "xA", true, null), map.get("a"));
+		Assert.assertEquals("Wrong object", Collections.emptyMap(), map.get("b"));
+		Assert.assertEquals("Next value not read", 7, reader.read());
+	}
+
+	@Test
+	public void overflow() throws IOException {
+		BeanJsonReader reader = new BeanJsonReader(new StringReader("12345678901234567890 -9223372036854775808 9223372036854775807 1e400"));
+
+		Assert.assertEquals("Big integer narrowed", new BigInteger("12345678901234567890"), reader.read());
+		Assert.assertEquals("Wrong min long", Long.MIN_VALUE, reader.read());
+		Assert.assertEquals("Wrong max long", Long.MAX_VALUE, reader.read());
+		Assert.assertEquals("Big decimal overflowed", new BigDecimal("1e400"), reader.read());
+
+		Object bean = new Object() {
+			@Bean.Property
+			private int i;
+			@Bean.Property
+			private long l;
+			@Bean.Property
+			private Integer boxed;
+			@Bean.Property
+			private byte b;
+		};
+
+		BeanJsonReader.fromJson("{\"i\":1.0,\"l\":1e3,\"boxed\":2.0,\"b\":-128}", bean);
+		Assert.assertEquals("Integral decimal not read", 1, Bean.forInstance(bean).get("i"));
+		Assert.assertEquals("Exponent not read", 1000L, Bean.forInstance(bean).get("l"));
+		Assert.assertEquals("Integral decimal not boxed", 2, Bean.forInstance(bean).get("boxed"));
+		Assert.assertEquals("Wrong byte", (byte) -128, Bean.forInstance(bean).get("b"));
+
+		for (String json : Arrays.asList(
+				"{\"l\":99999999999999999999}",
+				"{\"i\":4294967297}",
+				"{\"i\":1.5}",
+				"{\"b\":128}",
+				"{\"boxed\":4294967297}",
+				"{\"boxed\":1.5}"
+		))
+			try {
+				BeanJsonReader.fromJson(json, bean);
+				Assert.fail("Narrowed silently: " + json);
+			} catch (IllegalArgumentException e) {
+				Assert.assertTrue("Not reported as malformed: " + json, e.getCause() instanceof IOException);
+			}
+
+		Assert.assertEquals("Value changed by a rejected number", 1, Bean.forInstance(bean).get("i"));
+	}
+
+	@Test
+	public void overflowFloating() {
+		Object bean = new Object() {
+			@Bean.Property
+			private double d;
+			@Bean.Property
+			private Double boxedDouble;
+			@Bean.Property
+			private float f;
+			@Bean.Property
+			private Float boxedFloat;
+		};
+
+		BeanJsonReader.fromJson("{\"d\":1e308,\"boxedDouble\":\"-Infinity\",\"f\":0.1,\"boxedFloat\":3.4e38}", bean);
+		Assert.assertEquals("Wrong double", 1e308, Bean.forInstance(bean).get("d"));
+		Assert.assertEquals("Non-finite string not read", Double.NEGATIVE_INFINITY, Bean.forInstance(bean).get("boxedDouble"));
+		Assert.assertEquals("Float rounded twice", 0.1f, Bean.forInstance(bean).get("f"));
+		Assert.assertEquals("Wrong boxed float", 3.4e38f, Bean.forInstance(bean).get("boxedFloat"));
+
+		for (String json : Arrays.asList(
+				"{\"d\":1e400}",
+				"{\"boxedDouble\":1e400}",
+				"{\"boxedDouble\":\"1e400\"}",
+				"{\"f\":1e39}",
+				"{\"boxedFloat\":-1e39}",
+				"{\"boxedFloat\":\"1e39\"}"
+		))
+			try {
+				BeanJsonReader.fromJson(json, bean);
+				Assert.fail("Overflowed silently: " + json);
+			} catch (IllegalArgumentException e) {
+				Assert.assertTrue("Not reported as malformed: " + json, e.getCause() instanceof IOException);
+			}
+
+		Assert.assertEquals("Value changed by a rejected number", 0.1f, Bean.forInstance(bean).get("f"));
+	}
+
+	@Test
+	public void readBean() {
+		Nested nested = new Nested();
+		AbstractBean<Object, Object> bean = new AbstractBean<Object, Object>() {
+			@Bean.Property
+			private int i;
+			@Bean.Property
+			private long l;
+			@Bean.Property
+			private double d;
+			@Bean.Property
+			private Double nan;
+			@Bean.Property
+			private Integer boxed;
+			@Bean.Property
+			private String s;
+			@Bean.Property
+			private Nested n = nested;
+		};
+
+		BeanJsonReader.fromJson(
+				"{\"i\":-7,\"l\":-9223372036854775808,\"d\":3,\"nan\":\"NaN\",\"boxed\":5,\"s\":\"S\",\"n\":{\"x\":2},\"e\":[1]}",
+				bean
+		);
+
+		Assert.assertEquals("Wrong int", -7, bean.getInt("i"));
+		Assert.assertEquals("Wrong long", Long.MIN_VALUE, bean.getLong("l"));
+		Assert.assertEquals("Wrong double", 3, bean.getDouble("d"), 0);
+		Assert.assertTrue("Wrong non-finite", Double.isNaN((Double) bean.get("nan")));
+		Assert.assertEquals("Wrong boxed", 5, bean.get("boxed"));
+		Assert.assertEquals("Wrong string", "S", bean.get("s"));
+		Assert.assertSame("Nested bean replaced", nested, bean.get("n"));
+		Assert.assertEquals("Nested bean not read", 2, nested.x);
+		Assert.assertEquals("Unknown key not put", Collections.singletonList(1), bean.get("e"));
+
+		Assert.assertEquals("Round trip", BeanJsonWriter.toJson(bean), BeanJsonWriter.toJson(BeanJsonReader.fromJson(BeanJsonWriter.toJson(bean), bean)));
+
+		try {
+			BeanJsonReader.fromJson("{\"i\":", bean);
+			Assert.fail("Malformed JSON read");
+		} catch (IllegalArgumentException ignored) {
+		}
+	}
+
+	static class Nested {
+		@Bean.Property
+		int x;
+	}
+}
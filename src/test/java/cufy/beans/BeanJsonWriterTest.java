@@ -0,0 +1,109 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeanJsonWriterTest {
+	@Test
+	public void write() throws IOException {
+		Object object = new Object() {
+			@Bean.Property
+			private int i = -12;
+			@Bean.Property
+			private long l = Long.MIN_VALUE;
+			@Bean.Property
+			private double d = 1.5;
+			@Bean.Property
+			private double nan = Double.NaN;
+			@Bean.Property
+			private String s = "a\"b\\c\n\u0001";
+			@Bean.Property
+			private Object list = Arrays.asList(1, null, true);
+			@Bean.Property
+			private Object map = Collections.singletonMap(1, new int[]{2});
+		};
+
+		StringWriter writer = new StringWriter();
+		new BeanJsonWriter(writer).write(object);
+
+		Assert.assertEquals(
+				"Wrong JSON",
+				"{\"i\":-12,\"l\":-9223372036854775808,\"d\":1.5,\"nan\":\"NaN\",\"s\":\"a\\\"b\\\\c\\n\\u0001\",\"list\":[1,null,true],\"map\":{\"1\":[2]}}",
+				writer.toString()
+		);
+	}
+
+	@Test
+	public void writeBean() {
+		AbstractBean<Object, Object> bean = new AbstractBean<Object, Object>() {
+			@Bean.Property
+			private int a = 1;
+			@Bean.Property
+			private int b = 2;
+			@Bean.Property
+			private Object c = new Object() {
+				@Bean.Property
+				private double x = 3;
+			};
+		};
+
+		bean.remove("b");
+		bean.put("e", "E");
+
+		Assert.assertEquals("Wrong JSON", "{\"a\":1,\"c\":{\"x\":3.0},\"e\":\"E\"}", BeanJsonWriter.toJson(bean));
+	}
+
+	@Test
+	public void cyclic() {
+		AbstractBean<Object, Object> bean = new AbstractBean<Object, Object>() {
+			@Bean.Property
+			private Object self;
+		};
+		List<Object> list = new ArrayList<>();
+
+		bean.put("self", bean);
+		list.add(Collections.singletonMap("list", list));
+
+		try {
+			BeanJsonWriter.toJson(bean);
+			Assert.fail("A bean that contains itself has been written");
+		} catch (IllegalArgumentException ignored) {
+		}
+		try {
+			BeanJsonWriter.toJson(list);
+			Assert.fail("A list that contains itself has been written");
+		} catch (IllegalArgumentException ignored) {
+		}
+
+		Object shared = Arrays.asList(1, 2);
+		Assert.assertEquals("Shared (non-cyclic) values should be written", "[[1,2],[1,2]]", BeanJsonWriter.toJson(Arrays.asList(shared, shared)));
+	}
+
+	@Test
+	public void writeFloat() {
+		Object object = new Object() {
+			@Bean.Property
+			private float f = 0.1f;
+			@Bean.Property
+			private Float boxed = 1e-3f;
+			@Bean.Property
+			private float integral = 3f;
+			@Bean.Property
+			private float infinity = Float.POSITIVE_INFINITY;
+		};
+
+		Assert.assertEquals(
+				"Floats should be written in their own shortest form",
+				"{\"f\":0.1,\"boxed\":0.001,\"integral\":3.0,\"infinity\":\"Infinity\"}",
+				BeanJsonWriter.toJson(object)
+		);
+	}
+}
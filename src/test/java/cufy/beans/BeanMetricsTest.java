@@ -0,0 +1,92 @@
+package cufy.beans;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeanMetricsTest {
+	@Test
+	public void _disabled() {
+		BeanMetrics.setEnabled(false);
+		Bean.forInstance(new Point()).put("x", "5");
+
+		Assert.assertEquals("Recorded while disabled", 0, BeanMetrics.getCount(Point.class, BeanMetrics.Operation.CONVERT));
+		Assert.assertEquals("Recorded while disabled", 0, BeanMetrics.getCount(Point.class, BeanMetrics.Operation.ENTRY_SET));
+	}
+
+	@Test
+	public void events() throws IOException {
+		BeanMetrics.setEnabled(false);
+		Object object = new Object() {
+			@Bean.Property
+			private int a;
+		};
+		Path file = Files.createTempFile("beans", ".jfr");
+
+		try (Recording recording = new Recording()) {
+			recording.enable("cufy.beans.DescriptorBuild");
+			recording.start();
+			Assert.assertNotEquals("Not timed while an event is enabled", Long.MIN_VALUE, BeanMetrics.start());
+			BeanDescriptor.of(object.getClass());
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			Assert.assertTrue("Event not emitted while the metrics are disabled", events.stream()
+					.anyMatch(event -> event.getClass("beanClass").getName().equals(object.getClass().getName())));
+			Assert.assertEquals("Recorded while disabled", 0, BeanMetrics.getCount(object.getClass(), BeanMetrics.Operation.DESCRIBE));
+		} finally {
+			Files.delete(file);
+		}
+
+		Assert.assertEquals("Timed after the recording has been closed", Long.MIN_VALUE, BeanMetrics.start());
+	}
+
+	@Test
+	public void getCount() {
+		BeanMetrics.setEnabled(true);
+		try {
+			Object object = new Object() {
+				@Bean.Property
+				private int a;
+			};
+
+			BeanDescriptor.of(object.getClass());
+			Assert.assertEquals("Descriptor build not counted", 1, BeanMetrics.getCount(object.getClass(), BeanMetrics.Operation.DESCRIBE));
+			Assert.assertEquals("Reflection not counted", 1, BeanMetrics.getCount(object.getClass(), BeanMetrics.Operation.REFLECT));
+
+			BeanMetrics.reset(Counted.class);
+			Bean<Object, Object> bean = Bean.forInstance(new Counted());
+			bean.put("x", "5");
+			bean.put("x", 6);
+
+			Assert.assertEquals("Entry set not counted", 1, BeanMetrics.getCount(Counted.class, BeanMetrics.Operation.ENTRY_SET));
+			Assert.assertEquals("Only conversions should be counted", 1, BeanMetrics.getCount(Counted.class, BeanMetrics.Operation.CONVERT));
+			Assert.assertTrue("Conversion time not recorded", BeanMetrics.getTime(Counted.class, BeanMetrics.Operation.CONVERT) >= 0);
+			Assert.assertEquals("Value not converted", 6, bean.get("x"));
+
+			BeanMetrics.reset(Counted.class);
+			Assert.assertEquals("Not reset", 0, BeanMetrics.getCount(Counted.class, BeanMetrics.Operation.CONVERT));
+		} finally {
+			BeanMetrics.setEnabled(false);
+		}
+	}
+
+	static class Counted {
+		@Bean.Property
+		int x;
+	}
+
+	static class Point {
+		@Bean.Property
+		int x;
+	}
+}
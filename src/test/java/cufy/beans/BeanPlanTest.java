@@ -0,0 +1,71 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeanPlanTest {
+	@Test
+	public void getAll() {
+		Row row = new Row();
+		row.put("a", 1);
+		row.put("b", "B");
+		row.put("extra", "E");
+
+		BeanPlan plan = BeanPlan.of(Row.class, "b", "missing", "a", "extra");
+		Object[] out = new Object[plan.size()];
+		plan.getAll(row, out);
+
+		Assert.assertArrayEquals("Wrong values", new Object[]{"B", null, 1, "E"}, out);
+
+		row.remove("a");
+		row.getAll(new Object[]{"a"}, out);
+		Assert.assertNull("Detached property read", out[0]);
+
+		Object plain = new Object() {
+			@Bean.Property
+			private int a = 4;
+		};
+		try {
+			plan.getAll(plain, out);
+			Assert.fail("Instance of another class accepted");
+		} catch (IllegalArgumentException ignored) {
+		}
+	}
+
+	@Test
+	public void putAll() {
+		Row row = new Row();
+		row.setTracking(true);
+
+		BeanPlan plan = BeanPlan.of(Row.class, "a", "b", "extra");
+		plan.putAll(row, new Object[]{7, "B", "E"});
+
+		Assert.assertEquals("Property not put", 7, row.a);
+		Assert.assertEquals("Property not put", "B", row.b);
+		Assert.assertEquals("Non-property key not put", "E", row.get("extra"));
+		Assert.assertTrue("Change not tracked", row.getDirtyKeys().contains("a"));
+
+		row.putAll(new Object[]{"b"}, new Object[]{"C"});
+		Assert.assertEquals("Property not put", "C", row.b);
+
+		Point point = new Point();
+		Bean.forInstance(point).putAll(new Object[]{"x", "y"}, new Object[]{3, 4});
+		Assert.assertEquals("Property of a remote bean not put", 3, point.x);
+		Assert.assertEquals("Property of a remote bean not put", 4, point.y);
+	}
+
+	static class Point {
+		@Bean.Property
+		int x;
+		@Bean.Property
+		int y;
+	}
+
+	static class Row extends AbstractBean<Object, Object> {
+		@Bean.Property
+		int a;
+		@Bean.Property
+		String b;
+	}
+}
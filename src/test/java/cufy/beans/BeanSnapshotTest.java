@@ -0,0 +1,62 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeanSnapshotTest {
+	@Test
+	public void of() {
+		Point point = new Point();
+		point.put("x", 1);
+		point.put("label", "L");
+		point.remove("y");
+
+		BeanSnapshot<Object, Object> snapshot = point.snapshot();
+		point.put("x", 2);
+		point.put("label", "M");
+
+		Assert.assertEquals("Property not captured", 1, snapshot.get("x"));
+		Assert.assertEquals("Added entry not captured", "L", snapshot.get("label"));
+		Assert.assertFalse("Detached property captured", snapshot.containsKey("y"));
+		Assert.assertEquals("Wrong size calc", 2, snapshot.size());
+		Assert.assertEquals("Entries not matching the captured values", new HashMap<>(snapshot), snapshot);
+
+		Map<Object, Object> map = new HashMap<>();
+		map.put("x", 3);
+		map.put("z", 4);
+		Assert.assertEquals("Map not captured", map, BeanSnapshot.of(map));
+
+		try {
+			snapshot.put("x", 5);
+			Assert.fail("Snapshot changed");
+		} catch (UnsupportedOperationException ignored) {
+		}
+	}
+
+	@Test
+	public void plain() {
+		Object object = new Object() {
+			@Bean.Property
+			private int a = 1;
+			@Bean.Property
+			private String b = "b";
+		};
+
+		BeanSnapshot<Object, Object> snapshot = BeanSnapshot.of(object);
+
+		Assert.assertEquals("Property not captured", 1, snapshot.get("a"));
+		Assert.assertEquals("Property not captured", "b", snapshot.get("b"));
+		Assert.assertSame("Snapshot of a snapshot copied", snapshot, snapshot.snapshot());
+	}
+
+	static class Point extends AbstractBean<Object, Object> {
+		@Bean.Property
+		int x;
+		@Bean.Property
+		int y;
+	}
+}
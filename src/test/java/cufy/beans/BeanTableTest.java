@@ -0,0 +1,85 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.stream.Collectors;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeanTableTest {
+	@Test
+	public void add() {
+		BeanTable<Point> table = new BeanTable<>(Point.class, 0);
+
+		for (int i = 0; i < 100; i++)
+			Assert.assertEquals("Wrong row index", i, table.add(new Point(i, i * 2L, i / 2.0, "p" + i)));
+
+		Assert.assertEquals("Wrong size", 100, table.size());
+		Assert.assertEquals("Wrong int scan", 4950, table.ints("x").sum());
+		Assert.assertEquals("Wrong long scan", 9900, table.longs("y").sum());
+		Assert.assertEquals("Wrong double scan", 2475, table.doubles("z").sum(), 0);
+		Assert.assertEquals("Wrong object scan", "p99", table.values("name").skip(99).findFirst().orElse(null));
+		Assert.assertEquals("Wrong boxed scan", (Object) 3, table.values("x").skip(3).findFirst().orElse(null));
+
+		Point point = table.load(7, new Point(0, 0, 0, null));
+		Assert.assertEquals("Wrong loaded int", 7, point.x);
+		Assert.assertEquals("Wrong loaded string", "p7", point.name);
+
+		try {
+			table.ints("y");
+			Assert.fail("Scanned a long column as ints");
+		} catch (IllegalArgumentException ignored) {
+		}
+	}
+
+	@Test
+	public void row() {
+		BeanTable<Point> table = new BeanTable<>(Point.class);
+		table.add(new Point(1, 2, 3, "a"));
+		int blank = table.addRow();
+
+		BeanTable<Point>.Row row = table.row(0);
+
+		Assert.assertEquals("Wrong value", 1, row.get("x"));
+		Assert.assertEquals("Wrong primitive value", 2, row.getLong("y"));
+		Assert.assertEquals("Wrong previous value", 1, row.put("x", 5));
+		Assert.assertEquals("Value not written to the column", 5, table.ints("x").findFirst().getAsInt());
+
+		row.setDouble("z", 4.5);
+		Assert.assertEquals("Primitive value not written", 4.5, row.getDouble("z"), 0);
+
+		Assert.assertEquals("Wrong size", 4, row.size());
+		Assert.assertEquals("Wrong entries", "{x=5, y=2, z=4.5, name=a}", row.toString());
+		Assert.assertEquals("Wrong keys", 4, row.keySet().stream().collect(Collectors.toSet()).size());
+		Assert.assertNull("Blank row has a value", table.row(blank).get("name"));
+
+		try {
+			row.put("missing", 1);
+			Assert.fail("Stored a missing key");
+		} catch (UnsupportedOperationException ignored) {
+		}
+		try {
+			table.row(2);
+			Assert.fail("Viewed a missing row");
+		} catch (IndexOutOfBoundsException ignored) {
+		}
+	}
+
+	static class Point {
+		@Bean.Property
+		int x;
+		@Bean.Property
+		long y;
+		@Bean.Property
+		double z;
+		@Bean.Property
+		String name;
+
+		Point(int x, long y, double z, String name) {
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.name = name;
+		}
+	}
+}
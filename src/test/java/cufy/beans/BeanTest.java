@@ -77,6 +77,45 @@ public class BeanTest {
 		Assert.assertEquals("Field value stored wrongly", 700, bean.get(false));
 	}
 
+	@Test
+	public void _primitives() {
+		Bean<Object, Object> bean = new Bean<Object, Object>() {
+			@Bean.Property
+			private int i = 1;
+			@Bean.Property
+			private long l = 2;
+			@Bean.Property
+			private Double d = 3.0;
+		};
+
+		bean.setInt("i", 10);
+		bean.setInt("l", 20);
+		bean.setDouble("d", 30.5);
+
+		Assert.assertEquals("Int field not written", 10, bean.getInt("i"));
+		Assert.assertEquals("Int not converted to the type of the field", 20L, bean.get("l"));
+		Assert.assertEquals("Long field not read", 20L, bean.getLong("l"));
+		Assert.assertEquals("Double field not written", 30.5, bean.getDouble("d"), 0);
+		Assert.assertEquals("Int field not read as double", 10.0, bean.getDouble("i"), 0);
+	}
+
+	@Test
+	public void _primitives_forInstance() {
+		Object object = new Object() {
+			@Bean.Property
+			private int i = 1;
+		};
+
+		Bean<Object, Object> bean = Bean.forInstance(object);
+
+		bean.setInt("i", 10);
+		bean.setLong("A", 5L);
+
+		Assert.assertEquals("Int field not written", 10, bean.getInt("i"));
+		Assert.assertEquals("Non-field value not stored", 5L, bean.get("A"));
+		Assert.assertEquals("Non-field value not read", 5, bean.getInt("A"));
+	}
+
 	@Test
 	public void clear() {
 		//TODO
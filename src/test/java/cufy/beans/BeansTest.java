@@ -0,0 +1,71 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+@SuppressWarnings({"JavaDoc"})
+public class BeansTest {
+	@Test
+	public void fromMaps() {
+		List<Map<String, Object>> maps = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			Map<String, Object> map = new HashMap<>();
+			map.put("id", i);
+			map.put("name", "n" + i);
+			map.put("ignored", true);
+			maps.add(map);
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			List<Item> items = Beans.fromMaps(Item.class, maps, pool, 100);
+
+			Assert.assertEquals("Wrong number of instances", maps.size(), items.size());
+			for (int i = 0; i < items.size(); i++) {
+				Assert.assertEquals("Property not set (or out of order)", i, items.get(i).id);
+				Assert.assertEquals("Property not set (or out of order)", "n" + i, items.get(i).name);
+			}
+		} finally {
+			pool.shutdown();
+		}
+
+		try {
+			Beans.fromMaps(Item.class, maps, ForkJoinPool.commonPool(), 0);
+			Assert.fail("Non-positive chunk accepted");
+		} catch (IllegalArgumentException ignored) {
+		}
+	}
+
+	@Test
+	public void toMaps() {
+		List<Item> items = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			Item item = new Item();
+			item.id = i;
+			item.name = "n" + i;
+			items.add(item);
+		}
+
+		List<Map<Object, Object>> maps = Beans.toMaps(items, ForkJoinPool.commonPool(), 64);
+
+		Assert.assertEquals("Wrong number of maps", items.size(), maps.size());
+		for (int i = 0; i < maps.size(); i++) {
+			Assert.assertEquals("Wrong map size", 2, maps.get(i).size());
+			Assert.assertEquals("Property not read (or out of order)", i, maps.get(i).get("id"));
+			Assert.assertEquals("Property not read (or out of order)", "n" + i, maps.get(i).get("name"));
+		}
+
+		List<Item> back = Beans.fromMaps(Item.class, maps);
+		Assert.assertEquals("Round trip failed", "n7", back.get(7).name);
+	}
+
+	static class Item {
+		@Bean.Property
+		int id;
+		@Bean.Property
+		String name;
+	}
+}
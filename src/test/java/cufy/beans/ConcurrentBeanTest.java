@@ -0,0 +1,95 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@SuppressWarnings({"JavaDoc"})
+public class ConcurrentBeanTest {
+	@Test
+	public void _contention() throws InterruptedException {
+		Counter bean = new Counter();
+		List<Thread> threads = new ArrayList<>();
+
+		for (int t = 0; t < 8; t++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < 1000; i++) {
+					bean.merge("hits", 1, (a, b) -> (Integer) a + (Integer) b);
+					bean.compute("locked", (k, v) -> (Integer) v + 1);
+					bean.merge("dynamic", 1, (a, b) -> (Integer) a + (Integer) b);
+				}
+			});
+
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+
+		Assert.assertEquals("Lost update on a lock-free property", 8000, bean.getInt("hits"));
+		Assert.assertEquals("Lost update on a locked property", 8000, bean.get("locked"));
+		Assert.assertEquals("Lost update on an overflow entry", 8000, bean.get("dynamic"));
+	}
+
+	@Test
+	public void batch() {
+		Counter bean = new Counter();
+		Object[] out = new Object[4];
+
+		bean.putAll(new Object[]{"hits", "locked", "name", "x"}, new Object[]{1, 2, "n", "X"});
+		Assert.assertEquals("Batch put missed a lock-free property", 1, bean.getInt("hits"));
+		Assert.assertEquals("Batch put missed a locked property", 2, bean.get("locked"));
+		Assert.assertEquals("Batch put missed an overflow entry", "X", bean.get("x"));
+
+		bean.getAll(new Object[]{"x", "name", "locked", "hits"}, out);
+		Assert.assertArrayEquals("Wrong batch values", new Object[]{"X", "n", 2, 1}, out);
+
+		BeanPlan plan = BeanPlan.of(Counter.class, "locked", "y");
+		plan.putAll(bean, new Object[]{3, "Y"});
+		Assert.assertEquals("Plan missed a locked property", 3, bean.get("locked"));
+		Assert.assertEquals("Plan missed an overflow entry", "Y", bean.get("y"));
+		Assert.assertEquals("Wrong size", 5, bean.size());
+	}
+
+	@Test
+	public void putIfAbsent() {
+		Counter bean = new Counter();
+
+		Assert.assertNull("Absent property not set", bean.putIfAbsent("name", "a"));
+		Assert.assertEquals("Present property replaced", "a", bean.putIfAbsent("name", "b"));
+		Assert.assertNull("Absent key not put", bean.putIfAbsent("x", null));
+		Assert.assertNull("Null valued key not replaced", bean.putIfAbsent("x", "X"));
+		Assert.assertEquals("Wrong value", "X", bean.get("x"));
+		Assert.assertEquals("Wrong size", 4, bean.size());
+	}
+
+	@Test
+	public void replace() {
+		Counter bean = new Counter();
+
+		Assert.assertEquals("Wrong previous value", 0, bean.put("hits", 5));
+		Assert.assertFalse("Replaced a different value", bean.replace("hits", 4, 6));
+		Assert.assertTrue("Not replaced", bean.replace("hits", 5, 6));
+		Assert.assertEquals("Wrong value", 6, bean.get("hits"));
+		Assert.assertEquals("Wrong previous value", 6, bean.replace("hits", 7));
+		Assert.assertEquals("Wrong computed value", "n", bean.computeIfAbsent("name", k -> "n"));
+		Assert.assertEquals("Wrong computed value", "nn", bean.computeIfPresent("name", (k, v) -> v + "n"));
+
+		try {
+			bean.remove("hits");
+			Assert.fail("Removed a property");
+		} catch (UnsupportedOperationException ignored) {
+		}
+	}
+
+	static class Counter extends ConcurrentBean<Object, Object> {
+		@Bean.Property
+		volatile int hits;
+		@Bean.Property
+		private int locked;
+		@Bean.Property
+		volatile String name;
+	}
+}
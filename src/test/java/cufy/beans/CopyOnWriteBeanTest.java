@@ -0,0 +1,96 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+
+@SuppressWarnings({"JavaDoc"})
+public class CopyOnWriteBeanTest {
+	@Test
+	public void put() {
+		CopyOnWriteBean<Object, Object> bean = new CopyOnWriteBean<>(Point.class);
+		bean.put("x", 1);
+		bean.put("label", "L");
+
+		BeanSnapshot<Object, Object> first = bean.snapshot();
+		Assert.assertTrue("Arrays not shared with the snapshot", bean.isShared());
+
+		bean.put("x", 2);
+		bean.remove("label");
+		Assert.assertFalse("Arrays not copied on write", bean.isShared());
+
+		Assert.assertEquals("Snapshot changed by a write", 1, first.get("x"));
+		Assert.assertEquals("Snapshot changed by a removal", "L", first.get("label"));
+		Assert.assertEquals("Write not applied", 2, bean.get("x"));
+		Assert.assertFalse("Removal not applied", bean.containsKey("label"));
+		Assert.assertEquals("Wrong size calc", 1, bean.size());
+
+		CopyOnWriteBean<Object, Object> copy = first.copy();
+		copy.put("y", 5);
+		Assert.assertFalse("Snapshot changed by its copy", first.containsKey("y"));
+		Assert.assertEquals("Wrong size calc", 3, copy.size());
+	}
+
+	@Test
+	public void entrySet() {
+		CopyOnWriteBean<Object, Object> bean = new CopyOnWriteBean<>(Point.class);
+		bean.put("x", 1);
+		bean.put("a", "A");
+		bean.put("b", "B");
+		bean.put("c", "C");
+		BeanSnapshot<Object, Object> snapshot = bean.snapshot();
+
+		for (Iterator<Map.Entry<Object, Object>> iterator = bean.entrySet().iterator(); iterator.hasNext(); ) {
+			Map.Entry<Object, Object> entry = iterator.next();
+
+			if ("a".equals(entry.getKey()))
+				iterator.remove();
+			else if ("x".equals(entry.getKey()))
+				entry.setValue(9);
+		}
+
+		Assert.assertEquals("Wrong size calc", 3, bean.size());
+		Assert.assertEquals("Entry not written", 9, bean.get("x"));
+		Assert.assertEquals("Moved entry lost", "C", bean.get("c"));
+		Assert.assertEquals("Moved entry lost", "B", bean.get("b"));
+		Assert.assertEquals("Snapshot changed", 4, snapshot.size());
+	}
+
+	@Test
+	public void lazy() {
+		CopyOnWriteBean<Object, Object> bean = new CopyOnWriteBean<>(Blob.class);
+		int[] calls = {0};
+		bean.put("data", Lazy.of(() -> {
+			calls[0]++;
+			return "loaded";
+		}));
+
+		Assert.assertNull("Removal returned a value that has not been computed", bean.remove("data"));
+		Assert.assertEquals("Removal computed the lazy value", 0, calls[0]);
+	}
+
+	@Test
+	public void of() {
+		CopyOnWriteBean<Object, Object> bean = new CopyOnWriteBean<>(Point.class);
+		bean.put("x", 1);
+
+		BeanSnapshot<Object, Object> snapshot = BeanSnapshot.of(bean);
+		Assert.assertTrue("BeanSnapshot.of did not use the array sharing snapshot", bean.isShared());
+		Assert.assertEquals("Wrong captured value", 1, snapshot.get("x"));
+		Assert.assertSame("Snapshot captured again", snapshot, BeanSnapshot.of(snapshot));
+	}
+
+	static class Blob {
+		@Bean.Property
+		Lazy<String> data;
+	}
+
+	static class Point {
+		@Bean.Property
+		int x;
+		@Bean.Property
+		int y;
+	}
+}
@@ -0,0 +1,203 @@
+package cufy.beans;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@SuppressWarnings({"JavaDoc"})
+public class LazyTest {
+	@Test
+	public void _concurrent() throws InterruptedException {
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		Lazy<Integer> lazy = Lazy.of(() -> {
+			calls.incrementAndGet();
+			return 42;
+		});
+
+		Thread[] threads = new Thread[8];
+		int[] results = new int[threads.length];
+		for (int i = 0; i < threads.length; i++) {
+			int j = i;
+			threads[i] = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+
+				results[j] = lazy.get();
+			});
+			threads[i].start();
+		}
+
+		start.countDown();
+		for (Thread thread : threads)
+			thread.join();
+
+		Assert.assertEquals("Supplier invoked more than once", 1, calls.get());
+		for (int result : results)
+			Assert.assertEquals("Wrong memoized value", 42, result);
+	}
+
+	@Test
+	public void arena() {
+		BeanArena arena = new BeanArena(Blob.class, 0);
+		BeanArena.Record record = arena.add(new Blob());
+
+		Assert.assertEquals("Lazy value not stored", "loaded", record.get("data"));
+		Assert.assertEquals("Wrong previous value", "loaded", record.put("data", "put"));
+		Assert.assertEquals("Put value not stored", "put", record.get("data"));
+
+		Blob blob = record.load(new Blob());
+		Assert.assertTrue("Not decoded as a computed lazy object", blob.data.isLoaded());
+		Assert.assertEquals("Wrong decoded value", "put", blob.get("data"));
+		Assert.assertEquals("Supplier of the loaded bean invoked", 0, blob.calls);
+	}
+
+	@Test
+	public void codec() {
+		Blob blob = new Blob();
+		BeanCodec.View view = BeanCodec.of(Blob.class).view(BeanCodec.of(Blob.class).encode(Collections.singletonList(blob))).get(0);
+
+		Assert.assertEquals("Lazy value not encoded", "loaded", view.get("data"));
+
+		Blob decoded = new Blob();
+		view.load(decoded);
+		Assert.assertEquals("Wrong decoded value", "loaded", decoded.get("data"));
+		Assert.assertEquals("Supplier of the decoded bean invoked", 0, decoded.calls);
+	}
+
+	@Test
+	public void concurrent() {
+		Shared shared = new Shared();
+
+		Assert.assertEquals("Wrong lazy value", "loaded", shared.get("data"));
+		Assert.assertEquals("Wrong previous value", "loaded", shared.put("data", "put"));
+		Assert.assertEquals("Wrong computed value", "put!", shared.compute("data", (k, v) -> v + "!"));
+		Assert.assertEquals("Wrong merged value", "put!?", shared.merge("data", "?", (v, w) -> v + (String) w));
+		Assert.assertTrue("Not replaced by value", shared.replace("data", "put!?", "replaced"));
+		Assert.assertEquals("Present value replaced", "replaced", shared.putIfAbsent("data", "absent"));
+		Assert.assertTrue("Lazy object not stored", shared.data instanceof Lazy);
+		Assert.assertEquals("Wrong entry value", "replaced", shared.entrySet().iterator().next().getValue());
+	}
+
+	@Test
+	public void copier() {
+		Holder source = new Holder();
+		Holder target = new Holder();
+		Plain plain = new Plain();
+
+		target.putAll(source);
+		Assert.assertSame("Lazy object not shared", source.data, target.data);
+		Assert.assertFalse("Copying computed the value", source.data.isLoaded());
+
+		plain.putAll(source);
+		Assert.assertEquals("Lazy value not copied", "loaded", plain.data);
+
+		plain.data = "plain";
+		source.putAll(plain);
+		Assert.assertEquals("Value not copied to the lazy property", "plain", source.get("data"));
+		Assert.assertTrue("Lazy object not stored", source.data.isLoaded());
+	}
+
+	@Test
+	public void property() {
+		Blob blob = new Blob();
+
+		for (Map.Entry<Object, Object> entry : blob.entrySet())
+			Assert.assertNotNull("Entry without a key", entry.getKey());
+
+		Assert.assertFalse("Iterating the entries loaded the value", blob.data.isLoaded());
+		BeanSnapshot<Object, Object> snapshot = blob.snapshot();
+		Assert.assertFalse("Snapshot loaded the value", blob.data.isLoaded());
+		Assert.assertEquals("Wrong lazy value", "loaded", snapshot.get("data"));
+		Assert.assertEquals("Wrong lazy value", "loaded", blob.get("data"));
+		Assert.assertEquals("Wrong lazy value", "loaded", blob.get("data"));
+		Assert.assertEquals("Supplier invoked more than once", 1, blob.calls);
+
+		Object old = blob.put("data", "put");
+		Assert.assertEquals("Wrong previous value", "loaded", old);
+		Assert.assertEquals("Put value not stored", "put", blob.get("data"));
+
+		blob.put("data", Lazy.of(() -> "again"));
+		Assert.assertNull("Unloaded previous value computed", blob.put("data", "last"));
+	}
+
+	@Test
+	public void release() throws ReflectiveOperationException {
+		Field supplier = Lazy.class.getDeclaredField("supplier");
+		supplier.setAccessible(true);
+
+		AtomicInteger calls = new AtomicInteger();
+		Lazy<String> lazy = Lazy.of(() -> {
+			if (calls.incrementAndGet() == 1)
+				throw new IllegalStateException("first");
+
+			return "loaded";
+		});
+
+		try {
+			lazy.get();
+			Assert.fail("The supplier exception has been swallowed");
+		} catch (IllegalStateException ignored) {
+		}
+
+		Assert.assertNotNull("Supplier released before the value has been computed", supplier.get(lazy));
+		Assert.assertEquals("Wrong value", "loaded", lazy.get());
+		Assert.assertNull("Supplier retained after the value has been computed", supplier.get(lazy));
+
+		Lazy<String> value = Lazy.value("value");
+		Assert.assertTrue("Value not loaded", value.isLoaded());
+		Assert.assertEquals("Wrong value", "value", value.get());
+		Assert.assertNull("Computed lazy with a supplier", supplier.get(value));
+	}
+
+	@Test
+	public void table() {
+		BeanTable<Blob> table = new BeanTable<>(Blob.class);
+		table.add(new Blob());
+		BeanTable<Blob>.Row row = table.row(0);
+
+		Assert.assertEquals("Lazy value not read", "loaded", row.get("data"));
+		Assert.assertEquals("Wrong previous value", "loaded", row.put("data", "x"));
+		Assert.assertEquals("Put value not stored", "x", row.get("data"));
+		Assert.assertEquals("Wrong column", Collections.singletonList("x"), table.values("data").collect(Collectors.toList()));
+		Assert.assertEquals("Wrong entry value", "x", row.entrySet().iterator().next().getValue());
+
+		Blob blob = table.load(0, new Blob());
+		Assert.assertEquals("Wrong loaded value", "x", blob.get("data"));
+	}
+
+	static class Blob extends AbstractBean<Object, Object> {
+		int calls;
+		@Bean.Property
+		Lazy<String> data = Lazy.of(() -> {
+			this.calls++;
+			return "loaded";
+		});
+		@Bean.Property
+		int size = 6;
+	}
+
+	static class Holder implements Bean<Object, Object> {
+		@Bean.Property
+		Lazy<String> data = Lazy.of(() -> "loaded");
+	}
+
+	static class Plain implements Bean<Object, Object> {
+		@Bean.Property
+		String data;
+	}
+
+	static class Shared extends ConcurrentBean<Object, Object> {
+		@Bean.Property
+		volatile Lazy<String> data = Lazy.of(() -> "loaded");
+	}
+}